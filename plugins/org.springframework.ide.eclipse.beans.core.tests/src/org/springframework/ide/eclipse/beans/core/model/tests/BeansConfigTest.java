@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 Spring IDE Developers
+ * Copyright (c) 2013, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,9 @@
 package org.springframework.ide.eclipse.beans.core.model.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -140,6 +142,22 @@ public class BeansConfigTest {
 		assertEquals(0, getProfiles(configClassBean).size());
 	}
 
+	@Test
+	public void testBeanClassesAfterReload() throws Exception {
+		BeansConfig config = new BeansConfig(beansProject, "basic-bean-config.xml", IBeansConfig.Type.MANUAL);
+
+		assertTrue(config.isBeanClass("org.test.spring.SimpleBeanClass"));
+		assertEquals(1, config.getBeans("org.test.spring.SimpleBeanClass").size());
+		assertEquals("simpleBean", config.getBeans("org.test.spring.SimpleBeanClass").iterator().next().getElementName());
+		assertFalse(config.isBeanClass("org.test.spring.UnknownClass"));
+
+		config.reload();
+
+		assertTrue(config.isBeanClass("org.test.spring.SimpleBeanClass"));
+		assertEquals(1, config.getBeanClasses().size());
+		assertEquals(1, config.getBeans("org.test.spring.SimpleBeanClass").size());
+	}
+
 	protected Set<String> getProfiles(IModelElement element) {
 		Set<String> profiles = new HashSet<String>();
 		while (element != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 Spring IDE Developers
+ * Copyright (c) 2013, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,6 +30,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfig;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfigLoader;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfigSet;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansJavaConfig;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModel;
@@ -102,6 +103,18 @@ public class BeansProjectTest {
 		assertTrue(config instanceof BeansConfig);
 	}
 	
+	@Test
+	public void testLoadConfigsInParallel() throws Exception {
+		beansProject.addConfig("basic-bean-config.xml", IBeansConfig.Type.MANUAL);
+		beansProject.addConfig("advanced-bean-config.xml", IBeansConfig.Type.MANUAL);
+
+		BeansConfigLoader.LoadStatistics statistics = beansProject.loadConfigs(null);
+		assertEquals(2, statistics.getConfigCount());
+		assertTrue(statistics.getLongestTime() <= statistics.getTotalTime());
+		assertTrue(beansProject.isBeanClass("org.test.spring.SimpleBeanClass"));
+		assertEquals(2, beansProject.getConfigs("org.test.spring.SimpleBeanClass").size());
+	}
+
 	@Test
 	public void testBeansProjectXMLConfigWithConfigSet() throws Exception {
 		beansProject.addConfig("basic-bean-config.xml", IBeansConfig.Type.MANUAL);
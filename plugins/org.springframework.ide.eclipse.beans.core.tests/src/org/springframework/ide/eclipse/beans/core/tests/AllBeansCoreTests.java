@@ -40,7 +40,11 @@ import org.springframework.ide.eclipse.beans.core.model.tests.BeansProjectTest;
 import org.springframework.ide.eclipse.beans.ui.refactoring.tests.BeansJavaConfigRenameTypeRefactoringParticipantTest;
 import org.springframework.ide.eclipse.core.java.IntrospectorTest;
 import org.springframework.ide.eclipse.core.java.JdtUtilsTest;
+import org.springframework.ide.eclipse.core.java.SuperTypeHierarchyCacheTest;
+import org.springframework.ide.eclipse.core.java.TypeHierarchyElementCacheTest;
 import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
+import org.springframework.ide.eclipse.core.java.TypeHierarchyJarCacheTest;
+import org.springframework.ide.eclipse.core.model.validation.ValidationRuleStatisticsTest;
 
 /**
  * Test suite for <code>beans.core</code> plugin.
@@ -80,6 +84,10 @@ import org.springframework.ide.eclipse.core.java.TypeHierarchyEngineTest;
 	BeansJavaConfigRenameTypeRefactoringParticipantTest.class,
 	ResourceChangeEventHandlerTest.class,
 	TypeHierarchyEngineTest.class,
+	TypeHierarchyElementCacheTest.class,
+	SuperTypeHierarchyCacheTest.class,
+	TypeHierarchyJarCacheTest.class,
+	ValidationRuleStatisticsTest.class,
 	BeansModelUtilsTest.class
 })
 public class AllBeansCoreTests {
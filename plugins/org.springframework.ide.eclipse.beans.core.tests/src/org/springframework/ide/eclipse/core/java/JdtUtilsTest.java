@@ -141,4 +141,22 @@ public class JdtUtilsTest {
 		assertEquals("find.binary.type.tests.SourceLevelType$1$NamedInnerClassOfAnonymousInnerClass$1", type.getFullyQualifiedName());
 	}
 
+	@Test
+	public void testClassLoaderCacheStatistics() {
+		ClassLoader parent = JdtUtilsTest.class.getClassLoader();
+		long hits = ProjectClassLoaderCache.getHitCount();
+		long misses = ProjectClassLoaderCache.getMissCount();
+
+		assertNotNull(JdtUtils.getClassLoader(project, parent));
+		assertEquals(misses + 1, ProjectClassLoaderCache.getMissCount());
+
+		assertNotNull(JdtUtils.getClassLoader(project, parent));
+		assertEquals(hits + 1, ProjectClassLoaderCache.getHitCount());
+		assertEquals(misses + 1, ProjectClassLoaderCache.getMissCount());
+
+		JdtUtils.removeClassLoaderEntryFromCache(project);
+		assertNotNull(JdtUtils.getClassLoader(project, parent));
+		assertEquals(misses + 2, ProjectClassLoaderCache.getMissCount());
+	}
+
 }
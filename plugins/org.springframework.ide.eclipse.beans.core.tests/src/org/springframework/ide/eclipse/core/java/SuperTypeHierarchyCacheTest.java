@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the eviction of {@link SuperTypeHierarchyCache} with fake types, whose hierarchies
+ * contain a given number of types.
+ * @since 3.8.4
+ */
+public class SuperTypeHierarchyCacheTest {
+
+	private final List<IProject> projects = new ArrayList<IProject>();
+
+	@After
+	public void removeHierarchies() {
+		for (IProject project : projects) {
+			SuperTypeHierarchyCache.removeTypeHierarchies(project);
+		}
+	}
+
+	@Test
+	public void testEvictionByWeight() throws Exception {
+		IJavaProject project = javaProject("p");
+		FakeType first = new FakeType(project, 30000);
+		FakeType second = new FakeType(project, 30000);
+		long evictions = SuperTypeHierarchyCache.getEvictionCount();
+
+		SuperTypeHierarchyCache.getTypeHierarchy(first.type);
+		assertTrue(SuperTypeHierarchyCache.hasInCache(first.type));
+
+		SuperTypeHierarchyCache.getTypeHierarchy(second.type);
+		assertTrue(SuperTypeHierarchyCache.hasInCache(second.type));
+		assertFalse(SuperTypeHierarchyCache.hasInCache(first.type));
+		assertTrue(SuperTypeHierarchyCache.getEvictionCount() > evictions);
+		assertTrue(SuperTypeHierarchyCache.getWeight() <= 50000);
+		assertTrue(first.listeners.isEmpty());
+	}
+
+	@Test
+	public void testOversizedHierarchyNotCached() throws Exception {
+		FakeType huge = new FakeType(javaProject("p"), 60000);
+
+		ITypeHierarchy hierarchy = SuperTypeHierarchyCache.getTypeHierarchy(huge.type);
+		assertSame(huge.hierarchy, hierarchy);
+		assertFalse(SuperTypeHierarchyCache.hasInCache(huge.type));
+
+		long misses = SuperTypeHierarchyCache.getMissCount();
+		SuperTypeHierarchyCache.getTypeHierarchy(huge.type);
+		assertEquals(2, huge.created);
+		assertEquals(misses + 1, SuperTypeHierarchyCache.getMissCount());
+		assertTrue(huge.listeners.isEmpty());
+	}
+
+	@Test
+	public void testHits() throws Exception {
+		FakeType type = new FakeType(javaProject("p"), 10);
+		SuperTypeHierarchyCache.getTypeHierarchy(type.type);
+
+		long hits = SuperTypeHierarchyCache.getHitCount();
+		assertSame(type.hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(type.type));
+		assertEquals(1, type.created);
+		assertEquals(hits + 1, SuperTypeHierarchyCache.getHitCount());
+	}
+
+	@Test
+	public void testRemoveTypeHierarchiesOfProject() throws Exception {
+		IJavaProject first = javaProject("first");
+		IJavaProject second = javaProject("second");
+		FakeType inFirst = new FakeType(first, 10);
+		FakeType inSecond = new FakeType(second, 10);
+		SuperTypeHierarchyCache.getTypeHierarchy(inFirst.type);
+		SuperTypeHierarchyCache.getTypeHierarchy(inSecond.type);
+
+		SuperTypeHierarchyCache.removeTypeHierarchies(first.getProject());
+
+		assertFalse(SuperTypeHierarchyCache.hasInCache(inFirst.type));
+		assertTrue(SuperTypeHierarchyCache.hasInCache(inSecond.type));
+		assertTrue(inFirst.listeners.isEmpty());
+		assertEquals(1, inSecond.listeners.size());
+	}
+
+	private IJavaProject javaProject(final String name) {
+		final IProject project = fake(IProject.class, new Answer() {
+			public Object answer(Object proxy, Method method, Object[] args) {
+				if (method.getName().equals("getName")) {
+					return name;
+				}
+				return null;
+			}
+		});
+		projects.add(project);
+		return fake(IJavaProject.class, new Answer() {
+			public Object answer(Object proxy, Method method, Object[] args) {
+				if (method.getName().equals("getProject")) {
+					return project;
+				}
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * A type whose hierarchy contains a given number of types.
+	 */
+	private static class FakeType {
+
+		final IType type;
+		final ITypeHierarchy hierarchy;
+		final List<Object> listeners = new ArrayList<Object>();
+		int created = 0;
+
+		FakeType(final IJavaProject project, final int types) {
+			this.type = fake(IType.class, new Answer() {
+				public Object answer(Object proxy, Method method, Object[] args) {
+					if (method.getName().equals("getJavaProject")) {
+						return project;
+					}
+					if (method.getName().equals("newTypeHierarchy")) {
+						created++;
+						return hierarchy;
+					}
+					return null;
+				}
+			});
+			this.hierarchy = fake(ITypeHierarchy.class, new Answer() {
+				public Object answer(Object proxy, Method method, Object[] args) {
+					String name = method.getName();
+					if (name.equals("getType")) {
+						return type;
+					}
+					if (name.equals("getAllTypes")) {
+						return new IType[types];
+					}
+					if (name.equals("exists")) {
+						return true;
+					}
+					if (name.equals("contains")) {
+						return args[0] == type;
+					}
+					if (name.equals("addTypeHierarchyChangedListener")) {
+						listeners.add(args[0]);
+					}
+					if (name.equals("removeTypeHierarchyChangedListener")) {
+						listeners.remove(args[0]);
+					}
+					return null;
+				}
+			});
+		}
+	}
+
+	private interface Answer {
+		Object answer(Object proxy, Method method, Object[] args);
+	}
+
+	/**
+	 * Creates a fake implementation of an interface, with identity based equality. Methods
+	 * returning a primitive must be answered.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T fake(final Class<T> type, final Answer answer) {
+		return (T) Proxy.newProxyInstance(SuperTypeHierarchyCacheTest.class.getClassLoader(), new Class<?>[] { type },
+				new InvocationHandler() {
+					public Object invoke(Object proxy, Method method, Object[] args) {
+						if (method.getName().equals("equals") && args != null && args.length == 1) {
+							return proxy == args[0];
+						}
+						if (method.getName().equals("hashCode") && args == null) {
+							return System.identityHashCode(proxy);
+						}
+						if (method.getName().equals("toString") && args == null) {
+							return "Fake" + type.getSimpleName();
+						}
+						return answer.answer(proxy, method, args);
+					}
+				});
+	}
+
+}
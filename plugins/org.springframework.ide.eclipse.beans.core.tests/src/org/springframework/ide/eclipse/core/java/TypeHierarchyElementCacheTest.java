@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyElement;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyElementCache;
+
+/**
+ * @since 3.8.4
+ */
+public class TypeHierarchyElementCacheTest {
+
+	@Test
+	public void testCollidingHashCodes() throws Exception {
+		// "Aa" and "BB" share the same hash code
+		assertEquals("Aa".hashCode(), "BB".hashCode());
+
+		TypeHierarchyElementCache cache = new TypeHierarchyElementCache();
+		TypeHierarchyElement aa = element("org/Aa");
+		cache.put(aa.className, aa);
+
+		assertNull(cache.get("org/BB".toCharArray()));
+		assertSame(aa, cache.get("org/Aa".toCharArray()));
+
+		TypeHierarchyElement bb = element("org/BB");
+		cache.put(bb.className, bb);
+
+		assertSame(aa, cache.get("org/Aa".toCharArray()));
+		assertSame(bb, cache.get("org/BB".toCharArray()));
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void testManyElementsFoundAfterResizing() throws Exception {
+		TypeHierarchyElementCache cache = new TypeHierarchyElementCache(true);
+		for (int i = 0; i < 10000; i++) {
+			TypeHierarchyElement element = element("org/Class" + i);
+			cache.put(element.className, element);
+		}
+		assertEquals(10000, cache.size());
+
+		for (int i = 0; i < 10000; i++) {
+			assertEquals("org/Class" + i, new String(cache.get(("org/Class" + i).toCharArray()).className));
+		}
+		assertNull(cache.get("org/Missing".toCharArray()));
+
+		assertEquals(10000, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void testAccessesNotCountedByDefault() throws Exception {
+		TypeHierarchyElementCache cache = new TypeHierarchyElementCache(false);
+		TypeHierarchyElement element = element("org/Simple");
+		cache.put(element.className, element);
+		assertSame(element, cache.get("org/Simple".toCharArray()));
+		assertNull(cache.get("org/Missing".toCharArray()));
+
+		assertEquals(0, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+	}
+
+	@Test
+	public void testReplaceValue() throws Exception {
+		TypeHierarchyElementCache cache = new TypeHierarchyElementCache();
+		TypeHierarchyElement first = element("org/Simple");
+		TypeHierarchyElement second = element("org/Simple");
+		cache.put("org/Simple".toCharArray(), first);
+		cache.put("org/Simple".toCharArray(), second);
+
+		assertEquals(1, cache.size());
+		assertSame(second, cache.get("org/Simple".toCharArray()));
+	}
+
+	@Test
+	public void testConcurrentLookups() throws Exception {
+		final TypeHierarchyElementCache cache = new TypeHierarchyElementCache(true);
+		for (int i = 0; i < 100; i++) {
+			TypeHierarchyElement element = element("org/Class" + i);
+			cache.put(element.className, element);
+		}
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 10000; i++) {
+						cache.get(("org/Class" + (i % 200)).toCharArray());
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(20000, cache.getHitCount());
+		assertEquals(20000, cache.getMissCount());
+	}
+
+	private static TypeHierarchyElement element(String className) {
+		return new TypeHierarchyElement(className.toCharArray(), "java/lang/Object".toCharArray(), null);
+	}
+
+}
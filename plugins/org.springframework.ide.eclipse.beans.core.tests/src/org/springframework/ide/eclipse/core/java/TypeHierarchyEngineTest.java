@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 Spring IDE Developers
+ * Copyright (c) 2013, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,9 +15,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.Platform;
@@ -282,6 +284,53 @@ public class TypeHierarchyEngineTest {
 		assertEquals(1, caches[0].classAccessed("org/ClassA")); // this one is accessed for the first time
 	}
 	
+	@Test
+	public void testSubclassesFromReverseIndex() throws Exception {
+		engine.indexTypes(project, Arrays.asList("org.sub.ClassABCD", "org.Subclass"));
+		
+		Set<String> subclasses = engine.getAllSubtypes(project, "org.ClassA", false);
+		assertEquals(3, subclasses.size());
+		assertTrue(subclasses.contains("org.ClassA"));
+		assertTrue(subclasses.contains("org.sub.ClassB"));
+		assertTrue(subclasses.contains("org.sub.ClassABCD"));
+		
+		subclasses = engine.getAllSubtypes(project, "java.lang.Object", false);
+		assertTrue(subclasses.contains("org.sub.ClassABCD"));
+		assertTrue(subclasses.contains("org.Subclass"));
+		assertTrue(subclasses.contains("org.SimpleClass"));
+		assertFalse(subclasses.contains("org.InterfaceA"));
+	}
+	
+	@Test
+	public void testImplementorsFromReverseIndex() throws Exception {
+		engine.indexTypes(project, Arrays.asList("org.sub.ClassABCD", "org.Subclass"));
+		
+		Set<String> implementors = engine.getAllSubtypes(project, "org.InterfaceA", true);
+		assertEquals(4, implementors.size());
+		assertTrue(implementors.contains("org.InterfaceA"));
+		assertTrue(implementors.contains("org.sub.InterfaceAB"));
+		assertTrue(implementors.contains("org.sub.ClassB"));
+		assertTrue(implementors.contains("org.sub.ClassABCD"));
+
+		implementors = engine.getAllSubtypes(project, "org.InterfaceD", true);
+		assertTrue(implementors.contains("org.sub.ClassABCD"));
+		assertFalse(implementors.contains("org.sub.ClassB"));
+		assertFalse(implementors.contains("org.Subclass"));
+	}
+	
+	@Test
+	public void testReverseIndexDoesNotReadIndexedTypesAgain() throws Exception {
+		AccessLoggingTypeHierarchyElementCacheFactory cacheFactory = new AccessLoggingTypeHierarchyElementCacheFactory();
+		engine.setTypeHierarchyElementCacheFactory(cacheFactory);
+
+		engine.indexTypes(project, Arrays.asList("org.sub.ClassABCD"));
+		AccessLoggingTypeHierarchyElementCache[] caches = cacheFactory.getCaches();
+		assertEquals(1, caches[0].classAccessed("org/sub/ClassB"));
+		
+		engine.indexTypes(project, Arrays.asList("org.sub.ClassABCD", "org.sub.ClassB"));
+		assertEquals(1, caches[0].classAccessed("org/sub/ClassB"));
+	}
+	
 	private static class AccessLoggingClassReaderFactory implements TypeHierarchyClassReaderFactory {
 		
 		private TypeHierarchyClassReaderFactory readerFactory;
@@ -327,6 +376,10 @@ public class TypeHierarchyEngineTest {
 		public void cleanup() {
 			this.reader.cleanup();
 		}
+
+		public void dispose() {
+			this.reader.dispose();
+		}
 		
 	}
  	
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.java.typehierarchy.JarTypeHierarchyTable;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyElement;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyJarCache;
+
+/**
+ * @since 3.8.4
+ */
+public class TypeHierarchyJarCacheTest {
+
+	private File jarFile;
+	private File snapshotFile;
+
+	@Before
+	public void createFiles() throws Exception {
+		jarFile = File.createTempFile("typehierarchy", ".jar");
+		writeJarContent("first version");
+		snapshotFile = File.createTempFile("typehierarchy", ".snapshot");
+		snapshotFile.delete();
+	}
+
+	@After
+	public void deleteFiles() throws Exception {
+		jarFile.delete();
+		snapshotFile.delete();
+		new File(snapshotFile.getPath() + ".new").delete();
+	}
+
+	@Test
+	public void testSaveAndLoadSnapshot() throws Exception {
+		TypeHierarchyJarCache cache = new TypeHierarchyJarCache();
+		JarTypeHierarchyTable table = cache.getTable(jarFile.getAbsolutePath());
+		table.put(new TypeHierarchyElement("org/Sub".toCharArray(), "org/Super".toCharArray(),
+				new char[][] { "org/InterfaceA".toCharArray(), "org/InterfaceB".toCharArray() }));
+		table.put(new TypeHierarchyElement("java/lang/Object".toCharArray(), null, null));
+		cache.save(snapshotFile);
+
+		TypeHierarchyJarCache restored = new TypeHierarchyJarCache();
+		restored.load(snapshotFile);
+		JarTypeHierarchyTable restoredTable = restored.getTable(jarFile.getAbsolutePath());
+		assertEquals(2, restoredTable.size());
+
+		TypeHierarchyElement sub = restoredTable.get("org/Sub".toCharArray());
+		assertEquals("org/Super", new String(sub.superclassName));
+		assertEquals(2, sub.interfaces.length);
+		assertEquals("org/InterfaceB", new String(sub.interfaces[1]));
+
+		TypeHierarchyElement object = restoredTable.get("java/lang/Object".toCharArray());
+		assertNull(object.superclassName);
+		assertNull(object.interfaces);
+	}
+
+	@Test
+	public void testChangedJarInvalidatesTable() throws Exception {
+		TypeHierarchyJarCache cache = new TypeHierarchyJarCache();
+		cache.getTable(jarFile.getAbsolutePath()).put(new TypeHierarchyElement("org/Sub".toCharArray(), "org/Super".toCharArray(), null));
+		cache.save(snapshotFile);
+
+		writeJarContent("second, longer version");
+
+		TypeHierarchyJarCache restored = new TypeHierarchyJarCache();
+		restored.load(snapshotFile);
+		assertNull(restored.getTable(jarFile.getAbsolutePath()).get("org/Sub".toCharArray()));
+	}
+
+	@Test
+	public void testElementsAreShared() throws Exception {
+		TypeHierarchyJarCache cache = new TypeHierarchyJarCache();
+		JarTypeHierarchyTable table = cache.getTable(jarFile.getAbsolutePath());
+		TypeHierarchyElement element = new TypeHierarchyElement("org/Sub".toCharArray(), "org/Super".toCharArray(),
+				new char[][] { "org/InterfaceA".toCharArray() });
+		TypeHierarchyElement shared = table.put(element);
+
+		assertNotSame(element, shared);
+		assertTrue(shared.isShared());
+		assertNull(shared.interfacesElements);
+		assertSame(shared, table.get("org/Sub".toCharArray()));
+	}
+
+	@Test
+	public void testReferenceCountedTables() throws Exception {
+		TypeHierarchyJarCache cache = new TypeHierarchyJarCache();
+		JarTypeHierarchyTable first = cache.acquireTable(jarFile.getAbsolutePath());
+		JarTypeHierarchyTable second = cache.acquireTable(jarFile.getAbsolutePath());
+		assertSame(first, second);
+		assertEquals(2, first.getReferenceCount());
+
+		TypeHierarchyElement element = first.put(new TypeHierarchyElement("org/Sub".toCharArray(), "org/Super".toCharArray(), null));
+
+		cache.releaseTable(first);
+		assertSame(element, second.get("org/Sub".toCharArray()));
+
+		// elements get restored after the last reference went away
+		cache.releaseTable(second);
+		assertEquals(0, second.getReferenceCount());
+		assertEquals(1, second.size());
+		assertEquals("org/Super", new String(second.get("org/Sub".toCharArray()).superclassName));
+	}
+
+	@Test
+	public void testUndecodedTablesSavedAsIs() throws Exception {
+		TypeHierarchyJarCache cache = new TypeHierarchyJarCache();
+		cache.getTable(jarFile.getAbsolutePath()).put(new TypeHierarchyElement("org/Sub".toCharArray(), "org/Super".toCharArray(), null));
+		cache.save(snapshotFile);
+
+		TypeHierarchyJarCache restored = new TypeHierarchyJarCache();
+		restored.load(snapshotFile);
+		File secondSnapshotFile = File.createTempFile("typehierarchy", ".snapshot");
+		try {
+			restored.save(secondSnapshotFile);
+			TypeHierarchyJarCache restoredAgain = new TypeHierarchyJarCache();
+			restoredAgain.load(secondSnapshotFile);
+			assertEquals("org/Super", new String(restoredAgain.getTable(jarFile.getAbsolutePath()).get("org/Sub".toCharArray()).superclassName));
+		}
+		finally {
+			secondSnapshotFile.delete();
+		}
+	}
+
+	@Test
+	public void testUnusedTablesEvicted() throws Exception {
+		File otherJarFile = File.createTempFile("typehierarchy", ".jar");
+		try {
+			TypeHierarchyJarCache cache = new TypeHierarchyJarCache(1);
+			JarTypeHierarchyTable first = cache.acquireTable(jarFile.getAbsolutePath());
+			first.put(new TypeHierarchyElement("org/Sub".toCharArray(), "org/Super".toCharArray(), null));
+			Thread.sleep(10);
+			JarTypeHierarchyTable second = cache.acquireTable(otherJarFile.getAbsolutePath());
+			cache.releaseTable(first);
+			cache.releaseTable(second);
+			assertEquals(1, cache.size());
+			assertSame(second, cache.getTable(otherJarFile.getAbsolutePath()));
+
+			// tables of deleted jars are removed as well
+			otherJarFile.delete();
+			JarTypeHierarchyTable third = cache.acquireTable(jarFile.getAbsolutePath());
+			cache.releaseTable(third);
+			assertEquals(1, cache.size());
+			assertSame(third, cache.getTable(jarFile.getAbsolutePath()));
+		}
+		finally {
+			otherJarFile.delete();
+		}
+	}
+
+	private void writeJarContent(String content) throws Exception {
+		FileOutputStream out = new FileOutputStream(jarFile);
+		try {
+			out.write(content.getBytes("UTF-8"));
+		}
+		finally {
+			out.close();
+		}
+	}
+
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.model.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinition;
+import org.springframework.ide.eclipse.core.model.validation.ValidationRuleStatistics.RuleStatistics;
+
+/**
+ * @since 3.8.4
+ */
+public class ValidationRuleStatisticsTest {
+
+	@Test
+	public void testCumulativeStatistics() throws Exception {
+		ValidationRuleDefinition fastRule = new ValidationRuleDefinition("validator", "fastRule", "Fast Rule", null);
+		ValidationRuleDefinition slowRule = new ValidationRuleDefinition("validator", "slowRule", "Slow Rule", null);
+
+		ValidationRuleStatistics statistics = new ValidationRuleStatistics();
+		assertTrue(statistics.isEmpty());
+
+		statistics.record(fastRule, 10, 0);
+		statistics.record(slowRule, 500, 1);
+		statistics.record(fastRule, 20, 2);
+		statistics.record(slowRule, 700, 0);
+		statistics.record(slowRule, 300, 0);
+
+		List<RuleStatistics> rules = statistics.getRuleStatistics();
+		assertEquals(2, rules.size());
+
+		RuleStatistics slow = rules.get(0);
+		assertEquals("slowRule", slow.getRuleId());
+		assertEquals("Slow Rule", slow.getRuleName());
+		assertEquals(1500, slow.getTime());
+		assertEquals(3, slow.getInvocationCount());
+		assertEquals(1, slow.getProblemCount());
+
+		RuleStatistics fast = rules.get(1);
+		assertEquals("fastRule", fast.getRuleId());
+		assertEquals(30, fast.getTime());
+		assertEquals(2, fast.getInvocationCount());
+		assertEquals(2, fast.getProblemCount());
+
+		assertTrue(statistics.getReport().indexOf("Slow Rule") < statistics.getReport().indexOf("Fast Rule"));
+	}
+
+}
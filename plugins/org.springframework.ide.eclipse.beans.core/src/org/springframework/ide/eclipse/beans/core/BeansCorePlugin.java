@@ -85,6 +85,9 @@ public class BeansCorePlugin extends AbstractUIPlugin {
 	/** preference key for defining the parsing timeout */
 	public static final String TIMEOUT_CONFIG_LOADING_PREFERENCE_ID = PLUGIN_ID + ".timeoutConfigLoading";
 
+	/** preference key for the number of configs that are loaded in parallel */
+	public static final String THREADS_CONFIG_LOADING_PREFERENCE_ID = PLUGIN_ID + ".threadsConfigLoading";
+
 	/** preference key to enable namespace versions per namespace */
 	public static final String PROJECT_PROPERTY_ID = "enable.project.preferences";
 
@@ -183,6 +186,8 @@ public class BeansCorePlugin extends AbstractUIPlugin {
 		
 		nsManager = new NamespaceManager(context);
 		getPreferenceStore().setDefault(TIMEOUT_CONFIG_LOADING_PREFERENCE_ID, 60);
+		getPreferenceStore().setDefault(THREADS_CONFIG_LOADING_PREFERENCE_ID,
+				Math.min(4, Runtime.getRuntime().availableProcessors()));
 		getPreferenceStore().setDefault(NAMESPACE_DEFAULT_FROM_CLASSPATH_ID, true);
 		getPreferenceStore().setDefault(LOAD_NAMESPACEHANDLER_FROM_CLASSPATH_ID, true);
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 Spring IDE Developers
+ * Copyright (c) 2008, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
 package org.springframework.ide.eclipse.beans.core.internal.model;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -64,8 +63,14 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 	/** List of aliases (in registration order) */
 	protected volatile Map<String, IBeanAlias> aliases = new LinkedHashMap<String, IBeanAlias>();
 
-	/** List of bean class names mapped to list of beans implementing the corresponding class */
-	protected volatile Map<String, Set<IBean>> beanClassesMap = new HashMap<String, Set<IBean>>();
+	/**
+	 * List of bean class names mapped to list of beans implementing the corresponding class. Only contains the beans of
+	 * this config; maintained while beans and components get registered.
+	 */
+	protected volatile Map<String, Set<IBean>> beanClassesMap = new LinkedHashMap<String, Set<IBean>>();
+
+	/** Lazily merged view of {@link #beanClassesMap} and the bean classes of all imported configs */
+	private volatile Map<String, Set<IBean>> allBeanClassesMap;
 
 	/** List of bean names mapped beans (in registration order) */
 	protected volatile Map<String, IBean> beans = new LinkedHashMap<String, IBean>();
@@ -269,7 +274,16 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 	 * {@inheritDoc}
 	 */
 	public Set<String> getBeanClasses() {
-		return Collections.unmodifiableSet(new LinkedHashSet<String>(getBeanClassesMap().keySet()));
+		// Lazily initialization of this config
+		readConfig();
+
+		try {
+			r.lock();
+			return Collections.unmodifiableSet(new LinkedHashSet<String>(getBeanClassesMap().keySet()));
+		}
+		finally {
+			r.unlock();
+		}
 	}
 
 	/**
@@ -298,8 +312,20 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 	 * {@inheritDoc}
 	 */
 	public Set<IBean> getBeans(String className) {
-		if (isBeanClass(className)) {
-			return Collections.unmodifiableSet(getBeanClassesMap().get(className));
+		if (className != null) {
+			// Lazily initialization of this config
+			readConfig();
+
+			try {
+				r.lock();
+				Set<IBean> classBeans = getBeanClassesMap().get(className);
+				if (classBeans != null) {
+					return Collections.unmodifiableSet(new LinkedHashSet<IBean>(classBeans));
+				}
+			}
+			finally {
+				r.unlock();
+			}
 		}
 		return Collections.emptySet();
 	}
@@ -553,7 +579,16 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 	 */
 	public boolean isBeanClass(String className) {
 		if (className != null) {
-			return getBeanClassesMap().containsKey(className);
+			// Lazily initialization of this config
+			readConfig();
+
+			try {
+				r.lock();
+				return getBeanClassesMap().containsKey(className);
+			}
+			finally {
+				r.unlock();
+			}
 		}
 		return false;
 	}
@@ -617,8 +652,50 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 		}
 	}
 
-	private void addBeanClass(IBean bean, Map<String, Set<IBean>> beanClasses) {
+	/**
+	 * Registers the given bean with this config and adds it to the bean class index. Needs to be called while holding
+	 * the write lock.
+	 */
+	protected void addBean(IBean bean) {
+		IBean previousBean = beans.put(bean.getElementName(), bean);
+		if (previousBean != null && previousBean != bean) {
+			removeBeanClasses(previousBean, beanClassesMap);
+		}
+		addBeanClasses(bean, beanClassesMap);
+		resetBeanClassesMap();
+	}
 
+	/**
+	 * Registers the given component with this config and adds its beans to the bean class index. Needs to be called
+	 * while holding the write lock.
+	 */
+	protected void addComponent(IBeansComponent component) {
+		if (components.add(component)) {
+			addComponentBeanClasses(component, beanClassesMap);
+			resetBeanClassesMap();
+		}
+	}
+
+	/**
+	 * Removes all beans and components and clears the bean class index. Needs to be called while holding the write
+	 * lock.
+	 */
+	protected void clearBeansAndComponents() {
+		beans.clear();
+		components.clear();
+		beanClassesMap.clear();
+		resetBeanClassesMap();
+	}
+
+	/**
+	 * Discards the merged view of this config's and the imported configs' bean classes.
+	 */
+	protected void resetBeanClassesMap() {
+		allBeanClassesMap = null;
+		isBeanClassesMapPopulated = false;
+	}
+
+	private static String getBeanClassName(IBean bean) {
 		// Get name of bean class - strip name of any inner class
 		String className = bean.getClassName();
 		if (className != null) {
@@ -626,7 +703,13 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 			if (pos > 0) {
 				className = className.substring(0, pos);
 			}
+		}
+		return className;
+	}
 
+	private static void addBeanClass(IBean bean, Map<String, Set<IBean>> beanClasses) {
+		String className = getBeanClassName(bean);
+		if (className != null) {
 			// Maintain a list of bean names within every entry in the
 			// bean class map
 			Set<IBean> beanClassBeans = beanClasses.get(className);
@@ -638,14 +721,14 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 		}
 	}
 
-	private void addBeanClasses(IBean bean, Map<String, Set<IBean>> beanClasses) {
+	private static void addBeanClasses(IBean bean, Map<String, Set<IBean>> beanClasses) {
 		addBeanClass(bean, beanClasses);
 		for (IBean innerBean : BeansModelUtils.getInnerBeans(bean)) {
 			addBeanClass(innerBean, beanClasses);
 		}
 	}
 
-	private void addComponentBeanClasses(IBeansComponent component, Map<String, Set<IBean>> beanClasses) {
+	private static void addComponentBeanClasses(IBeansComponent component, Map<String, Set<IBean>> beanClasses) {
 		for (IBean bean : component.getBeans()) {
 			addBeanClasses(bean, beanClasses);
 		}
@@ -654,6 +737,23 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 		}
 	}
 
+	private static void removeBeanClass(IBean bean, Map<String, Set<IBean>> beanClasses) {
+		String className = getBeanClassName(bean);
+		if (className != null) {
+			Set<IBean> beanClassBeans = beanClasses.get(className);
+			if (beanClassBeans != null && beanClassBeans.remove(bean) && beanClassBeans.isEmpty()) {
+				beanClasses.remove(className);
+			}
+		}
+	}
+
+	private static void removeBeanClasses(IBean bean, Map<String, Set<IBean>> beanClasses) {
+		removeBeanClass(bean, beanClasses);
+		for (IBean innerBean : BeansModelUtils.getInnerBeans(bean)) {
+			removeBeanClass(innerBean, beanClasses);
+		}
+	}
+
 	private boolean changedImportedBeansConfig() {
 		try {
 			r.lock();
@@ -672,40 +772,37 @@ public abstract class AbstractBeansConfig extends AbstractResourceModelElement i
 	}
 
 	/**
-	 * Returns lazily initialized map with all bean classes used in this config.
+	 * Returns the map with all bean classes used in this config and its imported configs. The bean classes of this
+	 * config are maintained incrementally; they are only merged with the ones of the imported configs if there are
+	 * any imports. Needs to be called while holding the read or write lock.
 	 */
 	protected Map<String, Set<IBean>> getBeanClassesMap() {
-		if (!this.isBeanClassesMapPopulated) {
-			try {
-				w.lock();
-				if (this.isBeanClassesMapPopulated) {
-					return beanClassesMap;
-				}
-				beanClassesMap = new LinkedHashMap<String, Set<IBean>>();
-				for (IBeansComponent component : getComponents()) {
-					addComponentBeanClasses(component, beanClassesMap);
-				}
-				for (IBean bean : getBeans()) {
-					addBeanClasses(bean, beanClassesMap);
-				}
-				for (IBeansImport beansImport : imports) {
-					for (IBeansConfig bc : beansImport.getImportedBeansConfigs()) {
-						for (IBeansComponent component : bc.getComponents()) {
-							addComponentBeanClasses(component, beanClassesMap);
-						}
-						for (IBean bean : bc.getBeans()) {
-							addBeanClasses(bean, beanClassesMap);
+		if (imports.isEmpty()) {
+			return beanClassesMap;
+		}
+
+		Map<String, Set<IBean>> mergedMap = allBeanClassesMap;
+		if (mergedMap == null) {
+			// built completely before it is published; concurrent readers at worst build their own copy
+			mergedMap = new LinkedHashMap<String, Set<IBean>>();
+			for (Map.Entry<String, Set<IBean>> entry : beanClassesMap.entrySet()) {
+				mergedMap.put(entry.getKey(), new LinkedHashSet<IBean>(entry.getValue()));
+			}
+			for (IBeansImport beansImport : imports) {
+				for (IBeansConfig bc : beansImport.getImportedBeansConfigs()) {
+					for (String className : bc.getBeanClasses()) {
+						Set<IBean> beanClassBeans = mergedMap.get(className);
+						if (beanClassBeans == null) {
+							beanClassBeans = new LinkedHashSet<IBean>();
+							mergedMap.put(className, beanClassBeans);
 						}
+						beanClassBeans.addAll(bc.getBeans(className));
 					}
 				}
-
-			}
-			finally {
-				this.isBeanClassesMapPopulated = true;
-				w.unlock();
 			}
+			allBeanClassesMap = mergedMap;
 		}
-		return beanClassesMap;
+		return mergedMap;
 	}
 
 	public boolean doesAnnotationScanning() {
@@ -225,10 +225,7 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 				defaults = null;
 				imports.clear();
 				aliases.clear();
-				beans.clear();
-				components.clear();
-				isBeanClassesMapPopulated = false;
-				beanClassesMap.clear();
+				clearBeansAndComponents();
 				problems.clear();
 				children = null;
 
@@ -790,10 +787,10 @@ public class BeansConfig extends AbstractBeansConfig implements IBeansConfig, IL
 		}
 		ISourceModelElement element = provider.getElement(BeansConfig.this, componentDefinition);
 		if (element instanceof IBean) {
-			beans.put(element.getElementName(), (IBean) element);
+			addBean((IBean) element);
 		}
 		else if (element instanceof IBeansComponent) {
-			components.add((IBeansComponent) element);
+			addComponent((IBeansComponent) element);
 		}
 	}
 
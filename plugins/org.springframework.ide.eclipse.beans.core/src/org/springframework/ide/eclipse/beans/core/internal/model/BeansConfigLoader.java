@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.beans.core.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
+import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
+import org.springframework.ide.eclipse.core.SpringCore;
+
+/**
+ * Loads a number of {@link IBeansConfig}s in parallel.
+ * <p>
+ * Imported configs are parsed as part of their importing config, so every given config is loaded as a single,
+ * independent task. Events that configs of the same config set send to each other (e.g. detected post processors) are
+ * only published after a config released its lock, so loading configs in parallel doesn't introduce lock ordering
+ * issues.
+ * <p>
+ * The number of configs that are loaded at the same time is controlled by the
+ * {@link BeansCorePlugin#THREADS_CONFIG_LOADING_PREFERENCE_ID} preference.
+ * @since 3.8.4
+ */
+public class BeansConfigLoader {
+
+	private static final String DEBUG_OPTION = BeansCorePlugin.PLUGIN_ID + "/model/loading/debug";
+
+	private static final boolean DEBUG = SpringCore.isDebug(DEBUG_OPTION);
+
+	/**
+	 * Returns the number of configs that should be loaded at the same time.
+	 */
+	public static int getThreadCount() {
+		BeansCorePlugin plugin = BeansCorePlugin.getDefault();
+		if (plugin == null) {
+			return 1;
+		}
+		return Math.max(1, plugin.getPreferenceStore().getInt(BeansCorePlugin.THREADS_CONFIG_LOADING_PREFERENCE_ID));
+	}
+
+	/**
+	 * Loads all given configs and waits until all of them have been loaded. Configs that are already loaded return
+	 * immediately.
+	 * @param configs the configs to load
+	 * @param monitor the monitor to report progress to; only used from the calling thread
+	 * @return the statistics of this run
+	 */
+	public static LoadStatistics loadConfigs(Collection<? extends IBeansConfig> configs, IProgressMonitor monitor) {
+		if (monitor == null) {
+			monitor = new NullProgressMonitor();
+		}
+
+		final Queue<IBeansConfig> pendingConfigs = new ConcurrentLinkedQueue<IBeansConfig>(
+				new LinkedHashSet<IBeansConfig>(configs));
+		final BlockingQueue<LoadResult> results = new LinkedBlockingQueue<LoadResult>();
+		final LoadStatistics statistics = new LoadStatistics();
+		int configCount = pendingConfigs.size();
+		int threadCount = Math.min(getThreadCount(), configCount);
+
+		long start = System.currentTimeMillis();
+		monitor.beginTask("Loading Spring configs", configCount);
+		try {
+			if (threadCount <= 1) {
+				IBeansConfig config;
+				while ((config = pendingConfigs.poll()) != null && !monitor.isCanceled()) {
+					monitor.subTask(getSubTaskName(config));
+					statistics.add(loadConfig(config));
+					monitor.worked(1);
+				}
+				return statistics;
+			}
+
+			Runnable worker = new Runnable() {
+
+				public void run() {
+					IBeansConfig config;
+					while ((config = pendingConfigs.poll()) != null) {
+						results.add(loadConfig(config));
+					}
+				}
+			};
+			List<Future<?>> workers = new ArrayList<Future<?>>(threadCount);
+			for (int i = 0; i < threadCount; i++) {
+				workers.add(BeansCorePlugin.getExecutorService().submit(worker));
+			}
+
+			int loaded = 0;
+			while (loaded < configCount) {
+				if (monitor.isCanceled()) {
+					// let the workers finish the configs they are currently loading
+					pendingConfigs.clear();
+					break;
+				}
+				LoadResult result = results.poll(100, TimeUnit.MILLISECONDS);
+				if (result != null) {
+					monitor.subTask(getSubTaskName(result.config));
+					statistics.add(result);
+					monitor.worked(1);
+					loaded++;
+				}
+			}
+
+			for (Future<?> worker : workers) {
+				worker.get();
+			}
+			LoadResult result;
+			while ((result = results.poll()) != null) {
+				statistics.add(result);
+			}
+		}
+		catch (Exception e) {
+			BeansCorePlugin.log("Error loading Spring configs", e);
+		}
+		finally {
+			statistics.elapsedTime = System.currentTimeMillis() - start;
+			monitor.done();
+			if (DEBUG) {
+				System.out.println(String.format("> loading of %s configs with %s threads took %sms: %s",
+						statistics.getConfigCount(), threadCount, statistics.getElapsedTime(), statistics));
+			}
+		}
+		return statistics;
+	}
+
+	private static LoadResult loadConfig(IBeansConfig config) {
+		long start = System.currentTimeMillis();
+		try {
+			if (config instanceof AbstractBeansConfig) {
+				((AbstractBeansConfig) config).readConfig();
+			}
+			else {
+				config.getBeans();
+			}
+		}
+		catch (RuntimeException e) {
+			BeansCorePlugin.log("Error loading Spring config " + config.getElementName(), e);
+		}
+		return new LoadResult(config, System.currentTimeMillis() - start);
+	}
+
+	private static String getSubTaskName(IBeansConfig config) {
+		if (config.getElementResource() != null) {
+			return "Loading '" + config.getElementResource().getFullPath().toString().substring(1) + "'";
+		}
+		return "Loading '" + config.getElementName() + "'";
+	}
+
+	private static class LoadResult {
+
+		private final IBeansConfig config;
+
+		private final long time;
+
+		public LoadResult(IBeansConfig config, long time) {
+			this.config = config;
+			this.time = time;
+		}
+	}
+
+	/**
+	 * Load times of a single {@link BeansConfigLoader#loadConfigs(Collection, IProgressMonitor)} run.
+	 */
+	public static class LoadStatistics {
+
+		private int configCount;
+
+		private long totalTime;
+
+		private long elapsedTime;
+
+		private long longestTime = -1;
+
+		private IBeansConfig longestConfig;
+
+		void add(LoadResult result) {
+			configCount++;
+			totalTime += result.time;
+			if (result.time > longestTime) {
+				longestTime = result.time;
+				longestConfig = result.config;
+			}
+		}
+
+		/**
+		 * Returns the number of configs that have been loaded.
+		 */
+		public int getConfigCount() {
+			return configCount;
+		}
+
+		/**
+		 * Returns the sum of the load times of all configs in milliseconds.
+		 */
+		public long getTotalTime() {
+			return totalTime;
+		}
+
+		/**
+		 * Returns the wall clock time it took to load all configs in milliseconds.
+		 */
+		public long getElapsedTime() {
+			return elapsedTime;
+		}
+
+		/**
+		 * Returns the load time of the slowest config in milliseconds.
+		 */
+		public long getLongestTime() {
+			return Math.max(0, longestTime);
+		}
+
+		/**
+		 * Returns the slowest config or <code>null</code> if no config has been loaded.
+		 */
+		public IBeansConfig getLongestConfig() {
+			return longestConfig;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("total %sms, longest %sms (%s)", totalTime, getLongestTime(),
+					longestConfig != null ? longestConfig.getElementName() : "-");
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2011 Spring IDE Developers
+ * Copyright (c) 2004, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -257,8 +257,9 @@ public class BeansConfigSet extends AbstractResourceModelElement implements IBea
 	}
 
 	public Set<IBean> getBeans(String className) {
-		if (isBeanClass(className)) {
-			return new LinkedHashSet<IBean>(getBeanClassesMap().get(className));
+		Set<IBean> beans = getBeanClassesMap().get(className);
+		if (beans != null) {
+			return new LinkedHashSet<IBean>(beans);
 		}
 		return new HashSet<IBean>();
 	}
@@ -401,7 +402,8 @@ public class BeansConfigSet extends AbstractResourceModelElement implements IBea
 	}
 
 	/**
-	 * Returns lazily initialized map with all bean classes used in this config set.
+	 * Returns lazily initialized map with all bean classes used in this config set. The map is completely filled
+	 * before it gets published and is never modified afterwards.
 	 */
 	private Map<String, Set<IBean>> getBeanClassesMap() {
 		if (!this.isBeanClassesMapPopulated) {
@@ -410,16 +412,17 @@ public class BeansConfigSet extends AbstractResourceModelElement implements IBea
 				if (this.isBeanClassesMapPopulated) {
 					return beanClassesMap;
 				}
-				beanClassesMap = new LinkedHashMap<String, Set<IBean>>();
+				Map<String, Set<IBean>> newBeanClassesMap = new LinkedHashMap<String, Set<IBean>>();
 				for (IBean bean : getBeansMap().values()) {
-					addBeanClassToMap(bean);
+					addBeanClassToMap(bean, newBeanClassesMap);
 					for (IBean innerBean : BeansModelUtils.getInnerBeans(bean)) {
-						addBeanClassToMap(innerBean);
+						addBeanClassToMap(innerBean, newBeanClassesMap);
 					}
 				}
+				beanClassesMap = newBeanClassesMap;
+				this.isBeanClassesMapPopulated = true;
 			}
 			finally {
-				this.isBeanClassesMapPopulated = true;
 				w.unlock();
 			}
 		}
@@ -432,7 +435,7 @@ public class BeansConfigSet extends AbstractResourceModelElement implements IBea
 		}
 	}
 
-	private void addBeanClassToMap(IBean bean) {
+	private static void addBeanClassToMap(IBean bean, Map<String, Set<IBean>> beanClassesMap) {
 
 		// Get name of bean class - strip name of any inner class
 		String className = bean.getClassName();
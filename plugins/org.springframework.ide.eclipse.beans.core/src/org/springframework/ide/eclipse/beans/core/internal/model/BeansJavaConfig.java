@@ -294,10 +294,7 @@ public class BeansJavaConfig extends AbstractBeansConfig implements IBeansConfig
 				defaults = null;
 				imports.clear();
 				aliases.clear();
-				beans.clear();
-				components.clear();
-				isBeanClassesMapPopulated = false;
-				beanClassesMap.clear();
+				clearBeansAndComponents();
 				problems.clear();
 				children = null;
 				//				componentDefinitions.clear();
@@ -343,10 +340,10 @@ public class BeansJavaConfig extends AbstractBeansConfig implements IBeansConfig
 		}
 		ISourceModelElement element = provider.getElement(BeansJavaConfig.this, componentDefinition);
 		if (element instanceof IBean) {
-			beans.put(element.getElementName(), (IBean) element);
+			addBean((IBean) element);
 		}
 		else if (element instanceof IBeansComponent) {
-			components.add((IBeansComponent) element);
+			addComponent((IBeansComponent) element);
 		}
 	}
 
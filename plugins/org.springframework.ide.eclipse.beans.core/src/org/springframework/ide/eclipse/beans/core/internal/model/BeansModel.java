@@ -343,9 +343,14 @@ public class BeansModel extends AbstractModel implements IBeansModel {
 		try {
 			r.lock();
 			for (IBeansProject project : projects.values()) {
-				for (IBeansConfig config : project.getConfigs()) {
-					if (config.isBeanClass(className)) {
-						configs.add(config);
+				if (project instanceof BeansProject) {
+					configs.addAll(((BeansProject) project).getConfigs(className));
+				}
+				else {
+					for (IBeansConfig config : project.getConfigs()) {
+						if (config.isBeanClass(className)) {
+							configs.add(config);
+						}
 					}
 				}
 			}
@@ -12,6 +12,7 @@ package org.springframework.ide.eclipse.beans.core.internal.model;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -1319,23 +1320,26 @@ public abstract class BeansModelUtils {
 								}
 								
 								Set<IBeansConfig> configs = project.getConfigs();
+								
+								// register all bean classes with the reverse index of the engine, so that
+								// the affected bean classes can be looked up instead of walking each hierarchy
+								Set<String> allBeanClasses = new HashSet<String>();
 								for (IBeansConfig config : configs) {
-									boolean configAdded = false;
-									Set<String> allBeanClasses = config.getBeanClasses();
-									for (int i = 0; i < changedTypeNames.length; i++) {
-										for (String className : allBeanClasses) {
-											if (changedTypeIsInterface[i] && typeEngine.doesImplement(className, changedTypeNames[i], project.getProject())) {
-												files.add(config);
-												configAdded = true;
-												break;
-											}
-											else if (!changedTypeIsInterface[i] && typeEngine.doesExtend(className, changedTypeNames[i], project.getProject())) {
-												files.add(config);
-												configAdded = true;
-												break;
-											}
+									allBeanClasses.addAll(config.getBeanClasses());
+								}
+								typeEngine.indexTypes(project.getProject(), allBeanClasses);
+								
+								Set<String> affectedBeanClasses = new HashSet<String>();
+								for (int i = 0; i < changedTypeNames.length; i++) {
+									affectedBeanClasses.addAll(typeEngine.getAllSubtypes(project.getProject(), changedTypeNames[i], changedTypeIsInterface[i]));
+								}
+								affectedBeanClasses.retainAll(allBeanClasses);
+								
+								if (!affectedBeanClasses.isEmpty()) {
+									for (IBeansConfig config : configs) {
+										if (!Collections.disjoint(config.getBeanClasses(), affectedBeanClasses)) {
+											files.add(config);
 										}
-										if (configAdded) break;
 									}
 								}
 								
@@ -20,7 +20,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -122,6 +124,9 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 
 	protected volatile IBeansConfigEventListener eventListener;
 
+	/** Index of bean class names to the configs using them; updated for the configs that have been read or reset */
+	private final BeanClassIndex beanClassIndex = new BeanClassIndex();
+
 	private boolean isAutoConfigStatePersisted = false;
 
 	public BeansProject(IBeansModel model, IProject project) {
@@ -831,12 +836,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 	 */
 	@Override
 	public boolean isBeanClass(String className) {
-		for (IBeansConfig config : getConfigs()) {
-			if (config.isBeanClass(className)) {
-				return true;
-			}
-		}
-		return false;
+		return className != null && beanClassIndex.update(getConfigs()).isBeanClass(className);
 	}
 
 	/**
@@ -844,11 +844,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 	 */
 	@Override
 	public Set<String> getBeanClasses() {
-		Set<String> beanClasses = new LinkedHashSet<String>();
-		for (IBeansConfig config : getConfigs()) {
-			beanClasses.addAll(config.getBeanClasses());
-		}
-		return beanClasses;
+		return beanClassIndex.update(getConfigs()).getBeanClasses();
 	}
 
 	/**
@@ -857,14 +853,34 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 	@Override
 	public Set<IBean> getBeans(String className) {
 		Set<IBean> beans = new LinkedHashSet<IBean>();
-		for (IBeansConfig config : getConfigs()) {
-			if (config.isBeanClass(className)) {
-				beans.addAll(config.getBeans(className));
-			}
+		for (IBeansConfig config : getConfigs(className)) {
+			beans.addAll(config.getBeans(className));
 		}
 		return beans;
 	}
 
+	/**
+	 * Loads all configs of this project, using multiple threads if configured.
+	 * @param monitor the monitor to report progress to
+	 * @return the load times of the configs
+	 * @since 3.8.4
+	 * @see BeansConfigLoader
+	 */
+	public BeansConfigLoader.LoadStatistics loadConfigs(IProgressMonitor monitor) {
+		return BeansConfigLoader.loadConfigs(getConfigs(), monitor);
+	}
+
+	/**
+	 * Returns all configs of this project which contain a bean with the given bean class.
+	 * @since 3.8.4
+	 */
+	public Set<IBeansConfig> getConfigs(String className) {
+		if (className != null) {
+			return beanClassIndex.update(getConfigs()).getConfigs(className);
+		}
+		return Collections.emptySet();
+	}
+
 	/**
 	 * Writes the current project description to the corresponding XML file
 	 * defined in {@link IBeansProject#DESCRIPTION_FILE}.
@@ -1321,6 +1337,124 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		this.allConfigs = Collections.unmodifiableSet(newAllConfigs);
 	}
 
+	/**
+	 * Index of the bean class names used by the configs of this project. Only the configs that have been added, read
+	 * or reset since the last lookup are indexed again; configs no longer part of the project are dropped.
+	 * <p>
+	 * Configs are read without holding the index lock, as reading a config takes the config's own lock and reports
+	 * the config as changed again.
+	 */
+	private static class BeanClassIndex {
+
+		private Set<IBeansConfig> configs = Collections.emptySet();
+
+		private final Map<IBeansConfig, Set<String>> classNamesByConfig = new HashMap<IBeansConfig, Set<String>>();
+
+		/** The change count at which the class names of each config have been taken */
+		private final Map<IBeansConfig, Long> indexedChanges = new HashMap<IBeansConfig, Long>();
+
+		private final Map<String, Set<IBeansConfig>> configsByClassName = new HashMap<String, Set<IBeansConfig>>();
+
+		private final Set<IBeansConfig> changedConfigs = Collections
+				.newSetFromMap(new ConcurrentHashMap<IBeansConfig, Boolean>());
+
+		private final AtomicLong changeCount = new AtomicLong();
+
+		public void configChanged(IBeansConfig config) {
+			changeCount.incrementAndGet();
+			changedConfigs.add(config);
+		}
+
+		/**
+		 * Brings the index up to date with the given configs of the project and returns it.
+		 */
+		public BeanClassIndex update(Set<IBeansConfig> currentConfigs) {
+			List<IBeansConfig> toIndex = new ArrayList<IBeansConfig>();
+			long changes;
+			synchronized (this) {
+				if (currentConfigs != configs) {
+					for (Iterator<IBeansConfig> iterator = classNamesByConfig.keySet().iterator(); iterator.hasNext();) {
+						IBeansConfig config = iterator.next();
+						if (!currentConfigs.contains(config)) {
+							removeClassNames(config, classNamesByConfig.get(config));
+							indexedChanges.remove(config);
+							iterator.remove();
+						}
+					}
+					for (IBeansConfig config : currentConfigs) {
+						if (!classNamesByConfig.containsKey(config)) {
+							changedConfigs.add(config);
+						}
+					}
+					configs = currentConfigs;
+				}
+				if (changedConfigs.isEmpty()) {
+					return this;
+				}
+				changes = changeCount.get();
+				for (IBeansConfig config : currentConfigs) {
+					if (changedConfigs.remove(config)) {
+						toIndex.add(config);
+					}
+				}
+				changedConfigs.retainAll(currentConfigs);
+			}
+
+			Map<IBeansConfig, Set<String>> classNames = new LinkedHashMap<IBeansConfig, Set<String>>();
+			for (IBeansConfig config : toIndex) {
+				classNames.put(config, config.getBeanClasses());
+			}
+
+			synchronized (this) {
+				for (Map.Entry<IBeansConfig, Set<String>> entry : classNames.entrySet()) {
+					IBeansConfig config = entry.getKey();
+					Long indexed = indexedChanges.get(config);
+					// skip configs that got removed meanwhile or have been indexed with newer class names by another thread
+					if (configs.contains(config) && (indexed == null || indexed.longValue() <= changes)) {
+						removeClassNames(config, classNamesByConfig.put(config, entry.getValue()));
+						indexedChanges.put(config, changes);
+						for (String className : entry.getValue()) {
+							Set<IBeansConfig> classConfigs = configsByClassName.get(className);
+							if (classConfigs == null) {
+								classConfigs = new LinkedHashSet<IBeansConfig>();
+								configsByClassName.put(className, classConfigs);
+							}
+							classConfigs.add(config);
+						}
+					}
+				}
+			}
+			return this;
+		}
+
+		public synchronized boolean isBeanClass(String className) {
+			return configsByClassName.containsKey(className);
+		}
+
+		public synchronized Set<String> getBeanClasses() {
+			return new LinkedHashSet<String>(configsByClassName.keySet());
+		}
+
+		public synchronized Set<IBeansConfig> getConfigs(String className) {
+			Set<IBeansConfig> classConfigs = configsByClassName.get(className);
+			if (classConfigs != null) {
+				return Collections.unmodifiableSet(new LinkedHashSet<IBeansConfig>(classConfigs));
+			}
+			return Collections.emptySet();
+		}
+
+		private void removeClassNames(IBeansConfig config, Set<String> classNames) {
+			if (classNames != null) {
+				for (String className : classNames) {
+					Set<IBeansConfig> classConfigs = configsByClassName.get(className);
+					if (classConfigs != null && classConfigs.remove(config) && classConfigs.isEmpty()) {
+						configsByClassName.remove(className);
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Default implementation of {@link IBeansConfigEventListener} that handles
 	 * events and propagates those to {@link IBeansConfigSet}s and other
@@ -1372,6 +1506,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		 */
 		@Override
 		public void onReadEnd(IBeansConfig config) {
+			beanClassIndex.configChanged(config);
 		}
 
 		/**
@@ -1386,6 +1521,7 @@ public class BeansProject extends AbstractResourceModelElement implements IBeans
 		 */
 		@Override
 		public void onReset(IBeansConfig config) {
+			beanClassIndex.configChanged(config);
 			for (IBeansProject project : BeansCorePlugin.getModel().getProjects()) {
 				for (IBeansConfigSet configSet : project.getConfigSets()) {
 					if (configSet.hasConfig((IFile) config.getElementResource())) {
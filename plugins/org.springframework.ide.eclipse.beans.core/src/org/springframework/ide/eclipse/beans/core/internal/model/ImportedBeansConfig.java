@@ -16,6 +16,7 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.core.resources.IFile;
@@ -73,6 +74,8 @@ public class ImportedBeansConfig extends AbstractBeansConfig implements IImporte
 				aliases = new LinkedHashMap<String, IBeanAlias>();
 				components = new LinkedHashSet<IBeansComponent>();
 				beans = new LinkedHashMap<String, IBean>();
+				beanClassesMap = new LinkedHashMap<String, Set<IBean>>();
+				resetBeanClassesMap();
 				problems = new CopyOnWriteArraySet<ValidationProblem>();
 			}
 			finally {
@@ -96,14 +99,6 @@ public class ImportedBeansConfig extends AbstractBeansConfig implements IImporte
 		children = allChildren.toArray(new IModelElement[allChildren.size()]);
 	}
 
-	protected void addBean(IBean bean) {
-		beans.put(bean.getElementName(), bean);
-	}
-
-	protected void addComponent(IBeansComponent beansComponent) {
-		components.add(beansComponent);
-	}
-
 	protected void addAlias(IBeanAlias beanAlias) {
 		aliases.put(beanAlias.getElementName(), beanAlias);
 	}
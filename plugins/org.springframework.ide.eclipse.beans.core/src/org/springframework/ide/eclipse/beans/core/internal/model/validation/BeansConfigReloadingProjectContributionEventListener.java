@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 Spring IDE Developers
+ * Copyright (c) 2009, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.beans.core.internal.model.validation;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -28,6 +29,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.springframework.ide.eclipse.beans.core.BeansCorePlugin;
 import org.springframework.ide.eclipse.beans.core.BeansCoreUtils;
+import org.springframework.ide.eclipse.beans.core.internal.model.BeansConfigLoader;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModel;
 import org.springframework.ide.eclipse.beans.core.internal.model.BeansModelUtils;
 import org.springframework.ide.eclipse.beans.core.model.IBeansConfig;
@@ -99,19 +101,16 @@ public class BeansConfigReloadingProjectContributionEventListener extends Projec
 
 		// Trigger reloading and reload before validation infrastructure kicks in
 		if (configs.size() > 0) {
-			IProgressMonitor subMonitor = new SubProgressMonitor(monitor, 1);
-			subMonitor.beginTask("Initializing Spring Model", configs.size());
+			List<IBeansConfig> reloadedConfigs = new ArrayList<IBeansConfig>(configs.size());
 			for (IBeansConfig config : configs) {
-				subMonitor.subTask("Loading '" + config.getElementResource().getFullPath().toString().substring(1)
-						+ "'");
-				
 				if (config instanceof IReloadableBeansConfig) {
 					((IReloadableBeansConfig) config).reload();
-					config.getBeans();
-					subMonitor.worked(1);
+					reloadedConfigs.add(config);
 				}
 			}
-			subMonitor.done();
+
+			// Load the reset configs in parallel
+			BeansConfigLoader.loadConfigs(reloadedConfigs, new SubProgressMonitor(monitor, 1));
 		}
 	}
 
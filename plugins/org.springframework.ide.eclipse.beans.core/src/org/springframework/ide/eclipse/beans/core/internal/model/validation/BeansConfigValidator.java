@@ -272,6 +272,14 @@ public class BeansConfigValidator extends AbstractValidator {
 		return new BeanElementLifecycleManager();
 	}
 
+	/**
+	 * Bean configs are validated with their own context and lifecycle manager, so they can be validated concurrently.
+	 */
+	@Override
+	protected boolean supportsConcurrentValidation() {
+		return true;
+	}
+
 	private static class BeanElementLifecycleManager implements IValidationElementLifecycleManagerExtension {
 
 		private IBeansConfig rootElement = null;
@@ -119,7 +119,7 @@ public class BeansValidationContext extends AbstractValidationContext implements
 	/**
 	 * {@inheritDoc}
 	 */
-	public Set<BeanDefinition> getRegisteredBeanDefinition(String beanName, String beanClass) {
+	public synchronized Set<BeanDefinition> getRegisteredBeanDefinition(String beanName, String beanClass) {
 		Assert.notNull(beanName);
 		Assert.notNull(beanClass);
 
@@ -256,6 +256,14 @@ public class BeansValidationContext extends AbstractValidationContext implements
 		return problems;
 	}
 
+	/**
+	 * All lazily created state of this context is guarded, so thread-safe rules can run concurrently.
+	 */
+	@Override
+	protected boolean supportsConcurrentRules() {
+		return true;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
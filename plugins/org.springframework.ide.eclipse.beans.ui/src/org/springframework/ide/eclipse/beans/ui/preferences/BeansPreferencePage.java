@@ -48,6 +48,8 @@ public class BeansPreferencePage extends PreferencePage implements IWorkbenchPre
 
 	private IntegerFieldEditor configTimeout;
 
+	private IntegerFieldEditor configLoadingThreads;
+
 	private FieldEditor graphEditorExtendedContent;
 
 	protected Control createContents(Composite parent) {
@@ -92,6 +94,13 @@ public class BeansPreferencePage extends PreferencePage implements IWorkbenchPre
 		configTimeout.setPreferenceStore(BeansCorePlugin.getDefault().getPreferenceStore());
 		configTimeout.load();
 
+		configLoadingThreads = new IntegerFieldEditor(BeansCorePlugin.THREADS_CONFIG_LOADING_PREFERENCE_ID,
+				"Parallel loading threads", timoutComposite1);
+		configLoadingThreads.setValidRange(1, 64);
+		configLoadingThreads.setPage(this);
+		configLoadingThreads.setPreferenceStore(BeansCorePlugin.getDefault().getPreferenceStore());
+		configLoadingThreads.load();
+
 		Composite radioComposite = new Composite(entryTable, SWT.NONE);
 		radioComposite.setLayout(new GridLayout());
 
@@ -162,12 +171,14 @@ public class BeansPreferencePage extends PreferencePage implements IWorkbenchPre
 		graphEditorInnerBeans.loadDefault();
 		graphEditorInfrastructureBeans.loadDefault();
 		configTimeout.loadDefault();
+		configLoadingThreads.loadDefault();
 		disableAutoDetection.loadDefault();
 	}
 
 	public boolean performOk() {
 		radioEditor.store();
 		configTimeout.store();
+		configLoadingThreads.store();
 		graphEditorInnerBeans.store();
 		graphEditorInfrastructureBeans.store();
 		graphEditorExtendedContent.store();
@@ -35,6 +35,9 @@ import org.springframework.ide.eclipse.boot.dash.test.yaml.Yaml2DeploymentProper
 	//Really short (less than 2 seconds per suite):
 	JLRMethodParserTest.class,
 	OrderBasedComparatorTest.class,
+	ZipEntryDigestCacheTest.class,
+	CoalescingCacheTest.class,
+	SpringApplicationReadyStateMonitorTest.class,
 	ManifestCompareMergeTests.class,
 	ManifestYmlSchemaTest.class,
 	ManifestYamlEditorTest.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,7 +13,13 @@ package org.springframework.ide.eclipse.boot.dash.test;
 import static org.springsource.ide.eclipse.commons.tests.util.StsTestUtil.assertNoErrors;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -78,6 +84,36 @@ public class BootJarPackagingTest extends StsTestCase {
 		Mockito.verifyZeroInteractions(ui);
 	}
 
+	public void testProjectManifestKept() throws Exception {
+		UserInteractions ui = Mockito.mock(UserInteractions.class);
+		IProject project = getHarness().createBootProject("simple-boot",
+				setPackage("demo")
+		);
+		StsTestUtil.assertNoErrors(project); // Builds the project
+
+		//A manifest in the output folder, like the one m2e's mavenarchiver generates.
+		File manifestFile = new File(project.getFolder("target/classes").getLocation().toFile(), "META-INF/MANIFEST.MF");
+		manifestFile.getParentFile().mkdirs();
+		Manifest projectManifest = new Manifest();
+		projectManifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+		projectManifest.getMainAttributes().putValue("Implementation-Title", "simple-boot-title");
+		try (OutputStream out = new FileOutputStream(manifestFile)) {
+			projectManifest.write(out);
+		}
+
+		File file = packageAsJar(project, ui);
+		JarFile jarFile = new JarFile(file);
+		try {
+			Attributes attributes = jarFile.getManifest().getMainAttributes();
+			assertEquals("simple-boot-title", attributes.getValue("Implementation-Title"));
+			assertEquals("org.springframework.boot.loader.JarLauncher", attributes.getValue("Main-Class"));
+			assertTrue(attributes.getValue("Start-Class").startsWith("demo."));
+		} finally {
+			jarFile.close();
+		}
+		assertEquals(0, java.runJar(file).terminationCode);
+	}
+
 	public void testProjectDependency() throws Exception {
 		IProject depProject = createPredefinedProject("demo-lib");
 		StsTestUtil.assertNoErrors(depProject);
@@ -124,9 +160,25 @@ public class BootJarPackagingTest extends StsTestCase {
 		assertContains("Hello, Kris!", result.out);
 		assertEquals(0, result.terminationCode);
 
+		//Packaging an unchanged project again should produce the same nested jar, so it needn't be uploaded again.
+		long crc = getStoredEntryCrc(jarFile, "lib/demo-lib.jar");
+		jarFile = packageAsJar(project, ui);
+		assertEquals(crc, getStoredEntryCrc(jarFile, "lib/demo-lib.jar"));
+
 		Mockito.verifyZeroInteractions(ui);
 	}
 
+	private long getStoredEntryCrc(File file, String name) throws Exception {
+		JarFile jarFile = new JarFile(file);
+		try {
+			JarEntry entry = jarFile.getJarEntry(name);
+			assertEquals(ZipEntry.STORED, entry.getMethod());
+			return entry.getCrc();
+		} finally {
+			jarFile.close();
+		}
+	}
+
 	/**
 	 * Verifies that jarFile has at least a given list of entries (in any order).
 	 */
@@ -574,6 +574,111 @@ public class CloudFoundryBootDashModelMockingTest {
 		};
 	}
 
+	@Test
+	public void testRefreshSkipsUnchangedApps() throws Exception {
+		CFClientParams targetParams = CfTestTargetParams.fromEnv();
+		MockCFSpace space = clientFactory.defSpace(targetParams.getOrgName(), targetParams.getSpaceName());
+		MockCFApplication foo = space.defApp("foo");
+		MockCFApplication bar = space.defApp("bar");
+
+		final CloudFoundryBootDashModel target = harness.createCfTarget(targetParams);
+		waitForApps(target, "foo", "bar");
+		waitForJobsToComplete();
+
+		int fooFetches = foo.getDetailsFetchCount();
+		int barFetches = bar.getDetailsFetchCount();
+		assertTrue(fooFetches>0);
+		assertTrue(barFetches>0);
+
+		target.refresh(ui);
+		waitForJobsToComplete();
+
+		assertEquals(fooFetches, foo.getDetailsFetchCount());
+		assertEquals(barFetches, bar.getDetailsFetchCount());
+	}
+
+	@Test
+	public void testRefreshFetchesChangedApps() throws Exception {
+		CFClientParams targetParams = CfTestTargetParams.fromEnv();
+		MockCFSpace space = clientFactory.defSpace(targetParams.getOrgName(), targetParams.getSpaceName());
+		MockCFApplication foo = space.defApp("foo");
+		MockCFApplication bar = space.defApp("bar");
+
+		final CloudFoundryBootDashModel target = harness.createCfTarget(targetParams);
+		waitForApps(target, "foo", "bar");
+		waitForJobsToComplete();
+
+		int fooFetches = foo.getDetailsFetchCount();
+		int barFetches = bar.getDetailsFetchCount();
+
+		foo.setMemory(2048);
+		target.refresh(ui);
+		waitForJobsToComplete();
+
+		assertEquals(fooFetches+1, foo.getDetailsFetchCount());
+		assertEquals(barFetches, bar.getDetailsFetchCount());
+		assertEquals(2048, target.getApplication("foo").getSummaryData().getMemory());
+
+		bar.scaleInstances(3);
+		target.refresh(ui);
+		waitForJobsToComplete();
+
+		assertEquals(fooFetches+1, foo.getDetailsFetchCount());
+		assertEquals(barFetches+1, bar.getDetailsFetchCount());
+		assertEquals(3, target.getApplication("bar").getSummaryData().getInstances());
+	}
+
+	@Test
+	public void testRefreshForgetsDeletedApps() throws Exception {
+		CFClientParams targetParams = CfTestTargetParams.fromEnv();
+		MockCFSpace space = clientFactory.defSpace(targetParams.getOrgName(), targetParams.getSpaceName());
+		MockCFApplication foo = space.defApp("foo");
+		MockCFApplication bar = space.defApp("bar");
+
+		final CloudFoundryBootDashModel target = harness.createCfTarget(targetParams);
+		waitForApps(target, "foo", "bar");
+		waitForJobsToComplete();
+		assertTrue(target.getSyncedApplications().isSynced(bar.getGuid()));
+
+		space.removeApp("bar");
+		target.refresh(ui);
+		waitForApps(target, "foo");
+		waitForJobsToComplete();
+
+		assertTrue(target.getSyncedApplications().isSynced(foo.getGuid()));
+		assertFalse(target.getSyncedApplications().isSynced(bar.getGuid()));
+	}
+
+	@Test
+	public void testQueuedRefreshesCoalesced() throws Exception {
+		CFClientParams targetParams = CfTestTargetParams.fromEnv();
+		MockCFSpace space = clientFactory.defSpace(targetParams.getOrgName(), targetParams.getSpaceName());
+		space.defApp("foo");
+
+		final CloudFoundryBootDashModel target = harness.createCfTarget(targetParams);
+		waitForApps(target, "foo");
+		waitForJobsToComplete();
+
+		int appListFetches = space.getAppListCount().getValue();
+		clientFactory.setAppListDelay(TimeUnit.SECONDS, 1);
+
+		target.refresh(ui);
+		new ACondition("wait for refresh to start", 3000) {
+			@Override
+			public boolean test() throws Exception {
+				assertEquals(appListFetches+1, (int)space.getAppListCount().getValue());
+				return true;
+			}
+		};
+		//These all wait for the running refresh, and should be handled by a single refresh after it.
+		target.refresh(ui);
+		target.refresh(ui);
+		target.refresh(ui);
+		waitForJobsToComplete();
+
+		assertEquals(appListFetches+2, (int)space.getAppListCount().getValue());
+	}
+
 	@Test
 	public void testRefreshServices() throws Exception {
 		CFClientParams targetParams = CfTestTargetParams.fromEnv();
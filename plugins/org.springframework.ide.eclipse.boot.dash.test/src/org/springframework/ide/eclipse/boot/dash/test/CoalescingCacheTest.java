@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.client.v2.CoalescingCache;
+import org.springsource.ide.eclipse.commons.livexp.util.ExceptionUtil;
+
+import com.google.common.collect.ImmutableList;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class CoalescingCacheTest {
+
+	private static final Duration LONG_AGO = Duration.ofHours(1);
+
+	private CoalescingCache<String, Integer> cache = new CoalescingCache<>(Duration.ofSeconds(1));
+	private AtomicInteger fetches = new AtomicInteger();
+
+	private Supplier<Mono<Integer>> fetch = () -> {
+		int n = fetches.incrementAndGet();
+		return Mono.delay(Duration.ofMillis(200)).map((ignore) -> n);
+	};
+
+	@Test
+	public void testInFlightRequestsShared() throws Exception {
+		assertEquals(ImmutableList.of(1, 1),
+			Flux.merge(
+				cache.get("app", Duration.ZERO, fetch),
+				cache.get("app", Duration.ZERO, fetch)
+			).collectList().block()
+		);
+		assertEquals(1, fetches.get());
+
+		assertEquals(2, (int) cache.get("app", Duration.ZERO, fetch).block());
+		assertEquals(2, (int) cache.get("other", Duration.ZERO, fetch).block());
+		assertEquals(3, fetches.get());
+	}
+
+	@Test
+	public void testMaxAge() throws Exception {
+		assertEquals(1, (int) cache.get("app", LONG_AGO, fetch).block());
+		assertEquals(1, (int) cache.get("app", LONG_AGO, fetch).block());
+		assertEquals(1, fetches.get());
+
+		Thread.sleep(50);
+		assertEquals(2, (int) cache.get("app", Duration.ofMillis(10), fetch).block());
+		assertEquals(2, fetches.get());
+	}
+
+	@Test
+	public void testOldResultsDropped() throws Exception {
+		Duration maxAge = Duration.ofMillis(50);
+		assertEquals(1, (int) cache.get("app", maxAge, fetch).block());
+		assertEquals(2, (int) cache.get("other", maxAge, fetch).block());
+		Thread.sleep(100);
+		assertEquals(3, (int) cache.get("another", maxAge, fetch).block());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testInvalidate() throws Exception {
+		assertEquals(1, (int) cache.get("app", LONG_AGO, fetch).block());
+		cache.invalidate("app");
+		assertEquals(2, (int) cache.get("app", LONG_AGO, fetch).block());
+		assertEquals(2, fetches.get());
+	}
+
+	@Test
+	public void testFailedRequestsForgotten() throws Exception {
+		Supplier<Mono<Integer>> failing = () -> {
+			fetches.incrementAndGet();
+			return Mono.error(new IllegalArgumentException("No such app"));
+		};
+		try {
+			cache.get("app", LONG_AGO, failing).block();
+			fail("Should have failed");
+		} catch (Exception e) {
+			assertTrue(ExceptionUtil.getMessage(e).contains("No such app"));
+		}
+		assertEquals(2, (int) cache.get("app", LONG_AGO, fetch).block());
+	}
+
+	@Test
+	public void testHangingRequestTimesOut() throws Exception {
+		Supplier<Mono<Integer>> hanging = () -> {
+			fetches.incrementAndGet();
+			return Mono.never();
+		};
+		long start = System.currentTimeMillis();
+		try {
+			cache.get("app", LONG_AGO, hanging).block(Duration.ofSeconds(10));
+			fail("Should have timed out");
+		} catch (Exception e) {
+			//expected
+		}
+		assertTrue(System.currentTimeMillis() - start < 5000);
+		assertEquals(2, (int) cache.get("app", LONG_AGO, fetch).block());
+		assertEquals(2, fetches.get());
+	}
+}
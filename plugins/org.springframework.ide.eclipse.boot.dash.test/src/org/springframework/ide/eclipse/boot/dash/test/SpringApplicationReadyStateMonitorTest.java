@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.debug.core.IStreamListener;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.core.model.IStreamMonitor;
+import org.eclipse.debug.core.model.IStreamsProxy;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.ide.eclipse.boot.dash.util.SpringApplicationReadyStateMonitor;
+import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifeCycleClientManager;
+import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifecycleClient;
+import org.springsource.ide.eclipse.commons.frameworks.test.util.ACondition;
+
+public class SpringApplicationReadyStateMonitorTest {
+
+	private List<SpringApplicationReadyStateMonitor> monitors = new ArrayList<>();
+	private CountDownLatch hang = new CountDownLatch(1);
+
+	@After
+	public void tearDown() {
+		hang.countDown();
+		for (SpringApplicationReadyStateMonitor monitor : monitors) {
+			monitor.dispose();
+		}
+	}
+
+	@Test
+	public void testPollingBacksOff() throws Exception {
+		FakeClient client = new FakeClient();
+		monitor(client);
+		Thread.sleep(1600);
+
+		//Polls at 0, 100, 300, 700 and 1500ms. Without back off there would be 16.
+		List<Long> checks = client.getChecks();
+		assertTrue("checks: "+checks.size(), checks.size()>=3 && checks.size()<=7);
+		long lastInterval = checks.get(checks.size()-1) - checks.get(checks.size()-2);
+		assertTrue("last interval: "+lastInterval, lastInterval>=300);
+	}
+
+	@Test
+	public void testBecomesReady() throws Exception {
+		FakeClient client = new FakeClient();
+		SpringApplicationReadyStateMonitor monitor = monitor(client);
+		assertFalse(monitor.getReady().getValue());
+
+		client.ready = true;
+		new ACondition("wait for ready", SpringApplicationReadyStateMonitor.MAX_POLLING_INTERVAL+1000) {
+			@Override
+			public boolean test() throws Exception {
+				assertTrue(monitor.getReady().getValue());
+				return true;
+			}
+		};
+		int checks = client.getChecks().size();
+		Thread.sleep(500);
+		assertEquals(checks, client.getChecks().size());
+	}
+
+	@Test
+	public void testStartedMessageTriggersCheck() throws Exception {
+		FakeClient client = new FakeClient();
+		FakeStreamMonitor output = new FakeStreamMonitor();
+		SpringApplicationReadyStateMonitor monitor = monitor(client, process(output));
+		assertEquals(1, output.listeners.size());
+
+		//Wait until polling has slowed down to its maximum interval.
+		Thread.sleep(3000);
+		client.ready = true;
+		long start = System.currentTimeMillis();
+		output.append("2016-11-14 12:00:00.000  INFO 1234 --- [main] com.example.DemoApplication : Started DemoApplication in 2.345 seconds (JVM running for 3.1)\n");
+		new ACondition("wait for ready", 1000) {
+			@Override
+			public boolean test() throws Exception {
+				assertTrue(monitor.getReady().getValue());
+				return true;
+			}
+		};
+		assertTrue(System.currentTimeMillis() - start < SpringApplicationReadyStateMonitor.MAX_POLLING_INTERVAL / 2);
+		assertTrue(output.listeners.isEmpty());
+	}
+
+	@Test
+	public void testOtherOutputIgnored() throws Exception {
+		FakeClient client = new FakeClient();
+		FakeStreamMonitor output = new FakeStreamMonitor();
+		monitor(client, process(output));
+		Thread.sleep(3000);
+
+		int checks = client.getChecks().size();
+		output.append("Starting DemoApplication on localhost with PID 1234\n");
+		Thread.sleep(300);
+		assertEquals(checks, client.getChecks().size());
+	}
+
+	@Test
+	public void testHangingAppDoesntBlockOthers() throws Exception {
+		FakeClient hanging = new FakeClient() {
+			@Override
+			public boolean isReady() throws Exception {
+				super.isReady();
+				hang.await();
+				return false;
+			}
+		};
+		monitor(hanging);
+		new ACondition("wait for hanging check", 1000) {
+			@Override
+			public boolean test() throws Exception {
+				assertEquals(1, hanging.getChecks().size());
+				return true;
+			}
+		};
+
+		FakeClient client = new FakeClient();
+		client.ready = true;
+		SpringApplicationReadyStateMonitor monitor = monitor(client);
+		new ACondition("wait for ready", 1000) {
+			@Override
+			public boolean test() throws Exception {
+				assertTrue(monitor.getReady().getValue());
+				return true;
+			}
+		};
+	}
+
+	@Test
+	public void testStartedMessageDuringCheckDoesntStartAnother() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		FakeClient blocking = new FakeClient() {
+			@Override
+			public boolean isReady() throws Exception {
+				int now = running.incrementAndGet();
+				maxRunning.accumulateAndGet(now, Math::max);
+				try {
+					super.isReady();
+					if (getChecks().size()==1) {
+						hang.await();
+						return false;
+					}
+					return ready;
+				} finally {
+					running.decrementAndGet();
+				}
+			}
+		};
+		FakeStreamMonitor output = new FakeStreamMonitor();
+		SpringApplicationReadyStateMonitor monitor = monitor(blocking, process(output));
+		new ACondition("wait for blocked check", 1000) {
+			@Override
+			public boolean test() throws Exception {
+				assertEquals(1, blocking.getChecks().size());
+				return true;
+			}
+		};
+
+		blocking.ready = true;
+		output.append("Started DemoApplication in 2.345 seconds (JVM running for 3.1)\n");
+		Thread.sleep(300);
+		assertEquals(1, blocking.getChecks().size());
+
+		//The check that was asked for runs right after the blocked one.
+		hang.countDown();
+		new ACondition("wait for ready", 1000) {
+			@Override
+			public boolean test() throws Exception {
+				assertTrue(monitor.getReady().getValue());
+				return true;
+			}
+		};
+		assertEquals(1, maxRunning.get());
+	}
+
+	private SpringApplicationReadyStateMonitor monitor(FakeClient client, IProcess... processes) {
+		SpringApplicationLifeCycleClientManager clientManager = new SpringApplicationLifeCycleClientManager(() -> 1234) {
+			@Override
+			public SpringApplicationLifecycleClient getLifeCycleClient() {
+				return client;
+			}
+		};
+		SpringApplicationReadyStateMonitor monitor = new SpringApplicationReadyStateMonitor(clientManager, processes);
+		monitors.add(monitor);
+		return monitor;
+	}
+
+	private IProcess process(IStreamMonitor output) {
+		IStreamsProxy streams = mock(IStreamsProxy.class);
+		when(streams.getOutputStreamMonitor()).thenReturn(output);
+		IProcess process = mock(IProcess.class);
+		when(process.getStreamsProxy()).thenReturn(streams);
+		return process;
+	}
+
+	private static class FakeClient extends SpringApplicationLifecycleClient {
+
+		volatile boolean ready = false;
+		private final List<Long> checks = new ArrayList<>();
+
+		FakeClient() {
+			super(null, "org.springframework.boot:type=Admin,name=SpringApplication");
+		}
+
+		@Override
+		public boolean isReady() throws Exception {
+			synchronized (checks) {
+				checks.add(System.currentTimeMillis());
+			}
+			return ready;
+		}
+
+		List<Long> getChecks() {
+			synchronized (checks) {
+				return new ArrayList<>(checks);
+			}
+		}
+	}
+
+	private static class FakeStreamMonitor implements IStreamMonitor {
+
+		final List<IStreamListener> listeners = new ArrayList<>();
+
+		@Override
+		public synchronized void addListener(IStreamListener listener) {
+			listeners.add(listener);
+		}
+
+		@Override
+		public synchronized void removeListener(IStreamListener listener) {
+			listeners.remove(listener);
+		}
+
+		@Override
+		public String getContents() {
+			return "";
+		}
+
+		void append(String text) {
+			List<IStreamListener> copy;
+			synchronized (this) {
+				copy = new ArrayList<>(listeners);
+			}
+			for (IStreamListener listener : copy) {
+				listener.streamAppended(text, this);
+			}
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.security.MessageDigest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Test;
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.packaging.ZipEntryDigestCache;
+
+public class ZipEntryDigestCacheTest {
+
+	private ZipEntryDigestCache cache = new ZipEntryDigestCache(10);
+
+	@Test
+	public void testUnchangedEntriesNotReadAgain() throws Exception {
+		File first = createZip("lib/foo.jar", "foo contents", "Application.class", "version 1");
+		File second = createZip("lib/foo.jar", "foo contents", "Application.class", "version 2");
+		try (ZipFile zip = new ZipFile(first)) {
+			assertDigest(zip, "lib/foo.jar", "foo contents");
+			assertDigest(zip, "Application.class", "version 1");
+		}
+		assertEquals(0, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+
+		try (ZipFile zip = new ZipFile(second)) {
+			assertDigest(zip, "lib/foo.jar", "foo contents");
+			assertDigest(zip, "Application.class", "version 2");
+		}
+		assertEquals(1, cache.getHitCount());
+		assertEquals(3, cache.getMissCount());
+	}
+
+	@Test
+	public void testSizeLimit() throws Exception {
+		ZipEntryDigestCache cache = new ZipEntryDigestCache(1);
+		File zipFile = createZip("a.txt", "a", "b.txt", "b");
+		try (ZipFile zip = new ZipFile(zipFile)) {
+			cache.getSha1Digest(zip, zip.getEntry("a.txt"));
+			cache.getSha1Digest(zip, zip.getEntry("b.txt"));
+			cache.getSha1Digest(zip, zip.getEntry("a.txt"));
+		}
+		assertEquals(0, cache.getHitCount());
+		assertEquals(3, cache.getMissCount());
+	}
+
+	private void assertDigest(ZipFile zip, String name, String contents) throws Exception {
+		byte[] expected = MessageDigest.getInstance("SHA-1").digest(contents.getBytes("UTF8"));
+		assertArrayEquals(expected, cache.getSha1Digest(zip, zip.getEntry(name)));
+	}
+
+	private File createZip(String... namesAndContents) throws Exception {
+		File file = File.createTempFile("archive", ".zip");
+		file.deleteOnExit();
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+			for (int i = 0; i < namesAndContents.length; i+=2) {
+				ZipEntry entry = new ZipEntry(namesAndContents[i]);
+				entry.setTime(1000000000000L);
+				out.putNextEntry(entry);
+				out.write(namesAndContents[i+1].getBytes("UTF8"));
+				out.closeEntry();
+			}
+		}
+		return file;
+	}
+}
@@ -22,6 +22,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -68,6 +70,11 @@ public class MockCFApplication {
 		}
 	}
 
+	/**
+	 * Source of the fake 'updated_at' timestamps. These only need to change whenever an app changes.
+	 */
+	private static final AtomicLong clock = new AtomicLong();
+
 	private final String name;
 	private final UUID guid;
 	private int instances;
@@ -85,6 +92,8 @@ public class MockCFApplication {
 	private String stack = null;
 	private MockCloudFoundryClientFactory owner;
 	private MockCFSpace space;
+	private String updatedAt = nextTimestamp();
+	private final AtomicInteger detailsFetches = new AtomicInteger();
 
 	public MockCFApplication(MockCloudFoundryClientFactory owner, MockCFSpace space, String name, UUID guid, int instances, CFAppState state) {
 		this.owner = owner;
@@ -124,6 +133,7 @@ public class MockCFApplication {
 		Assert.isLegal(CFAppState.STOPPED==state);
 		Assert.isLegal(stats.isEmpty());
 		this.state = CFAppState.UNKNOWN;
+		touch();
 		final long endTime = System.currentTimeMillis()+getStartDelay();
 		new ACondition("simulated app starting (waiting)", getStartDelay()+1000) {
 			@Override
@@ -149,6 +159,7 @@ public class MockCFApplication {
 		}
 		this.stats = builder.build();
 		this.state = CFAppState.STARTED;
+		touch();
 		System.out.println("Starting "+getName()+" SUCCESS");
 	}
 
@@ -162,6 +173,7 @@ public class MockCFApplication {
 
 	public void setHealthCheckType(String t) {
 		this.healthCheckType = t;
+		touch();
 	}
 
 	public void setHealthCheckTypeMaybe(String t) {
@@ -191,27 +203,33 @@ public class MockCFApplication {
 
 	public void setBuildpackUrl(String buildpackUrl) {
 		this.buildpackUrl = buildpackUrl;
+		touch();
 	}
 
 	public void setCommand(String command) {
 		this.command = command;
+		touch();
 	}
 
 	public void setStack(String stack) {
 		this.stack = stack;
+		touch();
 	}
 
 	public void setTimeout(int timeout) {
 		this.timeout = timeout;
+		touch();
 	}
 
 
 	public void setDiskQuota(int diskQuota) {
 		this.diskQuota = diskQuota;
+		touch();
 	}
 
 	public void setMemory(int memory) {
 		this.memory = memory;
+		touch();
 	}
 
 	public int getMemory() {
@@ -220,10 +238,12 @@ public class MockCFApplication {
 
 	public void setUris(Collection<String> uris) {
 		this.uris = uris==null?null:ImmutableList.copyOf(uris);
+		touch();
 	}
 
 	public void setServices(Collection<String> services) {
 		this.services = services==null?null:ImmutableList.copyOf(services);
+		touch();
 	}
 
 	public CFApplication getBasicInfo() {
@@ -303,6 +323,7 @@ public class MockCFApplication {
 		cancelationTokens.cancelAll();
 		this.stats = ImmutableList.of();
 		this.state = CFAppState.STOPPED;
+		touch();
 	}
 
 	public Map<String, String> getEnv() {
@@ -311,6 +332,7 @@ public class MockCFApplication {
 
 	public void setEnv(Map<String, String> newEnv) {
 		env = ImmutableMap.copyOf(newEnv);
+		touch();
 	}
 
 	public void restart(CancelationToken cancelationToken) throws Exception {
@@ -327,6 +349,33 @@ public class MockCFApplication {
 		}
 		stats = builder.build();
 		this.instances = desiredInstances;
+		touch();
+	}
+
+	/**
+	 * @return A fake 'updated_at' timestamp, which changes whenever the app is changed.
+	 */
+	public String getUpdatedAt() {
+		return updatedAt;
+	}
+
+	private void touch() {
+		updatedAt = nextTimestamp();
+	}
+
+	private static String nextTimestamp() {
+		return Long.toString(clock.incrementAndGet());
+	}
+
+	/**
+	 * @return How many times the details of this app were fetched as part of a refresh.
+	 */
+	public int getDetailsFetchCount() {
+		return detailsFetches.get();
+	}
+
+	public void detailsFetched() {
+		detailsFetches.incrementAndGet();
 	}
 
 
@@ -24,6 +24,7 @@ import org.springframework.ide.eclipse.boot.dash.livexp.LiveCounter;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
+import com.google.common.collect.ImmutableMap;
 
 public class MockCFSpace extends CFSpaceData {
 
@@ -34,6 +35,7 @@ public class MockCFSpace extends CFSpaceData {
 	private Map<String, MockCFApplication> appsByName = new HashMap<>();
 	private MockCloudFoundryClientFactory owner;
 	private Map<String, LiveCounter> pushCounts = new HashMap<>();
+	private LiveCounter appListCount = new LiveCounter();
 
 	public MockCFSpace(MockCloudFoundryClientFactory owner, String name, UUID guid, CFOrganization org) {
 		super(name, guid, org);
@@ -56,6 +58,21 @@ public class MockCFSpace extends CFSpaceData {
 		return builder.build();
 	}
 
+	public ImmutableMap<UUID, String> getApplicationTimestamps() {
+		ImmutableMap.Builder<UUID, String> builder = ImmutableMap.builder();
+		for (MockCFApplication app : appsByName.values()) {
+			builder.put(app.getGuid(), app.getUpdatedAt());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * @return Counts how many times the list of apps in this space was fetched.
+	 */
+	public LiveCounter getAppListCount() {
+		return appListCount;
+	}
+
 	public MockCFApplication defApp(String name) {
 		MockCFApplication existing = appsByName.get(name);
 		if (existing==null) {
@@ -71,6 +71,7 @@ public class MockCloudFoundryClientFactory extends CloudFoundryClientFactory {
 	 */
 	private Exception notImplementedStubCalled = null;
 	private long startDelay = 0;
+	private long appListDelay = 0;
 
 	public MockCloudFoundryClientFactory() {
 		defDomain("cfmockapps.io"); //Lost of functionality may assume there's at least one domain so make sure we have one.
@@ -177,10 +178,18 @@ public class MockCloudFoundryClientFactory extends CloudFoundryClientFactory {
 			MockCFSpace space = getSpace();
 			return Flux.fromIterable(appsToLookUp)
 			.flatMap((app) -> {
-				return Mono.justOrEmpty(space.getApplication(app.getGuid()).getDetailedInfo());
+				MockCFApplication mockApp = space.getApplication(app.getGuid());
+				mockApp.detailsFetched();
+				return Mono.justOrEmpty(mockApp.getDetailedInfo());
 			});
 		}
 
+		@Override
+		public Map<UUID, String> getApplicationTimestamps() throws Exception {
+			checkConnection();
+			return getSpace().getApplicationTimestamps();
+		}
+
 		@Override
 		public Cancellation streamLogs(String appName, IApplicationLogConsole logConsole) throws Exception {
 			checkConnection();
@@ -263,7 +272,12 @@ public class MockCloudFoundryClientFactory extends CloudFoundryClientFactory {
 		@Override
 		public List<CFApplication> getApplicationsWithBasicInfo() throws Exception {
 			checkConnection();
-			return getSpace().getApplicationsWithBasicInfo();
+			MockCFSpace space = getSpace();
+			space.getAppListCount().increment();
+			if (appListDelay>0) {
+				Thread.sleep(appListDelay);
+			}
+			return space.getApplicationsWithBasicInfo();
 		}
 
 		@Override
@@ -490,6 +504,13 @@ public class MockCloudFoundryClientFactory extends CloudFoundryClientFactory {
 		return startDelay;
 	}
 
+	/**
+	 * Makes fetching the list of apps take a while, so that a refresh can be kept busy.
+	 */
+	public void setAppListDelay(TimeUnit timeUnit, int howMany) {
+		appListDelay = timeUnit.toMillis(howMany);
+	}
+
 	public void setApiVersion(String string) {
 		apiVersion = new Version(string);
 	}
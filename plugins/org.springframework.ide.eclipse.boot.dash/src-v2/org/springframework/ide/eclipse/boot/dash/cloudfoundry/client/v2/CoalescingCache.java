@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.cloudfoundry.client.v2;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Shares the results of requests for the same key.
+ * <p>
+ * A request made while an identical one is still in flight just waits for the result of
+ * the latter. A result is also handed out again to requests made shortly after it came in,
+ * how shortly is up to each request. Failed requests are forgotten right away, so they are
+ * retried by the next request.
+ * <p>
+ * Shared requests fail when they take longer than a given timeout, so that a request that
+ * hangs doesn't keep every later request for the same key waiting on it.
+ * <p>
+ * Results that have become stale because of something we changed ourselves should be
+ * removed with {@link #invalidate(Object)}. Results older than the largest max age asked
+ * for so far can't be handed out anymore and are dropped when requests are made.
+ */
+public class CoalescingCache<K, V> {
+
+	private class Request {
+		final K key;
+		final Mono<V> result;
+		volatile long completedAt = -1;
+
+		Request(K key, Mono<V> fetch) {
+			this.key = key;
+			this.result = fetch
+			.timeout(timeout)
+			.doOnTerminate((value, error) -> {
+				if (error==null) {
+					completedAt = System.currentTimeMillis();
+				} else {
+					forget(this);
+				}
+			})
+			.cache();
+		}
+
+		boolean isUsable(long now, Duration maxAge) {
+			return isUsable(now, maxAge.toMillis());
+		}
+
+		boolean isUsable(long now, long maxAgeMillis) {
+			return completedAt<0 || now - completedAt <= maxAgeMillis;
+		}
+	}
+
+	private final Map<K, Request> requests = new HashMap<>();
+	private final Duration timeout;
+	private long largestMaxAge = 0;
+	private long lastPruned = 0;
+
+	public CoalescingCache(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Get the value for a key, sharing it with other requests for the same key.
+	 *
+	 * @param maxAge How long ago the value may have been fetched. Use {@link Duration#ZERO} to only
+	 *          share requests that are still in flight.
+	 * @param fetch Creates the request that fetches the value, if there is none to share.
+	 */
+	public Mono<V> get(K key, Duration maxAge, Supplier<Mono<V>> fetch) {
+		return Mono.defer(() -> getRequest(key, maxAge, fetch).result);
+	}
+
+	/**
+	 * Forget about the value for a key. Requests made after this won't share anything
+	 * with the ones made before.
+	 */
+	public synchronized void invalidate(K key) {
+		requests.remove(key);
+	}
+
+	public synchronized void clear() {
+		requests.clear();
+	}
+
+	public synchronized int size() {
+		return requests.size();
+	}
+
+	private synchronized Request getRequest(K key, Duration maxAge, Supplier<Mono<V>> fetch) {
+		long now = System.currentTimeMillis();
+		largestMaxAge = Math.max(largestMaxAge, maxAge.toMillis());
+		if (now - lastPruned > largestMaxAge) {
+			//No request can use these anymore, unless it asks for a larger max age than any before.
+			requests.values().removeIf((r) -> !r.isUsable(now, largestMaxAge));
+			lastPruned = now;
+		}
+		Request request = requests.get(key);
+		if (request==null || !request.isUsable(now, maxAge)) {
+			request = new Request(key, fetch.get());
+			requests.put(key, request);
+		}
+		return request;
+	}
+
+	private synchronized void forget(Request request) {
+		requests.remove(request.key, request);
+	}
+
+}
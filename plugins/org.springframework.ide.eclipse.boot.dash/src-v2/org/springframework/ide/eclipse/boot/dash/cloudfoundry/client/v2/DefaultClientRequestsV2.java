@@ -25,7 +25,9 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.Metadata;
 import org.cloudfoundry.client.v2.applications.ApplicationEntity;
+import org.cloudfoundry.client.v2.applications.ApplicationResource;
 import org.cloudfoundry.client.v2.applications.CreateApplicationRequest;
 import org.cloudfoundry.client.v2.applications.GetApplicationResponse;
 import org.cloudfoundry.client.v2.applications.UpdateApplicationRequest;
@@ -38,6 +40,8 @@ import org.cloudfoundry.client.v2.domains.ListDomainsResponse;
 import org.cloudfoundry.client.v2.info.GetInfoRequest;
 import org.cloudfoundry.client.v2.info.GetInfoResponse;
 import org.cloudfoundry.client.v2.serviceinstances.DeleteServiceInstanceRequest;
+import org.cloudfoundry.client.v2.spaces.ListSpaceApplicationsRequest;
+import org.cloudfoundry.client.v2.spaces.ListSpaceApplicationsResponse;
 import org.cloudfoundry.client.v2.stacks.GetStackRequest;
 import org.cloudfoundry.client.v2.stacks.GetStackResponse;
 import org.cloudfoundry.client.v2.userprovidedserviceinstances.DeleteUserProvidedServiceInstanceRequest;
@@ -115,6 +119,25 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	private static final Duration GET_SPACES_TIMEOUT = Duration.ofSeconds(20);
 	private static final Duration GET_USERNAME_TIMEOUT = Duration.ofSeconds(5);
 
+	/**
+	 * Default for the maximum number of apps for which details are fetched at the same time.
+	 * Can be changed with the {@link #MAX_CONCURRENT_DETAIL_REQUESTS_PROPERTY} system property.
+	 */
+	private static final int MAX_CONCURRENT_DETAIL_REQUESTS = 10;
+	public static final String MAX_CONCURRENT_DETAIL_REQUESTS_PROPERTY = "sts.boot.dash.cf.maxConcurrentDetailRequests";
+
+	/**
+	 * How long details of an app fetched for a refresh are handed out again to other refreshes.
+	 */
+	private static final Duration APP_DETAILS_MAX_AGE = Duration.ofSeconds(3);
+
+	/**
+	 * Time after which a request for app details, which may be shared by several callers, fails.
+	 */
+	private static final Duration APP_DETAILS_TIMEOUT = Duration.ofSeconds(30);
+
+	private static final int MAX_RESULTS_PER_PAGE = 100;
+
 	private static final boolean DEBUG = (""+Platform.getLocation()).contains("kdvolder") || (""+Platform.getLocation()).contains("bamboo");
 //	private static final boolean DEBUG_REACTOR = false;//(""+Platform.getLocation()).contains("kdvolder")
 									//|| (""+Platform.getLocation()).contains("bamboo");
@@ -172,6 +195,9 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	private Mono<String> spaceId;
 	private AbstractUaaTokenProvider _tokenProvider;
 
+	private final int maxConcurrentDetailRequests = Math.max(1, Integer.getInteger(MAX_CONCURRENT_DETAIL_REQUESTS_PROPERTY, MAX_CONCURRENT_DETAIL_REQUESTS));
+	private final CoalescingCache<String, ApplicationDetail> applicationDetails = new CoalescingCache<>(APP_DETAILS_TIMEOUT);
+
 	public DefaultClientRequestsV2(CloudFoundryClientCache clients, CFClientParams params) {
 		this.params = params;
 		CFClientProvider provider = clients.getOrCreate(params.getUsername(), params.getCredentials(), params.getHost(), params.skipSslValidation());
@@ -230,6 +256,33 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 		return ReactorUtils.get(operations_listApps());
 	}
 
+	@Override
+	public Map<UUID, String> getApplicationTimestamps() throws Exception {
+		return ReactorUtils.get(
+			spaceId.flatMap(this::requestSpaceApplications)
+			.collectMap(
+				(app) -> UUID.fromString(app.getMetadata().getId()),
+				(app) -> {
+					Metadata metadata = app.getMetadata();
+					//Apps that were never updated have no 'updated_at'.
+					return metadata.getUpdatedAt()!=null ? metadata.getUpdatedAt() : metadata.getCreatedAt();
+				}
+			)
+			.map(ImmutableMap::copyOf)
+		);
+	}
+
+	/**
+	 * Lists the apps of the space through the client api, because the summary used by
+	 * {@link #getApplicationsWithBasicInfo()} has no 'updated_at'. Pages are requested at the
+	 * maximum size of 100 to keep the number of extra requests down.
+	 */
+	private Flux<ApplicationResource> requestSpaceApplications(String spaceId) {
+		return PaginationUtils.requestClientV2Resources((page) ->
+			client_listSpaceApplications(spaceId, page)
+		);
+	}
+
 	private ApplicationExtras getApplicationExtras(String appName) {
 		//Stuff used in computing the 'extras'...
 		Mono<UUID> appIdMono = getApplicationId(appName);
@@ -356,13 +409,13 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	public Flux<CFApplicationDetail> getApplicationDetails(List<CFApplication> appsToLookUp) throws Exception {
 		return Flux.fromIterable(appsToLookUp)
 		.flatMap((CFApplication appSummary) -> {
-			return getApplicationDetail(appSummary.getName())
+			return getApplicationDetail(appSummary.getName(), APP_DETAILS_MAX_AGE)
 			.otherwise((error) -> {
 				Log.log(ExceptionUtil.coreException("getting application details for '"+appSummary.getName()+"' failed", error));
 				return Mono.empty();
 			})
 			.map((ApplicationDetail appDetails) -> CFWrappingV2.wrap((CFApplicationSummaryData)appSummary, appDetails));
-		});
+		}, maxConcurrentDetailRequests);
 	}
 
 	@Override
@@ -448,12 +501,12 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	}
 
 	private Mono<Void> stopApp(String appName) {
-		return log("operations.applications.stop(name="+appName+")",
+		return invalidatingDetails(appName, log("operations.applications.stop(name="+appName+")",
 			_operations.applications().stop(StopApplicationRequest.builder()
 				.name(appName)
 				.build()
 			)
-		);
+		));
 	}
 
 	@Override
@@ -464,15 +517,16 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	}
 
 	private Mono<Void> restartApp(String appName) {
-		return log("operations.applications().restart(name="+appName+")",
+		return invalidatingDetails(appName, log("operations.applications().restart(name="+appName+")",
 			_operations.applications().restart(RestartApplicationRequest.builder()
 				.name(appName)
 				.build())
-		);
+		));
 	}
 
 	@Override
 	public void logout() {
+		applicationDetails.clear();
 		_operations = null;
 		_client = null;
 		if (_v1!=null) {
@@ -654,13 +708,13 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	@Override
 	public void deleteApplication(String appName) throws Exception {
 		ReactorUtils.get(
-			log("operations.applications().delete(name="+appName+")",
+			invalidatingDetails(appName, log("operations.applications().delete(name="+appName+")",
 				_operations.applications().delete(DeleteApplicationRequest
 					.builder()
 					.name(appName)
 					.build()
 				)
-			)
+			))
 		);
 	}
 
@@ -691,10 +745,10 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	public void push(CFPushArguments params, CancelationToken cancelationToken) throws Exception {
 		String appName = params.getAppName();
 		ReactorUtils.get(APP_START_TIMEOUT, cancelationToken,
-			ifApplicationExists(appName,
+			invalidatingDetails(appName, ifApplicationExists(appName,
 				((app) -> pushExisting(app, params)),
 				firstPush(params)
-			)
+			))
 		);
 	}
 
@@ -702,7 +756,7 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 		String appName = params.getAppName();
 		UUID appId = UUID.fromString(app.getId());
 		return updateApp(appId, params)
-		.then(getApplicationDetail(appName))
+		.then(fetchApplicationDetail(appName))
 		.then((appDetail) -> {
 			return Flux.merge(
 				setRoutes(appDetail, params.getRoutes()),
@@ -746,7 +800,7 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	private Mono<Void> firstPush(CFPushArguments params) {
 		String appName = params.getAppName();
 		return createApp(params)
-		.then(getApplicationDetail(appName))
+		.then(fetchApplicationDetail(appName))
 		.then((appDetail) ->
 			Flux.merge(
 				setRoutes(appDetail, params.getRoutes()),
@@ -859,6 +913,18 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 //	}
 
 	private Mono<ApplicationDetail> getApplicationDetail(String appName) {
+		return getApplicationDetail(appName, Duration.ZERO);
+	}
+
+	/**
+	 * Get details of an app, sharing the request with other requests for the same app that
+	 * are in flight, or that completed at most maxAge ago.
+	 */
+	private Mono<ApplicationDetail> getApplicationDetail(String appName, Duration maxAge) {
+		return applicationDetails.get(appName, maxAge, () -> fetchApplicationDetail(appName));
+	}
+
+	private Mono<ApplicationDetail> fetchApplicationDetail(String appName) {
 		return log("operations.applications.get(name="+appName+")",
 			_operations.applications().get(GetApplicationRequest.builder()
 				.name(appName)
@@ -881,8 +947,9 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 	}
 
 	public Mono<Void> setRoutes(String appName, Collection<String> desiredUrls) {
-		return getApplicationDetail(appName)
-		.then(appDetails -> setRoutes(appDetails, desiredUrls));
+		return invalidatingDetails(appName, fetchApplicationDetail(appName)
+			.then(appDetails -> setRoutes(appDetails, desiredUrls))
+		);
 	}
 
 	private Mono<Void> mapDesiredRoutes(ApplicationDetail appDetail, Collection<String> desiredUrls) {
@@ -1112,13 +1179,23 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 
 
 	protected Mono<Void> startApp(String appName) {
-		return log("operations.applications.start(name="+appName+")",
+		return invalidatingDetails(appName, log("operations.applications.start(name="+appName+")",
 			_operations.applications()
 			.start(StartApplicationRequest.builder()
 				.name(appName)
 				.build()
 			)
-		);
+		));
+	}
+
+	/**
+	 * Forget cached details of an app when an operation that changes it terminates or is
+	 * canceled. Details requested while it was running may or may not reflect the change.
+	 */
+	private Mono<Void> invalidatingDetails(String appName, Mono<Void> operation) {
+		return operation
+		.doOnTerminate((ignore, error) -> applicationDetails.invalidate(appName))
+		.doOnCancel(() -> applicationDetails.invalidate(appName));
 	}
 
 	private Mono<UUID> getApplicationId(String appName) {
@@ -1313,6 +1390,17 @@ public class DefaultClientRequestsV2 implements ClientRequests {
 		);
 	}
 
+	private Mono<ListSpaceApplicationsResponse> client_listSpaceApplications(String spaceId, Integer page) {
+		return log("client.spaces.listApplications(id="+spaceId+", page="+page+")",
+			_client.spaces().listApplications(ListSpaceApplicationsRequest.builder()
+				.spaceId(spaceId)
+				.page(page)
+				.resultsPerPage(MAX_RESULTS_PER_PAGE)
+				.build()
+			)
+		);
+	}
+
 	private Mono<GetStackResponse> client_getStack(String stackId) {
 		return log("client.stacks.get(id="+stackId+")",
 			_client.stacks().get(GetStackRequest.builder()
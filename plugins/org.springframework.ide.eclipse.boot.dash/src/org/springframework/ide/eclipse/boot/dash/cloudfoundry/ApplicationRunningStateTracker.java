@@ -32,6 +32,12 @@ public class ApplicationRunningStateTracker {
 
 	public static final long WAIT_TIME = 1000;
 
+	/**
+	 * The time between polls grows from WAIT_TIME up to this, so that apps that take long to start
+	 * don't cause as many requests.
+	 */
+	public static final long MAX_WAIT_TIME = 5000;
+
 	private final ClientRequests requests;
 
 	private final String appName;
@@ -95,6 +101,9 @@ public class ApplicationRunningStateTracker {
 		// Get the guid, as it is more efficient for lookup
 		//UUID appGuid = app.getGuid();
 
+		runState = getRunState(app.getInstanceDetails());
+		long waitTime = WAIT_TIME;
+
 		while (runState != RunState.RUNNING && runState != RunState.FLAPPING && runState != RunState.CRASHED
 				&& currentTime < totalTime) {
 			int timeLeft = (int) ((totalTime - currentTime) / 1000);
@@ -106,12 +115,12 @@ public class ApplicationRunningStateTracker {
 
 			monitor.worked(1);
 
-			runState = getRunState(app.getInstanceDetails());
 			try {
-				Thread.sleep(WAIT_TIME);
+				Thread.sleep(Math.min(waitTime, totalTime - currentTime));
 			} catch (InterruptedException e) {
 
 			}
+			waitTime = Math.min(waitTime * 3 / 2, MAX_WAIT_TIME);
 
 			app = requests.getApplication(app.getName());
 			// App no longer exists
@@ -119,6 +128,7 @@ public class ApplicationRunningStateTracker {
 				throw new OperationCanceledException();
 			}
 
+			runState = getRunState(app.getInstanceDetails());
 			currentTime = System.currentTimeMillis();
 		}
 
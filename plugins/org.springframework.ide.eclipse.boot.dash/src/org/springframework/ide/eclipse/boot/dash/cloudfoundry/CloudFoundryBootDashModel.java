@@ -68,6 +68,7 @@ import org.springframework.ide.eclipse.boot.dash.cloudfoundry.ops.JobBody;
 import org.springframework.ide.eclipse.boot.dash.cloudfoundry.ops.Operation;
 import org.springframework.ide.eclipse.boot.dash.cloudfoundry.ops.OperationsExecution;
 import org.springframework.ide.eclipse.boot.dash.cloudfoundry.ops.ProjectsDeployer;
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.ops.SyncedApplications;
 import org.springframework.ide.eclipse.boot.dash.cloudfoundry.ops.TargetApplicationsRefreshOperation;
 import org.springframework.ide.eclipse.boot.dash.cloudfoundry.packaging.CloudApplicationArchiverStrategies;
 import org.springframework.ide.eclipse.boot.dash.cloudfoundry.packaging.CloudApplicationArchiverStrategy;
@@ -275,6 +276,8 @@ public class CloudFoundryBootDashModel extends AbstractBootDashModel implements
 		}
 	};
 
+	private final SyncedApplications syncedApplications = new SyncedApplications();
+
 	private DisposingFactory<BootDashElement, LiveExpression<URI>> actuatorUrlFactory;
 
 
@@ -537,6 +540,13 @@ public class CloudFoundryBootDashModel extends AbstractBootDashModel implements
 	}
 
 
+	/**
+	 * @return What is known about the applications whose details were last fetched by a refresh.
+	 */
+	public SyncedApplications getSyncedApplications() {
+		return syncedApplications;
+	}
+
 	public OperationsExecution getOperationsExecution() {
 		return new OperationsExecution(this);
 	}
@@ -58,6 +58,14 @@ public interface ClientRequests {
 	void stopApplication(String appName) throws Exception;
 	Cancellation streamLogs(String appName, IApplicationLogConsole logConsole) throws Exception;
 	Flux<CFApplicationDetail> getApplicationDetails(List<CFApplication> appsToLookUp) throws Exception;
+
+	/**
+	 * Gets the 'updated_at' timestamp of each application in the space, keyed by app guid. This
+	 * changes whenever the application is updated, so it can be used to decide whether details
+	 * of an app need to be fetched again. Apps for which it isn't known may be left out.
+	 */
+	Map<UUID, String> getApplicationTimestamps() throws Exception;
+
 	String getHealthCheck(UUID appGuid) throws Exception;
 	void setHealthCheck(UUID guid, String hcType) throws Exception;
 	boolean applicationExists(String appName) throws Exception;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,17 +10,44 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.dash.cloudfoundry.client.v1;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.cloudfoundry.client.lib.archive.ZipApplicationArchive;
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.packaging.ZipEntryDigestCache;
 
+/**
+ * Archive uploaded to Cloud Foundry. The client first asks Cloud Foundry which of the entries
+ * it already knows (by their SHA-1) and then only uploads the others. The digests are taken
+ * from a {@link ZipEntryDigestCache} so that unchanged entries don't have to be read again
+ * on every push.
+ */
 public class CloudZipApplicationArchive extends ZipApplicationArchive {
 
 	protected final ZipFile zipFile;
+	private final ZipEntryDigestCache digests;
 
 	public CloudZipApplicationArchive(ZipFile zipFile) {
+		this(zipFile, ZipEntryDigestCache.DEFAULT);
+	}
+
+	public CloudZipApplicationArchive(ZipFile zipFile, ZipEntryDigestCache digests) {
 		super(zipFile);
 		this.zipFile = zipFile;
+		this.digests = digests;
+	}
+
+	@Override
+	public Iterable<Entry> getEntries() {
+		List<Entry> entries = new ArrayList<>();
+		for (Entry entry : super.getEntries()) {
+			entries.add(new CachedDigestEntry(entry));
+		}
+		return entries;
 	}
 
 	public void close() throws Exception {
@@ -28,4 +55,51 @@ public class CloudZipApplicationArchive extends ZipApplicationArchive {
 			zipFile.close();
 		}
 	}
+
+	private class CachedDigestEntry implements Entry {
+
+		private final Entry entry;
+		private byte[] sha1;
+
+		CachedDigestEntry(Entry entry) {
+			this.entry = entry;
+		}
+
+		@Override
+		public boolean isDirectory() {
+			return entry.isDirectory();
+		}
+
+		@Override
+		public String getName() {
+			return entry.getName();
+		}
+
+		@Override
+		public long getSize() {
+			return entry.getSize();
+		}
+
+		@Override
+		public synchronized byte[] getSha1Digest() {
+			if (sha1==null) {
+				ZipEntry zipEntry = zipFile.getEntry(entry.getName());
+				if (zipEntry==null || zipEntry.isDirectory()) {
+					sha1 = entry.getSha1Digest();
+				} else {
+					try {
+						sha1 = digests.getSha1Digest(zipFile, zipEntry);
+					} catch (IOException e) {
+						throw new IllegalStateException(e);
+					}
+				}
+			}
+			return sha1;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return entry.getInputStream();
+		}
+	}
 }
@@ -11,7 +11,10 @@
 package org.springframework.ide.eclipse.boot.dash.cloudfoundry.ops;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -19,34 +22,56 @@ import org.springframework.ide.eclipse.boot.dash.cloudfoundry.CloudFoundryBootDa
 import org.springframework.ide.eclipse.boot.dash.cloudfoundry.client.CFApplication;
 import org.springframework.ide.eclipse.boot.dash.cloudfoundry.client.CFApplicationDetail;
 import org.springframework.ide.eclipse.boot.dash.model.RefreshState;
-import org.springsource.ide.eclipse.commons.livexp.core.LiveVariable;
 
-import reactor.core.publisher.Flux;
+import com.google.common.collect.ImmutableMap;
 
 /**
  * Refreshes the application instances.
  * <p/>
  * This will indirectly refresh the application running state as the running
  * state of an app is resolved from the number of running instances
- *
+ * <p/>
+ * When the 'updated_at' timestamps of the apps are known, only the apps that
+ * changed since their details were last fetched are looked up (see {@link SyncedApplications}).
  */
 public class AppInstancesRefreshOperation extends CloudOperation {
 
 	private List<CFApplication> appsToLookUp;
+	private Map<UUID, String> timestamps;
 
 	public AppInstancesRefreshOperation(CloudFoundryBootDashModel model, List<CFApplication> appsToLookUp) {
+		this(model, appsToLookUp, ImmutableMap.of());
+	}
+
+	/**
+	 * @param timestamps The 'updated_at' timestamps of the apps, by guid.
+	 */
+	public AppInstancesRefreshOperation(CloudFoundryBootDashModel model, List<CFApplication> appsToLookUp, Map<UUID, String> timestamps) {
 		super("Refreshing running state of applications in: " + model.getRunTarget().getName(), model);
 		this.appsToLookUp = appsToLookUp;
+		this.timestamps = timestamps;
 	}
 
 	@Override
 	protected void doCloudOp(IProgressMonitor monitor) throws Exception {
 		this.model.setBaseRefreshState(RefreshState.loading("Fetching App Instances..."));
 		try {
-			if (!appsToLookUp.isEmpty()) {
+			SyncedApplications synced = model.getSyncedApplications();
+			List<CFApplication> changed = synced.getChanged(model, appsToLookUp, timestamps);
+			if (!changed.isEmpty()) {
+				Map<UUID, CFApplication> summaries = new HashMap<>();
+				for (CFApplication app : changed) {
+					summaries.put(app.getGuid(), app);
+				}
 				Duration timeToWait = Duration.ofSeconds(30);
-				model.getRunTarget().getClient().getApplicationDetails(appsToLookUp)
-				.doOnNext(this.model::updateApplication)
+				model.getRunTarget().getClient().getApplicationDetails(changed)
+				.doOnNext((CFApplicationDetail details) -> {
+					this.model.updateApplication(details);
+					CFApplication summary = summaries.get(details.getGuid());
+					if (summary!=null) {
+						synced.setSynced(summary, timestamps);
+					}
+				})
 				.then()
 				.block(timeToWait);
 			}
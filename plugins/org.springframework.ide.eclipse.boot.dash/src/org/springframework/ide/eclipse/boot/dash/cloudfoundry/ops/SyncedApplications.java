@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.cloudfoundry.ops;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.CloudAppDashElement;
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.CloudFoundryBootDashModel;
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.client.CFApplication;
+import org.springframework.ide.eclipse.boot.dash.cloudfoundry.client.CFApplicationDetail;
+
+/**
+ * Remembers which version of each application the details shown in a {@link CloudFoundryBootDashModel}
+ * were fetched for, so that a refresh only needs to fetch details of the apps that changed since.
+ * <p>
+ * The version of an app is made up of the 'updated_at' timestamp Cloud Foundry keeps for it,
+ * together with the instance counts and state from its summary. The latter change when instances
+ * start or crash, which doesn't update the timestamp. As some changes (e.g. binding a service)
+ * change neither, details are fetched again anyway once they are older than {@link #MAX_AGE}.
+ * <p>
+ * It also keeps track of requests to refresh the list of applications, so that requests which
+ * pile up while a refresh is running are handled by a single refresh afterwards.
+ */
+public class SyncedApplications {
+
+	public static final long MAX_AGE = 5 * 60 * 1000;
+
+	private static class Synced {
+		final String version;
+		final long time;
+		Synced(String version, long time) {
+			this.version = version;
+			this.time = time;
+		}
+	}
+
+	private final Map<UUID, Synced> synced = new ConcurrentHashMap<>();
+
+	private final AtomicLong refreshRequests = new AtomicLong();
+	private final AtomicLong refreshedRequests = new AtomicLong();
+
+	/**
+	 * @return An id for a new request to refresh the list of applications.
+	 */
+	public long requestRefresh() {
+		return refreshRequests.incrementAndGet();
+	}
+
+	/**
+	 * @return Whether the request with the given id isn't handled yet by a refresh that started after it was made.
+	 */
+	public boolean isRefreshNeeded(long request) {
+		return request > refreshedRequests.get();
+	}
+
+	/**
+	 * Call when a refresh starts.
+	 *
+	 * @return The id of the last request this refresh handles, to be passed to {@link #refreshDone(long)}.
+	 */
+	public long refreshStarting() {
+		return refreshRequests.get();
+	}
+
+	public void refreshDone(long lastRequest) {
+		refreshedRequests.accumulateAndGet(lastRequest, Math::max);
+	}
+
+	/**
+	 * Apps that are no longer in the list are forgotten.
+	 *
+	 * @param apps All the apps in the space.
+	 * @param timestamps The 'updated_at' timestamp of each app, by guid.
+	 * @return The apps whose details need to be fetched.
+	 */
+	public List<CFApplication> getChanged(CloudFoundryBootDashModel model, List<CFApplication> apps, Map<UUID, String> timestamps) {
+		long now = System.currentTimeMillis();
+		List<CFApplication> changed = new ArrayList<>();
+		Set<UUID> seen = new HashSet<>();
+		for (CFApplication app : apps) {
+			seen.add(app.getGuid());
+			Synced s = synced.get(app.getGuid());
+			if (s==null || now - s.time >= MAX_AGE || !s.version.equals(getVersion(app, timestamps)) || !hasDetails(model, app)) {
+				changed.add(app);
+			}
+		}
+		synced.keySet().retainAll(seen);
+		return changed;
+	}
+
+	/**
+	 * Record that details were fetched for the version of an app found in a refresh.
+	 */
+	public void setSynced(CFApplication app, Map<UUID, String> timestamps) {
+		String version = getVersion(app, timestamps);
+		if (version!=null) {
+			synced.put(app.getGuid(), new Synced(version, System.currentTimeMillis()));
+		}
+	}
+
+	/**
+	 * @return Whether details fetched for the app with the given guid are remembered.
+	 */
+	public boolean isSynced(UUID guid) {
+		return synced.containsKey(guid);
+	}
+
+	public void clear() {
+		synced.clear();
+	}
+
+	/**
+	 * @return The version of the app, or null if the timestamp of the app is unknown.
+	 */
+	private static String getVersion(CFApplication app, Map<UUID, String> timestamps) {
+		String timestamp = timestamps.get(app.getGuid());
+		if (timestamp==null) {
+			return null;
+		}
+		return timestamp + "/" + app.getState() + "/" + app.getInstances() + "/" + app.getRunningInstances();
+	}
+
+	private static boolean hasDetails(CloudFoundryBootDashModel model, CFApplication app) {
+		CloudAppDashElement element = model.getApplication(app.getName());
+		return element!=null && element.getSummaryData() instanceof CFApplicationDetail;
+	}
+
+}
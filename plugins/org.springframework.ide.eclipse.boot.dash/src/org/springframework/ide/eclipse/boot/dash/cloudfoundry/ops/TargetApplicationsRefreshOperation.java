@@ -12,6 +12,9 @@ package org.springframework.ide.eclipse.boot.dash.cloudfoundry.ops;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
@@ -20,9 +23,11 @@ import org.springframework.ide.eclipse.boot.dash.cloudfoundry.CloudFoundryBootDa
 import org.springframework.ide.eclipse.boot.dash.cloudfoundry.client.CFApplication;
 import org.springframework.ide.eclipse.boot.dash.model.RefreshState;
 import org.springframework.ide.eclipse.boot.dash.model.UserInteractions;
+import org.springframework.ide.eclipse.boot.util.Log;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
+import com.google.common.collect.ImmutableMap;
 
 /**
  * This performs a "two-tier" refresh as fetching list of
@@ -36,20 +41,30 @@ import com.google.common.collect.ImmutableList.Builder;
  * <p/>
  * It also launches a separate refresh job that may take longer to complete
  * which is fetching instances and app running state.
+ * <p/>
+ * Requests to refresh that are made while an earlier refresh is waiting to run
+ * are handled by that refresh; operations created for such requests do nothing.
  *
  * @see AppInstancesRefreshOperation
  */
 public final class TargetApplicationsRefreshOperation extends CloudOperation {
 
 	private UserInteractions ui;
+	private final long request;
 
 	public TargetApplicationsRefreshOperation(CloudFoundryBootDashModel model, UserInteractions ui) {
 		super("Refreshing list of Cloud applications for: " + model.getRunTarget().getName(), model);
 		this.ui = ui;
+		this.request = model.getSyncedApplications().requestRefresh();
 	}
 
 	@Override
 	synchronized protected void doCloudOp(IProgressMonitor monitor) throws Exception {
+		SyncedApplications synced = model.getSyncedApplications();
+		if (!synced.isRefreshNeeded(request)) {
+			return;
+		}
+		long lastRequest = synced.refreshStarting();
 		if (model.getRunTarget().isConnected()) {
 			model.setBaseRefreshState(RefreshState.loading("Fetching Apps..."));
 			for (CloudAppDashElement app : model.getApplicationValues()) {
@@ -57,6 +72,9 @@ public final class TargetApplicationsRefreshOperation extends CloudOperation {
 			}
 			try {
 
+				// The timestamps need a listing of their own, which runs while the basic list is fetched.
+				CompletableFuture<Map<UUID, String>> timestamps = CompletableFuture.supplyAsync(this::getTimestamps);
+
 				// 1. Fetch basic list of applications. Should be the "faster" of
 				// the
 				// two refresh operations
@@ -64,19 +82,41 @@ public final class TargetApplicationsRefreshOperation extends CloudOperation {
 				List<CFApplication> apps = model.getRunTarget().getClient().getApplicationsWithBasicInfo();
 				this.model.updateAppNames(getNames(apps));
 
-				// 2. Launch the slower app stats/instances refresh operation.
-				this.model.runAsynch(new AppInstancesRefreshOperation(this.model, apps), ui);
+				// 2. Launch the slower app stats/instances refresh operation. It only fetches
+				// the apps that changed since the last refresh.
+				this.model.runAsynch(new AppInstancesRefreshOperation(this.model, apps, timestamps.get()), ui);
 				model.setBaseRefreshState(RefreshState.READY);
+				synced.refreshDone(lastRequest);
 			} catch (Exception e) {
 				/*
 				 * Failed to obtain applications list from CF
 				 */
+				synced.clear();
 				model.updateElements(null);
 				model.setBaseRefreshState(RefreshState.error(e));
 				throw e;
 			}
 		} else {
+			synced.clear();
 			model.updateElements(null);
+			synced.refreshDone(lastRequest);
+		}
+	}
+
+	/**
+	 * The basic list of apps comes from the space summary, which has no 'updated_at', so the timestamps
+	 * cost an extra paginated listing of the space's apps. That is one request per 100 apps, against one
+	 * or more requests per app for fetching details of apps that didn't change.
+	 *
+	 * @return The 'updated_at' timestamps of the apps, or an empty map if they can't be determined, in which
+	 *         case the details of all apps are fetched.
+	 */
+	private Map<UUID, String> getTimestamps() {
+		try {
+			return model.getRunTarget().getClient().getApplicationTimestamps();
+		} catch (Exception e) {
+			Log.log(e);
+			return ImmutableMap.of();
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,14 +10,30 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.dash.cloudfoundry.packaging;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IProject;
@@ -29,9 +45,9 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.springframework.boot.loader.tools.JarWriter;
-import org.springframework.boot.loader.tools.Libraries;
+import org.springframework.boot.loader.tools.Layout;
+import org.springframework.boot.loader.tools.Layouts;
 import org.springframework.boot.loader.tools.Library;
-import org.springframework.boot.loader.tools.LibraryCallback;
 import org.springframework.boot.loader.tools.LibraryScope;
 import org.springframework.boot.loader.tools.Repackager;
 import org.springframework.ide.eclipse.boot.core.ISpringBootProject;
@@ -120,6 +136,8 @@ public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationAr
 
 
 	private static final File[] NO_FILES = new File[]{};
+	private static final String MANIFEST_NAME = "META-INF/MANIFEST.MF";
+	private static final byte[] ZIP_HEADER = { 0x50, 0x4b, 0x03, 0x04 };
 
 	private static class Archiver implements ICloudApplicationArchiver {
 
@@ -157,11 +175,19 @@ public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationAr
 		public File getApplicationArchive(IProgressMonitor mon) throws Exception {
 			SplitClasspath classpath = getRuntimeClasspath();
 			File tempFolder = getTempFolder();
-			File baseJar = new File(tempFolder, jp.getElementName()+".original.jar");
 			File repackagedJar = new File(tempFolder, jp.getElementName()+".repackaged.jar");
-
-			createBaseJar(classpath.projectContents, baseJar);
-			repackage(baseJar, classpath.dependencies, repackagedJar);
+			List<File> tempJars = new ArrayList<>();
+			ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+			try {
+				List<Future<Library>> libraries = createLibraries(classpath.dependencies, executor, tempJars);
+				writeBootJar(classpath.projectContents, libraries, repackagedJar);
+			} finally {
+				executor.shutdownNow();
+				executor.awaitTermination(1, TimeUnit.MINUTES);
+				for (File tempJar : tempJars) {
+					tempJar.delete();
+				}
+			}
 			return repackagedJar;
 		}
 
@@ -169,74 +195,188 @@ public class CloudApplicationArchiverStrategyAsJar implements CloudApplicationAr
 			if (_tempFolder==null) {
 				_tempFolder = FileUtil.getTempFolder(TEMP_FOLDER_NAME);
 			}
-			// TODO Auto-generated method stub
 			return _tempFolder;
 		}
 
-		private void createBaseJar(List<File> projectContents, File baseJar) throws FileNotFoundException, IOException {
-			JarWriter jarWriter = new JarWriter(baseJar);
+		/**
+		 * Writes the executable jar in a single pass, in the same layout as the boot {@link Repackager}
+		 * produces but without first writing the project contents into a separate jar that the
+		 * repackager then has to read again.
+		 */
+		private void writeBootJar(List<File> projectContents, List<Future<Library>> libraries, File jarFile) throws Exception {
+			Layout layout = new Layouts.Jar();
+			JarWriter jarWriter = new JarWriter(jarFile);
+			//Entries already written from the output folders. Like the jar writer, the first one wins.
+			Set<String> written = new HashSet<>();
+			written.add(MANIFEST_NAME);
 			try {
+				jarWriter.writeManifest(createManifest(layout, projectContents));
+				for (Future<Library> future : libraries) {
+					Library library = getResult(future);
+					if (library!=null) {
+						//Nested libraries are written uncompressed, as the boot loader requires.
+						jarWriter.writeNestedLibrary(layout.getLibraryDestination(library.getName(), library.getScope()), library);
+					}
+				}
 				for (File outputFolder : projectContents) {
-					writeFolder(jarWriter, outputFolder);
+					writeFolder(jarWriter, outputFolder, written);
 				}
+				jarWriter.writeLoaderClasses();
 			} finally {
 				jarWriter.close();
 			}
 		}
 
-		private void writeFolder(JarWriter jarWriter, File baseFolder) throws FileNotFoundException, IOException {
+		/**
+		 * Creates the manifest the way the {@link Repackager} does: the project's own manifest, if it has one
+		 * (e.g. generated by m2e), with the boot launcher and the main type added.
+		 */
+		private Manifest createManifest(Layout layout, List<File> projectContents) throws IOException {
+			Manifest manifest = null;
+			for (File outputFolder : projectContents) {
+				File file = new File(outputFolder, MANIFEST_NAME);
+				if (file.isFile()) {
+					try (InputStream in = new FileInputStream(file)) {
+						manifest = new Manifest(in);
+					}
+					break;
+				}
+			}
+			if (manifest==null) {
+				manifest = new Manifest();
+				manifest.getMainAttributes().putValue("Manifest-Version", "1.0");
+			}
+			Attributes attributes = manifest.getMainAttributes();
+			attributes.putValue("Main-Class", layout.getLauncherClassName());
+			attributes.putValue("Start-Class", mainType.getFullyQualifiedName());
+			attributes.putValue("Spring-Boot-Version", Repackager.class.getPackage().getImplementationVersion());
+			return manifest;
+		}
+
+		/**
+		 * Turns the dependencies into libraries. Dependencies that are folders (i.e. output folders of other
+		 * projects in the workspace) are first packaged as temporary jars, which are added to tempJars.
+		 * This is done in parallel, using the executor.
+		 *
+		 * @return A future for each dependency, in classpath order. The result is null for
+		 *         dependencies that aren't jars or folders.
+		 */
+		private List<Future<Library>> createLibraries(List<File> dependencies, ExecutorService executor, List<File> tempJars) throws IOException {
+			List<Future<Library>> libraries = new ArrayList<>(dependencies.size());
+			for (final File dep : dependencies) {
+				if (dep.isFile()) {
+					Library library = isZip(dep) ? new Library(jarNames.createName(dep), dep, LibraryScope.COMPILE, false) : null;
+					libraries.add(CompletableFuture.completedFuture(library));
+				} else if (dep.isDirectory()) {
+					final String jarName = jarNames.createName(dep);
+					final File jarFile = new File(getTempFolder(), jarName);
+					tempJars.add(jarFile);
+					libraries.add(executor.submit(new Callable<Library>() {
+						@Override
+						public Library call() throws Exception {
+							createFolderJar(dep, jarFile);
+							return new Library(jarName, jarFile, LibraryScope.COMPILE, false);
+						}
+					}));
+				} else {
+					libraries.add(CompletableFuture.<Library>completedFuture(null));
+				}
+			}
+			return libraries;
+		}
+
+		private static Library getResult(Future<Library> future) throws Exception {
+			try {
+				return future.get();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				throw cause instanceof Exception ? (Exception) cause : e;
+			}
+		}
+
+		private static boolean isZip(File file) {
+			try (InputStream in = new FileInputStream(file)) {
+				for (byte b : ZIP_HEADER) {
+					if (in.read()!=b) {
+						return false;
+					}
+				}
+				return true;
+			} catch (IOException e) {
+				return false;
+			}
+		}
+
+		/**
+		 * Packages the contents of a folder as a jar. The entries keep the modification times of the files,
+		 * so that packaging an unchanged folder again produces the exact same jar, which Cloud Foundry
+		 * then doesn't need to be sent again.
+		 */
+		private static void createFolderJar(File folder, File jarFile) throws IOException {
+			try (JarOutputStream out = new JarOutputStream(new BufferedOutputStream(new FileOutputStream(jarFile)))) {
+				for (String name : sorted(folder.list())) {
+					writeJarEntry(out, folder, name);
+				}
+			}
+		}
+
+		private static void writeJarEntry(JarOutputStream out, File baseFolder, String relativePath) throws IOException {
+			File file = new File(baseFolder, relativePath);
+			if (file.isDirectory()) {
+				JarEntry entry = new JarEntry(relativePath+"/");
+				entry.setTime(file.lastModified());
+				out.putNextEntry(entry);
+				out.closeEntry();
+				for (String name : sorted(file.list())) {
+					writeJarEntry(out, baseFolder, pathJoin(relativePath, name));
+				}
+			} else if (file.isFile()) {
+				JarEntry entry = new JarEntry(relativePath);
+				entry.setTime(file.lastModified());
+				out.putNextEntry(entry);
+				Files.copy(file.toPath(), out);
+				out.closeEntry();
+			}
+		}
+
+		private static String[] sorted(String[] names) {
+			if (names==null) {
+				return new String[0];
+			}
+			Arrays.sort(names);
+			return names;
+		}
+
+		private void writeFolder(JarWriter jarWriter, File baseFolder, Set<String> written) throws FileNotFoundException, IOException {
 			for (String name : baseFolder.list()) {
-				write(jarWriter, baseFolder, name);
+				write(jarWriter, baseFolder, name, written);
 			}
 		}
 
-		private void write(JarWriter jarWriter, File baseFolder, String relativePath) throws FileNotFoundException, IOException {
+		private void write(JarWriter jarWriter, File baseFolder, String relativePath, Set<String> written) throws FileNotFoundException, IOException {
 			debug("Writing: "+relativePath + " from "+baseFolder);
 			File file = new File(baseFolder, relativePath);
 			if (file.isDirectory()) {
 				debug("Folder");
 				for (String name : file.list()) {
-					write(jarWriter, baseFolder, pathJoin(relativePath, name));
+					write(jarWriter, baseFolder, pathJoin(relativePath, name), written);
 				}
 			} else if (file.isFile()) {
 				debug("File");
-				jarWriter.writeEntry(relativePath, new FileInputStream(file));
+				if (written.add(relativePath)) {
+					//The jar writer closes the stream, but only of entries it doesn't skip as duplicates.
+					jarWriter.writeEntry(relativePath, new FileInputStream(file));
+				} else {
+					debug("Skipped duplicate");
+				}
 			} else {
 				debug("Huh?");
 			}
 		}
 
-		private String pathJoin(String relativePath, String name) {
+		private static String pathJoin(String relativePath, String name) {
 			return relativePath + "/" +name;
 		}
-
-		private void repackage(File baseJar, List<File> dependencies, File repackagedJar) throws IOException {
-			Repackager repackager = new Repackager(baseJar);
-			repackager.setMainClass(mainType.getFullyQualifiedName());
-			repackager.repackage(repackagedJar, asLibraries(dependencies));
-		}
-
-		private Libraries asLibraries(final List<File> dependencies) {
-			return new Libraries() {
-				public void doWithLibraries(LibraryCallback callback) throws IOException {
-					for (File dep : dependencies) {
-						if (dep.isFile()) {
-							callback.library(new Library(jarNames.createName(dep), dep, LibraryScope.COMPILE, false));
-						} else if (dep.isDirectory()) {
-							String jarName = jarNames.createName(dep);
-							File jarFile = new File(getTempFolder(), jarName);
-							JarWriter jarWriter = new JarWriter(jarFile);
-							try {
-								writeFolder(jarWriter, dep);
-							} finally {
-								jarWriter.close();
-							}
-							callback.library(new Library(jarName, jarFile, LibraryScope.COMPILE, false));
-						}
-					}
-				}
-			};
-		}
 	}
 
 	private SpringBootCore springBootCore = SpringBootCore.getDefault();
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.dash.cloudfoundry.packaging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Remembers the SHA-1 digests of the entries of application archives between pushes.
+ * <p>
+ * Cloud Foundry's resource matching needs the SHA-1 of every entry in the archive, but the
+ * archive is rebuilt for every push and most of its entries (typically the nested jars of a
+ * fat jar) are the same as last time. The size, CRC-32 and time of an entry are recorded
+ * in the zip directory, so they can be used to recognize unchanged entries without
+ * decompressing them.
+ */
+public class ZipEntryDigestCache {
+
+	public static final ZipEntryDigestCache DEFAULT = new ZipEntryDigestCache(20000);
+
+	private final Map<ImmutableList<Object>, byte[]> digests;
+
+	private long hits = 0;
+	private long misses = 0;
+
+	public ZipEntryDigestCache(final int maxSize) {
+		this.digests = new LinkedHashMap<ImmutableList<Object>, byte[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ImmutableList<Object>, byte[]> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Get the SHA-1 digest of the contents of an entry, only reading the entry if an entry
+	 * with the same name, size, CRC-32 and time wasn't digested before.
+	 */
+	public byte[] getSha1Digest(ZipFile zip, ZipEntry entry) throws IOException {
+		ImmutableList<Object> key = keyFor(entry);
+		if (key!=null) {
+			synchronized (this) {
+				byte[] digest = digests.get(key);
+				if (digest!=null) {
+					hits++;
+					return digest.clone();
+				}
+				misses++;
+			}
+		}
+		byte[] digest = computeSha1Digest(zip, entry);
+		if (key!=null) {
+			synchronized (this) {
+				digests.put(key, digest.clone());
+			}
+		}
+		return digest;
+	}
+
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	public synchronized void clear() {
+		digests.clear();
+	}
+
+	/**
+	 * @return A key for the entry, or null if the zip directory doesn't tell enough about it.
+	 */
+	private static ImmutableList<Object> keyFor(ZipEntry entry) {
+		long size = entry.getSize();
+		long crc = entry.getCrc();
+		if (size<0 || crc<0) {
+			return null;
+		}
+		return ImmutableList.<Object>of(entry.getName(), size, crc, entry.getTime());
+	}
+
+	private static byte[] computeSha1Digest(ZipFile zip, ZipEntry entry) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		byte[] buffer = new byte[8192];
+		try (InputStream in = zip.getInputStream(entry)) {
+			int read;
+			while ((read = in.read(buffer)) >= 0) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return digest.digest();
+	}
+
+}
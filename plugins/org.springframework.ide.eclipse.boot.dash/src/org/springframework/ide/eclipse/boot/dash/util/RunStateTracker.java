@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal Software, Inc.
+ * Copyright (c) 2015, 2016 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -155,7 +155,7 @@ public abstract class RunStateTracker<T> extends ProcessListenerAdapter implemen
 		try {
 			if (BootLaunchConfigurationDelegate.canUseLifeCycle(l)) {
 				Provider<Integer> jmxPort = () -> BootLaunchConfigurationDelegate.getJMXPortAsInt(l);
-				return new SpringApplicationReadyStateMonitor(jmxPort);
+				return new SpringApplicationReadyStateMonitor(jmxPort, l.getProcesses());
 			}
 		} catch (Exception e) {
 			Log.log(e);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 GoPivotal, Inc.
+ * Copyright (c) 2015, 2016 GoPivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,12 +10,22 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.dash.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
 import javax.inject.Provider;
 
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.IStreamListener;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.core.model.IStreamMonitor;
+import org.eclipse.debug.core.model.IStreamsProxy;
 import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifeCycleClientManager;
 import org.springframework.ide.eclipse.boot.launch.util.SpringApplicationLifecycleClient;
 import org.springsource.ide.eclipse.commons.livexp.core.LiveExpression;
@@ -23,10 +33,15 @@ import org.springsource.ide.eclipse.commons.livexp.core.LiveVariable;
 
 /**
  * An instance of this class starts checking a spring application's lifecyle using
- * a JMX bean protocol. Checks are performed repeatedly with a short delay between
+ * a JMX bean protocol. Checks are performed repeatedly, with a delay that grows between
  * polls. This continues until either the  SpringApplicationReadyStateMonitor is disposed,
  * or the application enters the 'ready' state.
  * <p>
+ * The checks of all monitors are timed by a single shared thread, and run on a shared pool
+ * so that an app that doesn't answer doesn't hold up the checks of other apps. When the
+ * application logs that it has started, it is checked right away rather than when the next
+ * poll is due.
+ * <p>
  * When the application reaches ready state then its 'ready' LiveExp will change value from
  * false to true. Clients who wish to respond to this 'event' can attach a listener to
  * the livexp.
@@ -38,27 +53,36 @@ public class SpringApplicationReadyStateMonitor implements ReadyStateMonitor {
 	//////////////////////////////////////////////////////////////////////////
 	// public API
 
-	public static final long POLLING_INTERVAL = 500/*ms*/;
+	public static final long MIN_POLLING_INTERVAL = 100/*ms*/;
+	public static final long MAX_POLLING_INTERVAL = 2000/*ms*/;
+
 	private SpringApplicationLifeCycleClientManager clientManager;
 
 	public SpringApplicationReadyStateMonitor(Provider<Integer> jmxPort) {
-		this.clientManager = new SpringApplicationLifeCycleClientManager(jmxPort);
-		this.job = new Job("Ready state poller") {
-			protected IStatus run(IProgressMonitor monitor) {
-				LiveVariable<Boolean> r = ready;
-				if (r!=null) { //null means disposed. Job may be lagging behind
-					r.setValue(checkReady());
-					if (!r.getValue()) {
-						this.schedule(POLLING_INTERVAL);
-					} else {
-						// don't reschedule
-					}
+		this(jmxPort, new IProcess[0]);
+	}
+
+	/**
+	 * @param processes Processes whose output is watched for the message a boot app logs
+	 *           when it has started.
+	 */
+	public SpringApplicationReadyStateMonitor(Provider<Integer> jmxPort, IProcess[] processes) {
+		this(new SpringApplicationLifeCycleClientManager(jmxPort), processes);
+	}
+
+	public SpringApplicationReadyStateMonitor(SpringApplicationLifeCycleClientManager clientManager, IProcess[] processes) {
+		this.clientManager = clientManager;
+		for (IProcess process : processes) {
+			IStreamsProxy streams = process.getStreamsProxy();
+			if (streams!=null) {
+				IStreamMonitor out = streams.getOutputStreamMonitor();
+				if (out!=null) {
+					out.addListener(outputListener);
+					watchedStreams.add(out);
 				}
-				return Status.OK_STATUS;
 			}
-		};
-		job.setSystem(true);
-		job.schedule();
+		}
+		schedule(0);
 	}
 
 	public LiveExpression<Boolean> getReady() {
@@ -67,19 +91,114 @@ public class SpringApplicationReadyStateMonitor implements ReadyStateMonitor {
 
 	public void dispose() {
 		clientManager.disposeClient();
-		if (job!=null) {
-			job.cancel();
-			job = null;
+		stopWatchingOutput();
+		synchronized (this) {
+			if (scheduled!=null) {
+				scheduled.cancel(false);
+				scheduled = null;
+			}
+			ready = null;
 		}
-		ready = null;
 	}
 
 	/////////////////////////////////////////////////////////////////////////
 	// implementation
 
+	private static final Pattern STARTED_MESSAGE = Pattern.compile("Started \\S+ in [0-9.]+ seconds");
+
+	private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+		Thread thread = new Thread(runnable, "Spring Boot ready state monitor");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Runs the checks, which block on JMX calls. Each monitor runs at most one check at a
+	 * time, so this only grows with the number of apps that are slow to answer.
+	 */
+	private static final ExecutorService CHECKERS = Executors.newCachedThreadPool((runnable) -> {
+		Thread thread = new Thread(runnable, "Spring Boot ready state check");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private volatile LiveVariable<Boolean> ready = new LiveVariable<>(false);
+	private ScheduledFuture<?> scheduled;
+	private long pollingInterval = MIN_POLLING_INTERVAL;
+
+	/**
+	 * Set while a check is running. A check that is due in the mean time isn't started,
+	 * it sets {@link #checkAgain} instead, and runs right after the running one.
+	 */
+	private final AtomicBoolean checking = new AtomicBoolean();
+	private final AtomicBoolean checkAgain = new AtomicBoolean();
+	private final List<IStreamMonitor> watchedStreams = new ArrayList<>(1);
+
+	private final IStreamListener outputListener = new IStreamListener() {
+		@Override
+		public void streamAppended(String text, IStreamMonitor monitor) {
+			if (STARTED_MESSAGE.matcher(text).find()) {
+				//The app becomes ready right after this is logged. Start polling quickly again.
+				synchronized (SpringApplicationReadyStateMonitor.this) {
+					pollingInterval = MIN_POLLING_INTERVAL;
+				}
+				schedule(0);
+			}
+		}
+	};
 
-	private Job job;
-	private LiveVariable<Boolean> ready = new LiveVariable<>(false);
+	private synchronized void schedule(long delay) {
+		if (ready!=null) { //null means disposed
+			if (scheduled!=null) {
+				scheduled.cancel(false);
+			}
+			scheduled = SCHEDULER.schedule(this::startCheck, delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void startCheck() {
+		if (checking.compareAndSet(false, true)) {
+			CHECKERS.execute(this::poll);
+		} else {
+			checkAgain.set(true);
+		}
+	}
+
+	private void poll() {
+		LiveVariable<Boolean> r = ready;
+		if (r!=null) { //null means disposed. Scheduler may be lagging behind
+			boolean isReady;
+			try {
+				isReady = checkReady();
+			} finally {
+				checking.set(false);
+			}
+			if (isReady) {
+				stopWatchingOutput();
+				r.setValue(true);
+			} else if (checkAgain.getAndSet(false)) {
+				schedule(0);
+			} else {
+				long delay;
+				synchronized (this) {
+					delay = pollingInterval;
+					pollingInterval = Math.min(2 * pollingInterval, MAX_POLLING_INTERVAL);
+				}
+				schedule(delay);
+			}
+		} else {
+			checking.set(false);
+		}
+	}
+
+	private void stopWatchingOutput() {
+		synchronized (watchedStreams) {
+			for (IStreamMonitor stream : watchedStreams) {
+				stream.removeListener(outputListener);
+			}
+			watchedStreams.clear();
+		}
+	}
 
 	private boolean checkReady() {
 		try {
@@ -28,7 +28,12 @@ import org.junit.runners.Suite.SuiteClasses;
 	SpringPropertiesEditorTests.class,
 	TypeUtilTests.class,
 	FuzzyMapTests.class,
+	ConfigurationMetadataJarCacheTest.class,
+	ConfigurationMetadataJsonReaderTest.class,
+	ExpiringLruCacheTest.class,
 	TypeParserTest.class,
+	SpringPropertiesIndexManagerTest.class,
+	StsConfigMetadataRepositoryJsonLoaderTest.class,
 
 	YamlASTTests.class,
 	DocumentEditsTest.class,
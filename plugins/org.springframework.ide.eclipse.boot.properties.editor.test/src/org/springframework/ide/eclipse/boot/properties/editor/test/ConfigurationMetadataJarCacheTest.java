@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepository;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+import org.springframework.boot.configurationmetadata.RawConfigurationMetadata;
+import org.springframework.ide.eclipse.boot.properties.editor.ConfigurationMetadataJarCache;
+
+import junit.framework.TestCase;
+
+public class ConfigurationMetadataJarCacheTest extends TestCase {
+
+	private static final String PROPERTIES_JSON =
+			"{\"groups\": [{\"name\": \"server\", \"type\": \"demo.ServerProperties\"}],"
+			+ " \"properties\": [{\"name\": \"server.port\", \"type\": \"java.lang.Integer\", \"sourceType\": \"demo.ServerProperties\"}]}";
+
+	private static final String HINTS_JSON =
+			"{\"hints\": [{\"name\": \"server.port\", \"values\": [{\"value\": 8080}], \"providers\": [{\"name\": \"any\"}]}]}";
+
+	private ConfigurationMetadataJarCache cache = new ConfigurationMetadataJarCache();
+
+	private File propertiesJar;
+	private File hintsJar;
+
+	@Override
+	protected void setUp() throws Exception {
+		propertiesJar = createJar("properties", PROPERTIES_JSON);
+		hintsJar = createJar("hints", HINTS_JSON);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		propertiesJar.delete();
+		hintsJar.delete();
+	}
+
+	public void testParsedOnlyOnce() throws Exception {
+		List<RawConfigurationMetadata> first = cache.getMetadata(propertiesJar);
+		List<RawConfigurationMetadata> second = cache.getMetadata(propertiesJar);
+		assertEquals(1, first.size());
+		assertSame(first, second);
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.size());
+	}
+
+	public void testReparsedWhenJarChanges() throws Exception {
+		List<RawConfigurationMetadata> first = cache.getMetadata(propertiesJar);
+		writeJar(propertiesJar, PROPERTIES_JSON.replace("server.port", "server.address"));
+		propertiesJar.setLastModified(propertiesJar.lastModified() + 2000);
+
+		List<RawConfigurationMetadata> second = cache.getMetadata(propertiesJar);
+		assertNotSame(first, second);
+		assertEquals(2, cache.getMissCount());
+		assertEquals(1, cache.size());
+
+		ConfigurationMetadataRepository repo = build(second);
+		assertNotNull(repo.getAllProperties().get("server.address"));
+		assertNull(repo.getAllProperties().get("server.port"));
+	}
+
+	public void testUnusedJarsRemoved() throws Exception {
+		cache.getMetadata(propertiesJar);
+		cache.getMetadata(hintsJar);
+		cache.setJars("a", Arrays.asList(propertiesJar, hintsJar));
+		cache.setJars("b", Arrays.asList(propertiesJar));
+		assertEquals(2, cache.size());
+
+		//Still on the classpath of 'b'
+		cache.setJars("a", Collections.emptyList());
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getMetadata(propertiesJar).size());
+		assertEquals(2, cache.getMissCount());
+
+		cache.forgetProject("b");
+		assertEquals(0, cache.size());
+	}
+
+	public void testJarWithoutMetadata() throws Exception {
+		File jar = createJar("empty", null);
+		try {
+			assertTrue(cache.getMetadata(jar).isEmpty());
+		} finally {
+			jar.delete();
+		}
+	}
+
+	public void testSharedMetadataNotModifiedByBuild() throws Exception {
+		List<RawConfigurationMetadata> properties = cache.getMetadata(propertiesJar);
+		List<RawConfigurationMetadata> hints = cache.getMetadata(hintsJar);
+
+		//A project that has both jars on its classpath gets the hints...
+		ConfigurationMetadataRepository withHints = build(properties, hints);
+		ConfigurationMetadataProperty port = withHints.getAllProperties().get("server.port");
+		assertEquals(1, port.getValueHints().size());
+		assertEquals(1, port.getValueProviders().size());
+
+		//... and building the same project again doesn't add them twice...
+		withHints = build(properties, hints);
+		port = withHints.getAllProperties().get("server.port");
+		assertEquals(1, port.getValueHints().size());
+		assertEquals(1, port.getValueProviders().size());
+
+		//... and a project that only has the first jar doesn't see them at all.
+		ConfigurationMetadataRepository withoutHints = build(properties);
+		port = withoutHints.getAllProperties().get("server.port");
+		assertTrue(port.getValueHints().isEmpty());
+		assertTrue(port.getValueProviders().isEmpty());
+		assertEquals(1, withoutHints.getAllGroups().get("server").getSources().get("demo.ServerProperties").getProperties().size());
+	}
+
+	@SafeVarargs
+	private final ConfigurationMetadataRepository build(List<RawConfigurationMetadata>... jars) {
+		ConfigurationMetadataRepositoryJsonBuilder builder = ConfigurationMetadataRepositoryJsonBuilder.create();
+		for (List<RawConfigurationMetadata> jar : jars) {
+			for (RawConfigurationMetadata metadata : jar) {
+				builder.withRawMetadata(metadata);
+			}
+		}
+		return builder.build();
+	}
+
+	private File createJar(String name, String json) throws Exception {
+		File jar = File.createTempFile(name, ".jar");
+		writeJar(jar, json);
+		return jar;
+	}
+
+	private void writeJar(File jar, String json) throws Exception {
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry(json==null ? "META-INF/MANIFEST.MF" : "META-INF/spring-configuration-metadata.json"));
+			out.write(json==null ? "Manifest-Version: 1.0\n".getBytes("UTF-8") : json.getBytes("UTF-8"));
+			out.closeEntry();
+		}
+	}
+
+}
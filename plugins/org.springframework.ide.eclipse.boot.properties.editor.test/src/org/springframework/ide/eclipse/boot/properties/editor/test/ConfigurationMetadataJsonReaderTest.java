@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepository;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataSource;
+import org.springframework.boot.configurationmetadata.ValueProvider;
+
+import junit.framework.TestCase;
+
+public class ConfigurationMetadataJsonReaderTest extends TestCase {
+
+	public void testGroupsAndProperties() throws Exception {
+		ConfigurationMetadataRepository repo = read(
+				"{\"groups\": [{\"name\": \"server\", \"type\": \"demo.ServerProperties\", \"sourceType\": \"demo.ServerProperties\"}],\n"
+				+ " \"properties\": [\n"
+				+ "   {\"name\": \"server.port\", \"type\": \"java.lang.Integer\", \"defaultValue\": 8080,\n"
+				+ "    \"description\": \"Server HTTP port. Use 0 for a random port.\", \"sourceType\": \"demo.ServerProperties\"},\n"
+				+ "   {\"sourceType\": \"demo.ServerProperties\", \"name\": \"server.address\", \"type\": \"java.net.InetAddress\"}\n"
+				+ " ]}");
+		Map<String, ConfigurationMetadataProperty> properties = repo.getAllProperties();
+		assertEquals(2, properties.size());
+
+		ConfigurationMetadataProperty port = properties.get("server.port");
+		assertEquals("port", port.getName());
+		assertEquals("java.lang.Integer", port.getType());
+		assertEquals(8080, port.getDefaultValue());
+		assertEquals("Server HTTP port.", port.getShortDescription());
+		assertEquals("java.net.InetAddress", properties.get("server.address").getType());
+
+		ConfigurationMetadataSource source = repo.getAllGroups().get("server").getSources().get("demo.ServerProperties");
+		assertEquals(2, source.getProperties().size());
+	}
+
+	public void testValues() throws Exception {
+		ConfigurationMetadataRepository repo = read(
+				"{\"properties\": [\n"
+				+ "   {\"name\": \"a.list\", \"defaultValue\": [\"x\", \"y,z\"]},\n"
+				+ "   {\"name\": \"a.flag\", \"defaultValue\": true},\n"
+				+ "   {\"name\": \"a.long\", \"defaultValue\": 12345678901},\n"
+				+ "   {\"name\": \"a.double\", \"defaultValue\": 0.75},\n"
+				+ "   {\"name\": \"a.none\", \"defaultValue\": null, \"type\": null},\n"
+				+ "   {\"name\": \"a.escaped\", \"description\": \"Tab\\tquote\\\" slash\\/ unicode\\u00e9 backslash\\\\\"}\n"
+				+ " ]}");
+		Map<String, ConfigurationMetadataProperty> properties = repo.getAllProperties();
+		Object[] list = (Object[]) properties.get("a.list").getDefaultValue();
+		assertEquals(2, list.length);
+		assertEquals("y,z", list[1]);
+		assertEquals(Boolean.TRUE, properties.get("a.flag").getDefaultValue());
+		assertEquals(12345678901L, properties.get("a.long").getDefaultValue());
+		assertEquals(0.75, properties.get("a.double").getDefaultValue());
+		assertNull(properties.get("a.none").getType());
+		assertEquals("Tab\tquote\" slash/ unicode\u00e9 backslash\\", properties.get("a.escaped").getDescription());
+	}
+
+	public void testDeprecation() throws Exception {
+		ConfigurationMetadataRepository repo = read(
+				"{\"properties\": [\n"
+				+ "   {\"name\": \"old.one\", \"deprecation\": {\"reason\": \"Too old\", \"replacement\": \"new.one\"}},\n"
+				+ "   {\"name\": \"old.two\", \"deprecated\": true},\n"
+				+ "   {\"name\": \"current\", \"deprecated\": false}\n"
+				+ " ]}");
+		Map<String, ConfigurationMetadataProperty> properties = repo.getAllProperties();
+		assertEquals("Too old", properties.get("old.one").getDeprecation().getReason());
+		assertEquals("new.one", properties.get("old.one").getDeprecation().getReplacement());
+		assertTrue(properties.get("old.two").isDeprecated());
+		assertNull(properties.get("old.two").getDeprecation().getReason());
+		assertFalse(properties.get("current").isDeprecated());
+	}
+
+	public void testHints() throws Exception {
+		ConfigurationMetadataRepository repo = read(
+				"{\"properties\": [{\"name\": \"a.map\", \"type\": \"java.util.Map<java.lang.String,java.lang.String>\"}],\n"
+				+ " \"hints\": [\n"
+				+ "   {\"name\": \"a.map.keys\", \"values\": [{\"value\": \"one\", \"description\": \"First. Really.\"}, {\"value\": 2}],\n"
+				+ "    \"providers\": [{\"name\": \"class-reference\", \"parameters\": {\"target\": \"java.util.List\", \"concrete\": true}}]}\n"
+				+ " ]}");
+		ConfigurationMetadataProperty map = repo.getAllProperties().get("a.map");
+		assertEquals(2, map.getHints().getKeyHints().size());
+		assertEquals("one", map.getHints().getKeyHints().get(0).getValue());
+		assertEquals("First.", map.getHints().getKeyHints().get(0).getShortDescription());
+		assertEquals(2, map.getHints().getKeyHints().get(1).getValue());
+		ValueProvider provider = map.getHints().getKeyProviders().get(0);
+		assertEquals("class-reference", provider.getName());
+		assertEquals("java.util.List", provider.getParameters().get("target"));
+		assertEquals(Boolean.TRUE, provider.getParameters().get("concrete"));
+	}
+
+	public void testUnknownMembersIgnored() throws Exception {
+		ConfigurationMetadataRepository repo = read(
+				"{\"unknown\": {\"nested\": [1, {\"x\": \"}]\\\"\"}, null]},\n"
+				+ " \"properties\": [{\"name\": \"a.b\", \"unknown\": [[], {}]}]}");
+		assertEquals(1, repo.getAllProperties().size());
+	}
+
+	public void testInvalidDocument() throws Exception {
+		try {
+			read("{\"properties\": [{\"type\": \"java.lang.String\"}]}");
+			fail("Property without a name should be rejected");
+		} catch (IllegalArgumentException e) {
+			//expected
+		}
+		try {
+			read("{\"properties\": [{\"name\": \"a.b\"}");
+			fail("Truncated document should be rejected");
+		} catch (IllegalArgumentException e) {
+			//expected
+		}
+		try {
+			read("{\"properties\": [{\"name\": \"a.b\"} {\"name\": \"c.d\"}]}");
+			fail("Elements without a separating comma should be rejected");
+		} catch (IllegalArgumentException e) {
+			//expected
+		}
+		try {
+			read("{\"properties\": [{\"name\": \"a.b\" \"type\": \"java.lang.String\"}]}");
+			fail("Members without a separating comma should be rejected");
+		} catch (IllegalArgumentException e) {
+			//expected
+		}
+	}
+
+	public void testTrailingCommaTolerated() throws Exception {
+		ConfigurationMetadataRepository repo = read("{\"properties\": [{\"name\": \"a.b\",}, {\"name\": \"c.d\"},]}");
+		assertEquals(2, repo.getAllProperties().size());
+	}
+
+	private ConfigurationMetadataRepository read(String json) throws Exception {
+		return ConfigurationMetadataRepositoryJsonBuilder.create()
+				.withJsonResource(null, new ByteArrayInputStream(json.getBytes("UTF-8")))
+				.build();
+	}
+
+}
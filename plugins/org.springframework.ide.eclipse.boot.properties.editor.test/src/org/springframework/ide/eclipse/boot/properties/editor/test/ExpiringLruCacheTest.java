@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.test;
+
+import java.time.Duration;
+
+import org.springframework.ide.eclipse.boot.properties.editor.util.ExpiringLruCache;
+
+import junit.framework.TestCase;
+
+public class ExpiringLruCacheTest extends TestCase {
+
+	private long now = 0;
+
+	private ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(100, Duration.ofSeconds(10), () -> now);
+
+	public void testHitsAndMisses() throws Exception {
+		assertNull(cache.get("a"));
+		cache.put("a", "A");
+		assertEquals("A", cache.get("a"));
+		assertEquals("A", cache.get("a"));
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		cache.put("a", null);
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.size());
+	}
+
+	public void testExpiresUnusedEntries() throws Exception {
+		cache.put("used", "U");
+		cache.put("unused", "X");
+		now = 6000;
+		assertEquals("U", cache.get("used"));
+		now = 12000;
+		assertEquals("U", cache.get("used"));
+		assertNull(cache.get("unused"));
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	public void testSizeLimited() throws Exception {
+		for (int i = 0; i < 1000; i++) {
+			cache.put("key"+i, "value"+i);
+			//Keep using the first key, so it is never the least recently used one.
+			assertEquals("value0", cache.get("key0"));
+		}
+		//The limit of 100 is split over 8 segments of 13 entries, which are all full by now.
+		assertEquals(104, cache.size());
+		assertEquals(1000 - cache.size(), cache.getEvictionCount());
+		assertEquals("value999", cache.get("key999"));
+	}
+
+	public void testClear() throws Exception {
+		cache.put("a", "A");
+		cache.clear();
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.size());
+	}
+
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.ide.eclipse.boot.properties.editor.FuzzyMap;
+import org.springframework.ide.eclipse.boot.properties.editor.FuzzyMap.Match;
+import org.springframework.ide.eclipse.editor.support.util.FuzzyMatcher;
+
+/**
+ * Compares the indexed {@link FuzzyMap#find(String)} with a plain scan over all
+ * entries (the way it used to be implemented), simulating completion requests
+ * while a property name is being typed.
+ * <p>
+ * Not a test; run it as a plain Java application. Optional arguments are the
+ * number of entries (default 20000) and the number of typed properties (default 200).
+ */
+public class FuzzyMapBenchmark {
+
+	private static final String[] SEGMENTS = {
+		"spring", "server", "management", "endpoints", "datasource", "jpa", "hibernate",
+		"cloud", "config", "discovery", "client", "eureka", "instance", "security", "oauth2",
+		"rabbitmq", "kafka", "consumer", "producer", "properties", "jackson", "serialization",
+		"mvc", "view", "prefix", "suffix", "port", "address", "timeout", "enabled", "username",
+		"password", "url", "host", "max-active", "min-idle", "ssl", "key-store", "cache",
+		"redis", "pool", "stream", "bindings", "destination", "group", "health", "metrics"
+	};
+
+	private static class StringMap extends FuzzyMap<String> {
+		@Override
+		protected String getKey(String entry) {
+			return entry;
+		}
+	}
+
+	public static void main(String[] args) {
+		int entryCount = args.length>0 ? Integer.parseInt(args[0]) : 20000;
+		int typedCount = args.length>1 ? Integer.parseInt(args[1]) : 200;
+
+		Random random = new Random(42);
+		StringMap map = new StringMap();
+		List<String> keys = new ArrayList<String>();
+		while (map.size()<entryCount) {
+			StringBuilder key = new StringBuilder();
+			int segments = 2 + random.nextInt(4);
+			for (int i = 0; i < segments; i++) {
+				if (i>0) {
+					key.append('.');
+				}
+				key.append(SEGMENTS[random.nextInt(SEGMENTS.length)]);
+			}
+			String k = key.toString();
+			if (map.get(k)==null) {
+				map.add(k);
+				keys.add(k);
+			}
+		}
+
+		//Simulate typing: every keystroke of a property name is a completion request
+		List<String> patterns = new ArrayList<String>();
+		for (int i = 0; i < typedCount; i++) {
+			String typed = keys.get(random.nextInt(keys.size()));
+			for (int len = 1; len <= typed.length(); len++) {
+				patterns.add(typed.substring(0, len));
+			}
+		}
+
+		//warm up
+		run(map, keys, patterns, true);
+		run(map, keys, patterns, false);
+
+		long scanMatches = 0;
+		long start = System.nanoTime();
+		scanMatches = run(map, keys, patterns, false);
+		long scanTime = System.nanoTime() - start;
+
+		long indexMatches = 0;
+		start = System.nanoTime();
+		indexMatches = run(map, keys, patterns, true);
+		long indexTime = System.nanoTime() - start;
+
+		System.out.println(String.format("%d entries, %d searches", map.size(), patterns.size()));
+		System.out.println(String.format("scan:    %6d ms, %.3f ms/search (%d matches)",
+				scanTime/1000000, scanTime/1000000.0/patterns.size(), scanMatches));
+		System.out.println(String.format("indexed: %6d ms, %.3f ms/search (%d matches)",
+				indexTime/1000000, indexTime/1000000.0/patterns.size(), indexMatches));
+		if (scanMatches!=indexMatches) {
+			System.out.println("ERROR: indexed search returned different results");
+		}
+	}
+
+	private static long run(StringMap map, List<String> keys, List<String> patterns, boolean indexed) {
+		long matches = 0;
+		for (String pattern : patterns) {
+			if (indexed) {
+				List<Match<String>> found = map.find(pattern);
+				matches += found.size();
+			} else {
+				for (String key : keys) {
+					if (FuzzyMatcher.matchScore(pattern, key)!=0.0) {
+						matches++;
+					}
+				}
+			}
+		}
+		return matches;
+	}
+
+}
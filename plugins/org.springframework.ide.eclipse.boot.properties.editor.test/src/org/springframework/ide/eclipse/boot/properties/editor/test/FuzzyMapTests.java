@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.properties.editor.test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -65,6 +66,51 @@ public class FuzzyMapTests extends TestCase {
 		);
 	}
 
+	public void testIndexedFindSameAsScan() {
+		String[] entries = {
+				"server.port",
+				"server.address",
+				"spring.datasource.url",
+				"spring.datasource.username",
+				"spring.jpa.show-sql",
+				"spring.rabbitmq.host",
+				"logging.level",
+				"piano.sorting",
+				"ssss"
+		};
+		TestMap map = new TestMap(entries);
+		String[] patterns = {
+				"s", "sp", "spr", "spring.d", "sdu", "port", "sport", "spox", "ss", "sss", "ssss", "sssss",
+				"s.p", "xyz", "-", "server.portx"
+		};
+		for (String pattern : patterns) {
+			List<String> expected = new ArrayList<String>();
+			for (String e : entries) {
+				if (FuzzyMatcher.matchScore(pattern, e)!=0.0) {
+					expected.add(e);
+				}
+			}
+			Collections.sort(expected);
+			List<String> found = new ArrayList<String>();
+			for (Match<String> m : map.find(pattern)) {
+				found.add(m.data);
+			}
+			assertEquals(pattern, expected, found);
+		}
+	}
+
+	public void testIncrementalFind() {
+		TestMap map = new TestMap("server.port", "spring.datasource.url", "spring.jpa.show-sql");
+		assertEquals(3, map.find("s").size());
+		assertEquals(3, map.find("sp").size());
+		assertEquals(1, map.find("spd").size());
+		//not an extension of the previous pattern, must search all entries again
+		assertEquals(1, map.find("sql").size());
+		assertEquals(3, map.find("s").size());
+		map.add("spring.data");
+		assertEquals(2, map.find("spd").size());
+	}
+
 	public class TestMap extends FuzzyMap<String> {
 		public TestMap(String... entries) {
 			for (String e : entries) {
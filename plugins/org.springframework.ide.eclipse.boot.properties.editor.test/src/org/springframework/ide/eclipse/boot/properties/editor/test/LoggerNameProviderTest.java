@@ -12,6 +12,7 @@ package org.springframework.ide.eclipse.boot.properties.editor.test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -29,13 +30,19 @@ import org.eclipse.jdt.core.JavaCore;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesEditorPlugin;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.CachingValueProvider;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.JavaNameIndex;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.LoggerNameProvider;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.StsValueHint;
 import org.springframework.ide.eclipse.boot.test.BootProjectTestHarness;
+import org.springframework.ide.eclipse.editor.support.util.FuzzyMatcher;
 import org.springsource.ide.eclipse.commons.tests.util.StsTestUtil;
 
 import com.google.common.collect.ImmutableSet;
 
+import reactor.core.publisher.Flux;
+
 /**
  * @author Kris De Volder
  */
@@ -124,6 +131,29 @@ public class LoggerNameProviderTest {
 		}
 	}
 
+	@Test
+	public void indexedResults() throws Exception {
+		JavaNameIndex index = SpringPropertiesEditorPlugin.getJavaNameIndexManager().get(project);
+		long timeout = System.currentTimeMillis() + 60000;
+		Flux<StsValueHint> hints;
+		while ((hints = index.search("jboss", (name) -> true))==null) {
+			assertFalse("Index not built in time", System.currentTimeMillis()>timeout);
+			Thread.sleep(100);
+		}
+		List<String> results = hints.toStream()
+				.map((h) -> h.getValue().toString())
+				.collect(Collectors.toList());
+		assertElementsAtLeast(results, JBOSS_RESULTS);
+		//Best matches first, so they are kept when the results are cut off.
+		for (int i = 1; i < results.size(); i++) {
+			assertTrue(results.get(i-1)+" before "+results.get(i),
+					FuzzyMatcher.matchScore("jboss", results.get(i-1)) >= FuzzyMatcher.matchScore("jboss", results.get(i)));
+		}
+
+		//Once built, the provider answers queries from the index.
+		assertElementsAtLeast(getResults(new LoggerNameProvider(), "jboss"), JBOSS_RESULTS);
+	}
+
 	private void assertElementsAtLeast(List<String> results, String[] expecteds) {
 		Set<String> actuals = ImmutableSet.copyOf(results);
 		StringBuilder missing = new StringBuilder();
@@ -28,6 +28,7 @@ import org.springframework.ide.eclipse.boot.properties.editor.reconciling.Spring
 import org.springframework.ide.eclipse.boot.properties.editor.test.ApplicationYamlEditorTestHarness.YamlEditor;
 import org.springframework.ide.eclipse.boot.properties.editor.util.AptUtils;
 import org.springframework.ide.eclipse.boot.util.JavaProjectUtil;
+import org.springframework.ide.eclipse.editor.support.reconcile.IReconcileEngine;
 import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblem;
 
 import com.google.common.collect.ImmutableList;
@@ -1465,6 +1466,50 @@ public class SpringPropertiesEditorTests extends SpringPropertiesEditorTestHarne
 		);
 	}
 
+	public void testReconcileIncrementally() throws Exception {
+		defaultTestData();
+		IReconcileEngine engine = createReconcileEngine();
+		MockEditor editor = newEditor(
+				"server.port=bad\n" +
+				"#comment\n" +
+				"logging.level.com.acme=INFO\n" +
+				"logging.snuggem=what?\n" +
+				"bogus.no.good=true\n"
+		);
+		assertProblems(editor, engine,
+				"bad|'int'",
+				"snuggem|unknown property",
+				"ogus.no.good|unknown property"
+		);
+
+		//Fixing the first property moves the problems of the properties after it
+		replace(editor, "bad", "8080");
+		assertProblems(editor, engine,
+				"snuggem|unknown property",
+				"ogus.no.good|unknown property"
+		);
+
+		//Duplicates of unchanged properties are still detected
+		replace(editor, "#comment", "server.port=8888");
+		assertProblems(editor, engine,
+				"server.port|Duplicate",
+				"server.port|Duplicate",
+				"snuggem|unknown property",
+				"ogus.no.good|unknown property"
+		);
+
+		//Changing only the value of a property checks it again
+		replace(editor, "server.port=8888", "#comment");
+		replace(editor, "INFO", "INFO\nserver.port=bad");
+		assertProblems(editor, engine,
+				"server.port|Duplicate",
+				"server.port|Duplicate",
+				"bad|'int'",
+				"snuggem|unknown property",
+				"ogus.no.good|unknown property"
+		);
+	}
+
 	public void test_PT_119352965() throws Exception {
 		data("some.property", "java.lang.String", null, "Some property to test stuff")
 		.valueHint("SOMETHING", "A value for something")
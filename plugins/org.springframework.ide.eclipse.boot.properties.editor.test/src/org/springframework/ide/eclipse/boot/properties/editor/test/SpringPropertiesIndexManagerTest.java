@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.boot.configurationmetadata.RawConfigurationMetadata;
+import org.springframework.ide.eclipse.boot.properties.editor.FuzzyMap;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.PropertyInfo;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry;
+import org.springframework.ide.eclipse.boot.properties.editor.util.SpringPropertiesIndexManager;
+import org.springsource.ide.eclipse.commons.frameworks.test.util.ACondition;
+
+/**
+ * Tests the scheduling of index builds by {@link SpringPropertiesIndexManager}, with
+ * metadata loading replaced by a fake that can be held up.
+ */
+public class SpringPropertiesIndexManagerTest {
+
+	private TestIndexManager indexManager = new TestIndexManager();
+	private IProject project;
+	private IJavaProject jp;
+
+	@Before
+	public void setUp() throws Exception {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject("index-manager-test");
+		project.create(null);
+		project.open(null);
+		jp = JavaCore.create(project);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		indexManager.release();
+		indexManager.dispose();
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testUiThreadWaitsBriefly() throws Exception {
+		indexManager.hold();
+		List<FuzzyMap<PropertyInfo>> result = new ArrayList<>();
+		long[] waited = new long[1];
+		Display.getDefault().syncExec(() -> {
+			long start = System.currentTimeMillis();
+			result.add(indexManager.get(jp));
+			waited[0] = System.currentTimeMillis() - start;
+		});
+		assertTrue("waited: "+waited[0], waited[0] >= SpringPropertiesIndexManager.UI_THREAD_WAIT - 50);
+		assertTrue("waited: "+waited[0], waited[0] < SpringPropertiesIndexManager.UI_THREAD_WAIT + 1000);
+		assertEquals(0, result.get(0).size());
+		assertEquals(-1, indexManager.getBuildTime(jp));
+
+		indexManager.release();
+		ACondition.waitFor("index built", 5_000, () -> {
+			assertTrue(indexManager.getBuildTime(jp) >= 0);
+			assertEquals(1, indexManager.notifications.get());
+		});
+	}
+
+	@Test
+	public void testRebuildDebounced() throws Exception {
+		buildFirstIndex();
+		for (int i = 0; i < 5; i++) {
+			indexManager.classpathChanged(jp);
+		}
+		Thread.sleep(SpringPropertiesIndexManager.REBUILD_DELAY / 2);
+		assertEquals(1, indexManager.getLoads().size());
+
+		ACondition.waitFor("rebuild", 5_000, () -> {
+			assertEquals(2, indexManager.getLoads().size());
+		});
+		Thread.sleep(SpringPropertiesIndexManager.REBUILD_DELAY * 2);
+		assertEquals(2, indexManager.getLoads().size());
+	}
+
+	@Test
+	public void testBuildCanceledByNewerOne() throws Exception {
+		buildFirstIndex();
+		indexManager.hold();
+		indexManager.classpathChanged(jp);
+		ACondition.waitFor("rebuild started", 5_000, () -> {
+			assertEquals(2, indexManager.getLoads().size());
+		});
+		IProgressMonitor older = indexManager.getLoads().get(1);
+		assertFalse(older.isCanceled());
+
+		indexManager.classpathChanged(jp);
+		assertTrue(older.isCanceled());
+		ACondition.waitFor("newer rebuild started", 5_000, () -> {
+			assertEquals(3, indexManager.getLoads().size());
+		});
+		IProgressMonitor newer = indexManager.getLoads().get(2);
+		assertFalse(newer.isCanceled());
+		indexManager.release();
+	}
+
+	@Test
+	public void testIndexOfClosedProjectDropped() throws Exception {
+		buildFirstIndex();
+		indexManager.hold();
+		indexManager.classpathChanged(jp);
+		ACondition.waitFor("rebuild started", 5_000, () -> {
+			assertEquals(2, indexManager.getLoads().size());
+		});
+
+		project.close(null);
+		assertEquals(-1, indexManager.getBuildTime(jp));
+		assertTrue(indexManager.getLoads().get(1).isCanceled());
+	}
+
+	private void buildFirstIndex() throws Exception {
+		assertNotNull(indexManager.get(jp));
+		ACondition.waitFor("index built", 5_000, () -> {
+			assertTrue(indexManager.getBuildTime(jp) >= 0);
+		});
+		assertEquals(1, indexManager.getLoads().size());
+	}
+
+	private static class TestIndexManager extends SpringPropertiesIndexManager {
+
+		final AtomicInteger notifications = new AtomicInteger();
+		private final List<IProgressMonitor> loads = new ArrayList<>();
+		private volatile CountDownLatch hold = new CountDownLatch(0);
+
+		TestIndexManager() {
+			super(ValueProviderRegistry.getDefault());
+			addListener((manager) -> notifications.incrementAndGet());
+		}
+
+		/**
+		 * Make loading of metadata wait until {@link #release()} is called.
+		 */
+		void hold() {
+			hold = new CountDownLatch(1);
+		}
+
+		void release() {
+			hold.countDown();
+		}
+
+		List<IProgressMonitor> getLoads() {
+			synchronized (loads) {
+				return new ArrayList<>(loads);
+			}
+		}
+
+		@Override
+		protected List<RawConfigurationMetadata> loadMetadata(IJavaProject jp, IProgressMonitor monitor) {
+			synchronized (loads) {
+				loads.add(monitor);
+			}
+			try {
+				while (!hold.await(10, TimeUnit.MILLISECONDS)) {
+					if (monitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+				}
+			} catch (InterruptedException e) {
+				throw new OperationCanceledException();
+			}
+			return Collections.emptyList();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.boot.configurationmetadata.RawConfigurationMetadata;
+import org.springframework.ide.eclipse.boot.properties.editor.SpringPropertyIndex;
+import org.springframework.ide.eclipse.boot.properties.editor.StsConfigMetadataRepositoryJsonLoader;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry;
+
+/**
+ * Tests the reuse of parsed json metadata files in project output folders.
+ */
+public class StsConfigMetadataRepositoryJsonLoaderTest {
+
+	private static final String PROPERTIES_JSON =
+			"{\"groups\": [{\"name\": \"server\", \"type\": \"demo.ServerProperties\"}],"
+			+ " \"properties\": [{\"name\": \"server.port\", \"type\": \"java.lang.Integer\", \"sourceType\": \"demo.ServerProperties\"}]}";
+
+	private IProject project;
+	private IJavaProject jp;
+	private IFile jsonFile;
+
+	@Before
+	public void setUp() throws Exception {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject("json-loader-test");
+		project.create(null);
+		project.open(null);
+		IProjectDescription description = project.getDescription();
+		description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+		project.setDescription(description, null);
+
+		IFolder output = project.getFolder("bin");
+		output.create(true, true, null);
+		output.getFolder("META-INF").create(true, true, null);
+		jp = JavaCore.create(project);
+		jp.setRawClasspath(new IClasspathEntry[0], output.getFullPath(), null);
+
+		jsonFile = output.getFile("META-INF/spring-configuration-metadata.json");
+		jsonFile.create(contents(PROPERTIES_JSON), true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		project.delete(true, null);
+	}
+
+	@Test
+	public void testUnchangedClasspathSkipsRebuild() throws Exception {
+		List<RawConfigurationMetadata> first = load();
+		assertEquals(1, first.size());
+		SpringPropertyIndex index = new SpringPropertyIndex(ValueProviderRegistry.getDefault(), first);
+		assertNotNull(index.get("server.port"));
+
+		List<RawConfigurationMetadata> second = load();
+		assertSame(first.get(0), second.get(0));
+		assertTrue(index.isBuiltFrom(second));
+	}
+
+	@Test
+	public void testChangedModificationStampReloads() throws Exception {
+		List<RawConfigurationMetadata> first = load();
+		SpringPropertyIndex index = new SpringPropertyIndex(ValueProviderRegistry.getDefault(), first);
+
+		jsonFile.setContents(contents(PROPERTIES_JSON.replace("server.port", "server.address")), true, false, null);
+		List<RawConfigurationMetadata> second = load();
+		assertEquals(1, second.size());
+		assertNotSame(first.get(0), second.get(0));
+		assertFalse(index.isBuiltFrom(second));
+
+		SpringPropertyIndex rebuilt = new SpringPropertyIndex(ValueProviderRegistry.getDefault(), second);
+		assertNotNull(rebuilt.get("server.address"));
+		assertNull(rebuilt.get("server.port"));
+	}
+
+	@Test
+	public void testDeletedFilesAndProjectsForgotten() throws Exception {
+		int size = StsConfigMetadataRepositoryJsonLoader.getJsonFileCacheSize();
+		load();
+		assertEquals(size + 1, StsConfigMetadataRepositoryJsonLoader.getJsonFileCacheSize());
+
+		jsonFile.delete(true, null);
+		assertTrue(load().isEmpty());
+		assertEquals(size, StsConfigMetadataRepositoryJsonLoader.getJsonFileCacheSize());
+
+		jsonFile.create(contents(PROPERTIES_JSON), true, null);
+		load();
+		assertEquals(size + 1, StsConfigMetadataRepositoryJsonLoader.getJsonFileCacheSize());
+		StsConfigMetadataRepositoryJsonLoader.forgetProject(project);
+		assertEquals(size, StsConfigMetadataRepositoryJsonLoader.getJsonFileCacheSize());
+	}
+
+	private List<RawConfigurationMetadata> load() throws Exception {
+		return new StsConfigMetadataRepositoryJsonLoader().loadMetadata(jp, null);
+	}
+
+	private static InputStream contents(String json) throws Exception {
+		return new ByteArrayInputStream(json.getBytes("UTF-8"));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -77,4 +77,9 @@ public class TypeParserTest extends TestCase {
 		assertNotEquals(type1, type3);
 	}
 
+	public void testTypesShared() throws Exception {
+		Type type = TypeParser.parse("Map<Foo,List<Bar>>");
+		assertSame(type, TypeParser.parse("Map<Foo,List<Bar>>"));
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,8 +10,10 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.properties.editor.test;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
@@ -54,6 +56,29 @@ public class TypeUtilTests extends SpringPropertiesEditorTestHarness {
 		assertElements(actualNames, "public-property"); //static and private properties should not be included.
 	}
 
+	public void testPropertiesCachedUntilJavaChanges() throws Exception {
+		IProject p = createPredefinedMavenProject("demo");
+		useProject(p);
+		Type type = TypeParser.parse("demo.TrickyGetters");
+
+		List<TypedProperty> props = getProperties(type, EnumCaseMode.LOWER_CASE, BeanPropertyNameMode.HYPHENATED);
+		assertEquals(1, props.size());
+		assertSame(props, getProperties(type, EnumCaseMode.LOWER_CASE, BeanPropertyNameMode.HYPHENATED));
+
+		IFile file = p.getFile("src/main/java/demo/TrickyGetters.java");
+		String original = getContents(file);
+		try {
+			String changed = original.replace("private String getPrivateProperty()", "public String getPrivateProperty()");
+			file.setContents(new ByteArrayInputStream(changed.getBytes(file.getCharset())), true, false, null);
+
+			props = getProperties(type, EnumCaseMode.LOWER_CASE, BeanPropertyNameMode.HYPHENATED);
+			assertEquals(2, props.size());
+		} finally {
+			//The project is shared with other tests.
+			file.setContents(new ByteArrayInputStream(original.getBytes(file.getCharset())), true, false, null);
+		}
+	}
+
 	public void testGetProperties() throws Exception {
 		IProject p = createPredefinedMavenProject("demo-enum");
 		IJavaProject jp = JavaCore.create(p);
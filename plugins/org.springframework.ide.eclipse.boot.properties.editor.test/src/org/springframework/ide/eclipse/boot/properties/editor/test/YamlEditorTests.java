@@ -19,6 +19,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.CachingValueProvider;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.PropertyInfo;
+import org.springframework.ide.eclipse.editor.support.reconcile.IReconcileEngine;
 import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblem;
 import org.springframework.ide.eclipse.editor.support.util.StringUtil;
 
@@ -237,6 +238,51 @@ public class YamlEditorTests extends ApplicationYamlEditorTestHarness {
 		);
 	}
 
+	public void testReconcileIncrementally() throws Exception {
+		defaultTestData();
+		IReconcileEngine engine = createReconcileEngine();
+		YamlEditor editor = new YamlEditor(
+				"server:\n" +
+				"  port: bad\n" +
+				"# comment\n" +
+				"logging:\n"+
+				"  level:\n" +
+				"    com.acme: INFO\n" +
+				"  snuggem: what?\n" +
+				"---\n" +
+				"bogus: true\n"
+		);
+		assertProblems(editor, engine,
+				"bad|Expecting a 'int'",
+				"snuggem|Unknown property",
+				"bogus|Unknown property"
+		);
+
+		//Fixing the first entry moves the problems of the entries after it
+		replace(editor, "bad", "8080");
+		assertProblems(editor, engine,
+				"snuggem|Unknown property",
+				"bogus|Unknown property"
+		);
+
+		//Duplicate top-level keys are still detected
+		replace(editor, "---", "server:\n  port: 8888\n---");
+		assertProblems(editor, engine,
+				"server|Duplicate key",
+				"snuggem|Unknown property",
+				"server|Duplicate key",
+				"bogus|Unknown property"
+		);
+
+		replace(editor, "server:\n  port: 8888\n", "");
+		replace(editor, "what?", "what?\nbad: 1");
+		assertProblems(editor, engine,
+				"snuggem|Unknown property",
+				"bad|Unknown property",
+				"bogus|Unknown property"
+		);
+	}
+
 	public void test_STS_4140_StringArrayReconciling() throws Exception {
 		defaultTestData();
 
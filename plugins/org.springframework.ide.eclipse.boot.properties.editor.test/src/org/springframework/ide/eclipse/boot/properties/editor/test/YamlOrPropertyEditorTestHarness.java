@@ -674,12 +674,24 @@ public abstract class YamlOrPropertyEditorTestHarness extends TestCase {
 	}
 
 	public List<ReconcileProblem> reconcile(MockEditor editor) {
-		IReconcileEngine reconciler = createReconcileEngine();
+		return reconcile(editor, createReconcileEngine());
+	}
+
+	public List<ReconcileProblem> reconcile(MockEditor editor, IReconcileEngine reconciler) {
 		MockProblemCollector problems=new MockProblemCollector(ignoredTypes);
 		reconciler.reconcile(editor.document, problems, new NullProgressMonitor());
 		return problems.getAllProblems();
 	}
 
+	/**
+	 * Replaces the first occurrence of oldText in the editor's document, the way a user typing in the editor would.
+	 */
+	protected void replace(MockEditor editor, String oldText, String newText) throws Exception {
+		int offset = editor.document.get().indexOf(oldText);
+		assertTrue(offset>=0);
+		editor.document.replace(offset, oldText.length(), newText);
+	}
+
 	public void ignoreProblem(ProblemType type) {
 		ignoredTypes.add(type);
 	}
@@ -729,7 +741,16 @@ public abstract class YamlOrPropertyEditorTestHarness extends TestCase {
 	 */
 	public void assertProblems(MockEditor editor, String... expectedProblems)
 			throws BadLocationException {
-		List<ReconcileProblem> actualProblems = reconcile(editor);
+		assertProblems(editor, createReconcileEngine(), expectedProblems);
+	}
+
+	/**
+	 * Like {@link #assertProblems(MockEditor, String...)} but using a given reconcile engine,
+	 * rather than a fresh one.
+	 */
+	public void assertProblems(MockEditor editor, IReconcileEngine engine, String... expectedProblems)
+			throws BadLocationException {
+		List<ReconcileProblem> actualProblems = reconcile(editor, engine);
 		Collections.sort(actualProblems, PROBLEM_COMPARATOR);
 		String bad = null;
 		if (actualProblems.size()!=expectedProblems.length) {
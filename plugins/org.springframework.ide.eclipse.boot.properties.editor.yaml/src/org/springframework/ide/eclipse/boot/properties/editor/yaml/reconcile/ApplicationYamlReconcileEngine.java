@@ -44,6 +44,22 @@ public class ApplicationYamlReconcileEngine extends YamlReconcileEngine {
 		return null;
 	}
 
+	/**
+	 * Top-level entries of application.yml files are checked independently of one another,
+	 * so the problems of unchanged entries are reused until the index changes.
+	 * <p>
+	 * Note: The problems also depend on the Java types of the project. Changes to those only
+	 * get picked up when the index changes or when the entry itself is edited.
+	 */
+	@Override
+	protected Object getIncrementalContext(IDocument doc) {
+		FuzzyMap<PropertyInfo> index = indexProvider.getIndex(doc);
+		if (index!=null && !index.isEmpty()) {
+			return index;
+		}
+		return null;
+	}
+
 	@Override
 	protected ReconcileProblem syntaxError(String msg, int offset, int len) {
 		return SpringPropertyProblem.problem(YAML_SYNTAX_ERROR, msg, offset, len);
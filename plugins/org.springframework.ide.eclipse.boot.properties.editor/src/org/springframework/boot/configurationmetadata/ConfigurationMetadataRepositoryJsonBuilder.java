@@ -89,6 +89,41 @@ public final class ConfigurationMetadataRepositoryJsonBuilder {
 		return this;
 	}
 
+	/**
+	 * Add already parsed metadata, as returned by
+	 * {@link #parseJsonResource(Object, InputStream)}. The given metadata is not
+	 * modified by this builder and can therefore be added to any number of builders.
+	 * @param metadata the parsed metadata
+	 * @return this builder
+	 */
+	public ConfigurationMetadataRepositoryJsonBuilder withRawMetadata(
+			RawConfigurationMetadata metadata) {
+		if (metadata == null) {
+			throw new IllegalArgumentException("Metadata must not be null.");
+		}
+		this.rawDatas.add(metadata.copy());
+		return this;
+	}
+
+	/**
+	 * Parse the specified {@link InputStream} json document using the {@link #UTF_8}
+	 * charset, without adding it to a builder.
+	 * <p>
+	 * Leaves the stream open when done.
+	 * @param origin optional information object to help identify where the inputstream came from
+	 * @param inputStream the source input stream
+	 * @return the parsed metadata
+	 * @throws IOException in case of I/O errors
+	 * @see #withRawMetadata(RawConfigurationMetadata)
+	 */
+	public static RawConfigurationMetadata parseJsonResource(Object origin,
+			InputStream inputStream) throws IOException {
+		if (inputStream == null) {
+			throw new IllegalArgumentException("InputStream must not be null.");
+		}
+		return create().parseRaw(origin, inputStream, UTF_8);
+	}
+
 	/**
 	 * Build a {@link ConfigurationMetadataRepository} with the current state of this
 	 * builder.
@@ -21,14 +21,18 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import org.springframework.ide.eclipse.org.json.JSONArray;
+import org.springframework.ide.eclipse.org.json.JSONException;
 import org.springframework.ide.eclipse.org.json.JSONObject;
 
 /**
  * Read standard json metadata format as {@link ConfigurationMetadataRepository}.
+ * <p>
+ * The document is streamed rather than parsed into a {@link JSONObject} first, so
+ * only the resulting metadata objects are allocated. Type names, source types and
+ * source methods are shared between all the items of a document.
  *
  * @author Stephane Nicoll
  * @since 1.3.0
@@ -41,127 +45,232 @@ class JsonReader {
 
 	public RawConfigurationMetadata read(Object origin, InputStream in, Charset charset)
 			throws IOException {
-		JSONObject json = readJson(in, charset);
-		List<ConfigurationMetadataSource> groups = parseAllSources(json);
-		List<ConfigurationMetadataItem> items = parseAllItems(json);
-		List<ConfigurationMetadataHint> hints = parseAllHints(json);
-		return new RawConfigurationMetadata(origin, groups, items, hints);
-	}
-
-	private List<ConfigurationMetadataSource> parseAllSources(JSONObject root) {
-		List<ConfigurationMetadataSource> result = new ArrayList<ConfigurationMetadataSource>();
-		if (!root.has("groups")) {
-			return result;
-		}
-		JSONArray sources = root.getJSONArray("groups");
-		for (int i = 0; i < sources.length(); i++) {
-			JSONObject source = sources.getJSONObject(i);
-			result.add(parseSource(source));
-		}
-		return result;
-	}
-
-	private List<ConfigurationMetadataItem> parseAllItems(JSONObject root) {
-		List<ConfigurationMetadataItem> result = new ArrayList<ConfigurationMetadataItem>();
-		if (!root.has("properties")) {
-			return result;
-		}
-		JSONArray items = root.getJSONArray("properties");
-		for (int i = 0; i < items.length(); i++) {
-			JSONObject item = items.getJSONObject(i);
-			result.add(parseItem(item));
-		}
-		return result;
-	}
-
-	private List<ConfigurationMetadataHint> parseAllHints(JSONObject root) {
-		List<ConfigurationMetadataHint> result = new ArrayList<ConfigurationMetadataHint>();
-		if (!root.has("hints")) {
-			return result;
+		try {
+			JsonTokenizer json = new JsonTokenizer(new InputStreamReader(in, charset),
+					BUFFER_SIZE);
+			List<ConfigurationMetadataSource> groups = new ArrayList<ConfigurationMetadataSource>();
+			List<ConfigurationMetadataItem> items = new ArrayList<ConfigurationMetadataItem>();
+			List<ConfigurationMetadataHint> hints = new ArrayList<ConfigurationMetadataHint>();
+			json.beginObject();
+			while (json.hasNext()) {
+				String name = json.nextName();
+				if ("groups".equals(name)) {
+					json.beginArray();
+					while (json.hasNext()) {
+						groups.add(parseSource(json));
+					}
+					json.endArray();
+				}
+				else if ("properties".equals(name)) {
+					json.beginArray();
+					while (json.hasNext()) {
+						items.add(parseItem(json));
+					}
+					json.endArray();
+				}
+				else if ("hints".equals(name)) {
+					json.beginArray();
+					while (json.hasNext()) {
+						hints.add(parseHint(json));
+					}
+					json.endArray();
+				}
+				else {
+					json.skipValue();
+				}
+			}
+			json.endObject();
+			return new RawConfigurationMetadata(origin, groups, items, hints);
 		}
-		JSONArray items = root.getJSONArray("hints");
-		for (int i = 0; i < items.length(); i++) {
-			JSONObject item = items.getJSONObject(i);
-			result.add(parseHint(item));
+		finally {
+			in.close();
 		}
-		return result;
 	}
 
-	private ConfigurationMetadataSource parseSource(JSONObject json) {
+	private ConfigurationMetadataSource parseSource(JsonTokenizer json)
+			throws IOException {
 		ConfigurationMetadataSource source = new ConfigurationMetadataSource();
-		source.setGroupId(json.getString("name"));
-		source.setType(json.optString("type", null));
-		String description = json.optString("description", null);
-		source.setDescription(description);
-		source.setShortDescription(
-				this.descriptionExtractor.getShortDescription(description));
-		source.setSourceType(json.optString("sourceType", null));
-		source.setSourceMethod(json.optString("sourceMethod", null));
+		json.beginObject();
+		while (json.hasNext()) {
+			String name = json.nextName();
+			if ("name".equals(name)) {
+				source.setGroupId(json.nextString(false));
+			}
+			else if ("type".equals(name)) {
+				source.setType(json.nextOptString(true));
+			}
+			else if ("description".equals(name)) {
+				String description = json.nextOptString(false);
+				source.setDescription(description);
+				source.setShortDescription(
+						this.descriptionExtractor.getShortDescription(description));
+			}
+			else if ("sourceType".equals(name)) {
+				source.setSourceType(json.nextOptString(true));
+			}
+			else if ("sourceMethod".equals(name)) {
+				source.setSourceMethod(json.nextOptString(true));
+			}
+			else {
+				json.skipValue();
+			}
+		}
+		json.endObject();
+		checkRequired("name", source.getGroupId());
 		return source;
 	}
 
-	private ConfigurationMetadataItem parseItem(JSONObject json) {
+	private ConfigurationMetadataItem parseItem(JsonTokenizer json) throws IOException {
 		ConfigurationMetadataItem item = new ConfigurationMetadataItem();
-		item.setId(json.getString("name"));
-		item.setType(json.optString("type", null));
-		String description = json.optString("description", null);
-		item.setDescription(description);
-		item.setShortDescription(
-				this.descriptionExtractor.getShortDescription(description));
-		item.setDefaultValue(readItemValue(json.opt("defaultValue")));
-		item.setDeprecation(parseDeprecation(json));
-		item.setSourceType(json.optString("sourceType", null));
-		item.setSourceMethod(json.optString("sourceMethod", null));
+		boolean deprecated = false;
+		json.beginObject();
+		while (json.hasNext()) {
+			String name = json.nextName();
+			if ("name".equals(name)) {
+				item.setId(json.nextString(false));
+			}
+			else if ("type".equals(name)) {
+				item.setType(json.nextOptString(true));
+			}
+			else if ("description".equals(name)) {
+				String description = json.nextOptString(false);
+				item.setDescription(description);
+				item.setShortDescription(
+						this.descriptionExtractor.getShortDescription(description));
+			}
+			else if ("defaultValue".equals(name)) {
+				item.setDefaultValue(readItemValue(json.nextValue()));
+			}
+			else if ("deprecation".equals(name)) {
+				item.setDeprecation(parseDeprecation(json));
+			}
+			else if ("deprecated".equals(name)) {
+				Object value = json.nextValue();
+				deprecated = (Boolean.TRUE.equals(value) || "true".equalsIgnoreCase(value.toString()));
+			}
+			else if ("sourceType".equals(name)) {
+				item.setSourceType(json.nextOptString(true));
+			}
+			else if ("sourceMethod".equals(name)) {
+				item.setSourceMethod(json.nextOptString(true));
+			}
+			else {
+				json.skipValue();
+			}
+		}
+		json.endObject();
+		checkRequired("name", item.getId());
+		if (item.getDeprecation() == null && deprecated) {
+			item.setDeprecation(new Deprecation());
+		}
 		return item;
 	}
 
-	private ConfigurationMetadataHint parseHint(JSONObject json) {
+	private ConfigurationMetadataHint parseHint(JsonTokenizer json) throws IOException {
 		ConfigurationMetadataHint hint = new ConfigurationMetadataHint();
-		hint.setId(json.getString("name"));
-		if (json.has("values")) {
-			JSONArray values = json.getJSONArray("values");
-			for (int i = 0; i < values.length(); i++) {
-				JSONObject value = values.getJSONObject(i);
-				ValueHint valueHint = new ValueHint();
-				valueHint.setValue(readItemValue(value.get("value")));
-				String description = value.optString("description", null);
+		json.beginObject();
+		while (json.hasNext()) {
+			String name = json.nextName();
+			if ("name".equals(name)) {
+				hint.setId(json.nextString(false));
+			}
+			else if ("values".equals(name)) {
+				json.beginArray();
+				while (json.hasNext()) {
+					hint.getValueHints().add(parseValueHint(json));
+				}
+				json.endArray();
+			}
+			else if ("providers".equals(name)) {
+				json.beginArray();
+				while (json.hasNext()) {
+					hint.getValueProviders().add(parseValueProvider(json));
+				}
+				json.endArray();
+			}
+			else {
+				json.skipValue();
+			}
+		}
+		json.endObject();
+		checkRequired("name", hint.getId());
+		return hint;
+	}
+
+	private ValueHint parseValueHint(JsonTokenizer json) throws IOException {
+		ValueHint valueHint = new ValueHint();
+		boolean hasValue = false;
+		json.beginObject();
+		while (json.hasNext()) {
+			String name = json.nextName();
+			if ("value".equals(name)) {
+				valueHint.setValue(readItemValue(json.nextValue()));
+				hasValue = true;
+			}
+			else if ("description".equals(name)) {
+				String description = json.nextOptString(false);
 				valueHint.setDescription(description);
 				valueHint.setShortDescription(
 						this.descriptionExtractor.getShortDescription(description));
-				hint.getValueHints().add(valueHint);
+			}
+			else {
+				json.skipValue();
 			}
 		}
-		if (json.has("providers")) {
-			JSONArray providers = json.getJSONArray("providers");
-			for (int i = 0; i < providers.length(); i++) {
-				JSONObject provider = providers.getJSONObject(i);
-				ValueProvider valueProvider = new ValueProvider();
-				valueProvider.setName(provider.getString("name"));
-				if (provider.has("parameters")) {
-					JSONObject parameters = provider.getJSONObject("parameters");
-					Iterator<?> keys = parameters.keys();
-					while (keys.hasNext()) {
-						String key = (String) keys.next();
-						valueProvider.getParameters().put(key,
-								readItemValue(parameters.get(key)));
-					}
+		json.endObject();
+		checkRequired("value", hasValue ? Boolean.TRUE : null);
+		return valueHint;
+	}
+
+	private ValueProvider parseValueProvider(JsonTokenizer json) throws IOException {
+		ValueProvider valueProvider = new ValueProvider();
+		json.beginObject();
+		while (json.hasNext()) {
+			String name = json.nextName();
+			if ("name".equals(name)) {
+				valueProvider.setName(json.nextString(true));
+			}
+			else if ("parameters".equals(name)) {
+				json.beginObject();
+				while (json.hasNext()) {
+					String key = json.nextName();
+					valueProvider.getParameters().put(key,
+							readItemValue(json.nextValue()));
 				}
-				hint.getValueProviders().add(valueProvider);
+				json.endObject();
+			}
+			else {
+				json.skipValue();
 			}
 		}
-		return hint;
+		json.endObject();
+		checkRequired("name", valueProvider.getName());
+		return valueProvider;
+	}
+
+	private Deprecation parseDeprecation(JsonTokenizer json) throws IOException {
+		Deprecation deprecation = new Deprecation();
+		json.beginObject();
+		while (json.hasNext()) {
+			String name = json.nextName();
+			if ("reason".equals(name)) {
+				deprecation.setReason(json.nextOptString(false));
+			}
+			else if ("replacement".equals(name)) {
+				deprecation.setReplacement(json.nextOptString(false));
+			}
+			else {
+				json.skipValue();
+			}
+		}
+		json.endObject();
+		return deprecation;
 	}
 
-	private Deprecation parseDeprecation(JSONObject object) {
-		if (object.has("deprecation")) {
-			JSONObject deprecationJsonObject = object.getJSONObject("deprecation");
-			Deprecation deprecation = new Deprecation();
-			deprecation.setReason(deprecationJsonObject.optString("reason", null));
-			deprecation
-					.setReplacement(deprecationJsonObject.optString("replacement", null));
-			return deprecation;
+	private void checkRequired(String name, Object value) {
+		if (value == null) {
+			throw new JSONException("JSONObject[\"" + name + "\"] not found.");
 		}
-		return (object.optBoolean("deprecated") ? new Deprecation() : null);
 	}
 
 	private Object readItemValue(Object value) {
@@ -176,20 +285,4 @@ class JsonReader {
 		return value;
 	}
 
-	private JSONObject readJson(InputStream in, Charset charset) throws IOException {
-		try {
-			StringBuilder out = new StringBuilder();
-			InputStreamReader reader = new InputStreamReader(in, charset);
-			char[] buffer = new char[BUFFER_SIZE];
-			int bytesRead = -1;
-			while ((bytesRead = reader.read(buffer)) != -1) {
-				out.append(buffer, 0, bytesRead);
-			}
-			return new JSONObject(out.toString());
-		}
-		finally {
-			in.close();
-		}
-	}
-
 }
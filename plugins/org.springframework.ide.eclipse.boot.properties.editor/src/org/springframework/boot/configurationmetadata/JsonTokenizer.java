@@ -0,0 +1,396 @@
+/*
+ * Copyright 2012-2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.boot.configurationmetadata;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.ide.eclipse.org.json.JSONArray;
+import org.springframework.ide.eclipse.org.json.JSONException;
+import org.springframework.ide.eclipse.org.json.JSONObject;
+
+/**
+ * A minimal pull parser for json documents. Rather than building a
+ * {@link JSONObject} tree of the whole document, callers walk through the
+ * document and only materialize the values they are interested in.
+ * <p>
+ * Values that are requested as generic values (see {@link #nextValue()}) are
+ * returned as the same types {@link JSONObject} would use for them.
+ */
+class JsonTokenizer {
+
+	private final Reader reader;
+
+	private final char[] buffer;
+
+	private int pos;
+
+	private int limit;
+
+	/**
+	 * Number of characters read before the current buffer, for error messages.
+	 */
+	private long offset;
+
+	private final StringBuilder chars = new StringBuilder();
+
+	private final Map<String, String> strings = new HashMap<String, String>();
+
+	/**
+	 * For every object or array that has been entered, whether no element of it
+	 * has been started yet, so whether the next one needs a separating comma.
+	 */
+	private boolean[] empty = new boolean[16];
+
+	private int depth;
+
+	JsonTokenizer(Reader reader, int bufferSize) {
+		this.reader = reader;
+		this.buffer = new char[bufferSize];
+	}
+
+	public void beginObject() throws IOException {
+		expect('{');
+		push();
+	}
+
+	public void endObject() throws IOException {
+		expect('}');
+		pop();
+	}
+
+	public void beginArray() throws IOException {
+		expect('[');
+		push();
+	}
+
+	public void endArray() throws IOException {
+		expect(']');
+		pop();
+	}
+
+	/**
+	 * Return whether the current object or array has more elements, consuming
+	 * the separating comma if there is one. Elements other than the first one
+	 * must be preceded by a comma. Like the org.json parser, a comma right before
+	 * the closing bracket is tolerated.
+	 * @return {@code true} if there are more elements
+	 * @throws IOException in case of I/O errors
+	 */
+	public boolean hasNext() throws IOException {
+		int c = peek();
+		if (c == '}' || c == ']') {
+			return false;
+		}
+		if (c == -1) {
+			throw syntaxError("Unexpected end of document");
+		}
+		if (this.depth > 0 && this.empty[this.depth - 1]) {
+			this.empty[this.depth - 1] = false;
+			return true;
+		}
+		if (c != ',') {
+			throw syntaxError("Expected ',' or a closing bracket");
+		}
+		this.pos++;
+		c = peek();
+		return c != '}' && c != ']';
+	}
+
+	/**
+	 * Return the name of the next member of the current object.
+	 * @return the name
+	 * @throws IOException in case of I/O errors
+	 */
+	public String nextName() throws IOException {
+		expect('"');
+		String name = readString();
+		expect(':');
+		return name;
+	}
+
+	/**
+	 * Return the next value, which must be a string.
+	 * @param intern whether to return the same instance for equal strings
+	 * @return the string
+	 * @throws IOException in case of I/O errors
+	 */
+	public String nextString(boolean intern) throws IOException {
+		if (peek() != '"') {
+			throw syntaxError("A string was expected");
+		}
+		this.pos++;
+		return intern ? intern(readString()) : readString();
+	}
+
+	/**
+	 * Return the next value as a string, the way
+	 * {@link JSONObject#optString(String, String)} would.
+	 * @param intern whether to return the same instance for equal strings
+	 * @return the string or {@code null} if the value is {@code null}
+	 * @throws IOException in case of I/O errors
+	 */
+	public String nextOptString(boolean intern) throws IOException {
+		if (peek() == '"') {
+			return nextString(intern);
+		}
+		Object value = nextValue();
+		return (JSONObject.NULL.equals(value) ? null : value.toString());
+	}
+
+	/**
+	 * Return the next value as a {@link String}, {@link Number}, {@link Boolean},
+	 * {@link JSONObject#NULL}, {@link JSONArray} or {@link JSONObject}.
+	 * @return the value
+	 * @throws IOException in case of I/O errors
+	 */
+	public Object nextValue() throws IOException {
+		int c = peek();
+		if (c == '"') {
+			this.pos++;
+			return readString();
+		}
+		if (c == '{') {
+			JSONObject object = new JSONObject();
+			beginObject();
+			while (hasNext()) {
+				String name = nextName();
+				object.put(name, nextValue());
+			}
+			endObject();
+			return object;
+		}
+		if (c == '[') {
+			JSONArray array = new JSONArray();
+			beginArray();
+			while (hasNext()) {
+				array.put(nextValue());
+			}
+			endArray();
+			return array;
+		}
+		return JSONObject.stringToValue(readLiteral());
+	}
+
+	/**
+	 * Skip the next value, including all its nested values, without materializing
+	 * any of it.
+	 * @throws IOException in case of I/O errors
+	 */
+	public void skipValue() throws IOException {
+		int c = peek();
+		if (c == '"') {
+			this.pos++;
+			skipString();
+		}
+		else if (c == '{') {
+			beginObject();
+			while (hasNext()) {
+				expect('"');
+				skipString();
+				expect(':');
+				skipValue();
+			}
+			endObject();
+		}
+		else if (c == '[') {
+			beginArray();
+			while (hasNext()) {
+				skipValue();
+			}
+			endArray();
+		}
+		else {
+			readLiteral();
+		}
+	}
+
+	private void push() {
+		if (this.depth == this.empty.length) {
+			boolean[] empty = new boolean[this.depth * 2];
+			System.arraycopy(this.empty, 0, empty, 0, this.depth);
+			this.empty = empty;
+		}
+		this.empty[this.depth++] = true;
+	}
+
+	private void pop() {
+		if (this.depth > 0) {
+			this.depth--;
+		}
+	}
+
+	private String intern(String string) {
+		String existing = this.strings.get(string);
+		if (existing != null) {
+			return existing;
+		}
+		this.strings.put(string, string);
+		return string;
+	}
+
+	private void expect(char expected) throws IOException {
+		int c = peek();
+		if (c != expected) {
+			throw syntaxError("Expected '" + expected + "'");
+		}
+		this.pos++;
+	}
+
+	/**
+	 * Return the next non-whitespace character without consuming it.
+	 */
+	private int peek() throws IOException {
+		while (this.pos < this.limit || fill()) {
+			char c = this.buffer[this.pos];
+			if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+				this.pos++;
+			}
+			else {
+				return c;
+			}
+		}
+		return -1;
+	}
+
+	private int read() throws IOException {
+		if (this.pos < this.limit || fill()) {
+			return this.buffer[this.pos++];
+		}
+		return -1;
+	}
+
+	private boolean fill() throws IOException {
+		this.offset += this.limit;
+		this.pos = 0;
+		this.limit = Math.max(0, this.reader.read(this.buffer, 0, this.buffer.length));
+		return this.limit > 0;
+	}
+
+	/**
+	 * Read the rest of a string, the opening quote has already been consumed.
+	 */
+	private String readString() throws IOException {
+		StringBuilder chars = this.chars;
+		chars.setLength(0);
+		while (true) {
+			int start = this.pos;
+			while (this.pos < this.limit) {
+				char c = this.buffer[this.pos];
+				if (c == '"') {
+					String string = (chars.length() == 0
+							? new String(this.buffer, start, this.pos - start)
+							: chars.append(this.buffer, start, this.pos - start).toString());
+					this.pos++;
+					return string;
+				}
+				if (c == '\\') {
+					chars.append(this.buffer, start, this.pos - start);
+					this.pos++;
+					chars.append(readEscape());
+					start = this.pos;
+				}
+				else {
+					this.pos++;
+				}
+			}
+			chars.append(this.buffer, start, this.pos - start);
+			if (!fill()) {
+				throw syntaxError("Unterminated string");
+			}
+		}
+	}
+
+	private void skipString() throws IOException {
+		while (true) {
+			int c = read();
+			if (c == '"') {
+				return;
+			}
+			if (c == '\\') {
+				readEscape();
+			}
+			else if (c == -1) {
+				throw syntaxError("Unterminated string");
+			}
+		}
+	}
+
+	private char readEscape() throws IOException {
+		int c = read();
+		switch (c) {
+		case 'b':
+			return '\b';
+		case 't':
+			return '\t';
+		case 'n':
+			return '\n';
+		case 'f':
+			return '\f';
+		case 'r':
+			return '\r';
+		case 'u':
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				int digit = Character.digit(read(), 16);
+				if (digit == -1) {
+					throw syntaxError("Illegal escape");
+				}
+				value = (value << 4) + digit;
+			}
+			return (char) value;
+		case '"':
+		case '\'':
+		case '\\':
+		case '/':
+			return (char) c;
+		default:
+			throw syntaxError("Illegal escape");
+		}
+	}
+
+	/**
+	 * Read an unquoted value such as a number, {@code true} or {@code null}.
+	 */
+	private String readLiteral() throws IOException {
+		StringBuilder chars = this.chars;
+		chars.setLength(0);
+		int c;
+		while ((c = peekRaw()) != -1 && ",:]}/\\\"[{;=# \t\n\r".indexOf(c) == -1) {
+			chars.append((char) c);
+			this.pos++;
+		}
+		if (chars.length() == 0) {
+			throw syntaxError("Missing value");
+		}
+		return chars.toString();
+	}
+
+	private int peekRaw() throws IOException {
+		if (this.pos < this.limit || fill()) {
+			return this.buffer[this.pos];
+		}
+		return -1;
+	}
+
+	private JSONException syntaxError(String message) {
+		return new JSONException(message + " at character " + (this.offset + this.pos));
+	}
+
+}
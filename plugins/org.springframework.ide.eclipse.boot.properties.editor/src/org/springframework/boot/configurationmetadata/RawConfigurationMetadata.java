@@ -21,11 +21,15 @@ import java.util.List;
 
 /**
  * A raw metadata structure. Used to initialize a {@link ConfigurationMetadataRepository}.
+ * <p>
+ * Builders only ever work on a copy of the instances that are added with
+ * {@link ConfigurationMetadataRepositoryJsonBuilder#withRawMetadata(RawConfigurationMetadata)},
+ * so these can be shared (e.g. cached) by any number of builders.
  *
  * @author Stephane Nicoll
  * @since 1.3.0
  */
-class RawConfigurationMetadata {
+public class RawConfigurationMetadata {
 
 	private final Object origin;
 
@@ -48,6 +52,10 @@ class RawConfigurationMetadata {
 		}
 	}
 
+	public Object getOrigin() {
+		return this.origin;
+	}
+
 	public List<ConfigurationMetadataSource> getSources() {
 		return this.sources;
 	}
@@ -69,6 +77,41 @@ class RawConfigurationMetadata {
 		return this.hints;
 	}
 
+	/**
+	 * Create a copy of this instance with its own sources and items. Building a
+	 * repository registers the items with their sources and attaches the hints to
+	 * the items, so a builder must only ever work on a copy. Hints are not modified
+	 * while building and are shared with the copy.
+	 * @return the copy
+	 */
+	RawConfigurationMetadata copy() {
+		List<ConfigurationMetadataSource> sources = new ArrayList<ConfigurationMetadataSource>(this.sources.size());
+		for (ConfigurationMetadataSource source : this.sources) {
+			ConfigurationMetadataSource copy = new ConfigurationMetadataSource();
+			copy.setGroupId(source.getGroupId());
+			copy.setType(source.getType());
+			copy.setDescription(source.getDescription());
+			copy.setShortDescription(source.getShortDescription());
+			copy.setSourceType(source.getSourceType());
+			copy.setSourceMethod(source.getSourceMethod());
+			sources.add(copy);
+		}
+		List<ConfigurationMetadataItem> items = new ArrayList<ConfigurationMetadataItem>(this.items.size());
+		for (ConfigurationMetadataItem item : this.items) {
+			ConfigurationMetadataItem copy = new ConfigurationMetadataItem();
+			copy.setId(item.getId());
+			copy.setType(item.getType());
+			copy.setDescription(item.getDescription());
+			copy.setShortDescription(item.getShortDescription());
+			copy.setDefaultValue(item.getDefaultValue());
+			copy.setDeprecation(item.getDeprecation());
+			copy.setSourceType(item.getSourceType());
+			copy.setSourceMethod(item.getSourceMethod());
+			items.add(copy);
+		}
+		return new RawConfigurationMetadata(this.origin, sources, items, this.hints);
+	}
+
 	/**
 	 * Resolve the name of an item against this instance.
 	 * @param item the item to resolve
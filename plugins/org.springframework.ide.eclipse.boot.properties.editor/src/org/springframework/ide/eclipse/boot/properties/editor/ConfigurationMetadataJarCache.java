@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor;
+
+import static org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesCompletionEngine.debug;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+import org.springframework.boot.configurationmetadata.RawConfigurationMetadata;
+
+/**
+ * Workspace-wide cache of the parsed configuration metadata of jar files.
+ * <p>
+ * Many projects typically depend on the same jars (e.g. spring-boot-autoconfigure) which
+ * contain large metadata files. Rather than re-parsing these for every project, the
+ * parsed metadata of a jar is kept here and shared by all projects. An entry is
+ * reused as long as the size and the modification time of its jar file don't change.
+ * Entries are removed once none of the projects that loaded metadata through the cache
+ * has the jar on its classpath any more (see {@link #setJars(String, Collection)} and
+ * {@link #forgetProject(String)}).
+ * <p>
+ * The cached {@link RawConfigurationMetadata} is never modified, builders only ever
+ * work on a copy of it (see {@link ConfigurationMetadataRepositoryJsonBuilder#withRawMetadata(RawConfigurationMetadata)}).
+ */
+public class ConfigurationMetadataJarCache {
+
+	private static final ConfigurationMetadataJarCache DEFAULT = new ConfigurationMetadataJarCache();
+
+	private final ConcurrentMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * The paths of the jars on the classpath of each project, by project name.
+	 */
+	private final Map<String, Set<String>> jarsByProject = new HashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * @return The cache shared by all projects in the workspace.
+	 */
+	public static ConfigurationMetadataJarCache getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Get the metadata contained in a jar file, parsing it only if the jar hasn't been
+	 * seen before or has changed since it was last parsed.
+	 *
+	 * @param jar the jar file
+	 * @return The parsed metadata, one element per {@link StsConfigMetadataRepositoryJsonLoader#JAR_META_DATA_LOCATIONS}
+	 *         location that exists in the jar.
+	 */
+	public List<RawConfigurationMetadata> getMetadata(File jar) throws IOException {
+		String path = jar.getAbsolutePath();
+		long size = jar.length();
+		long lastModified = jar.lastModified();
+		CacheEntry entry = cache.get(path);
+		while (entry==null || !entry.isFor(size, lastModified)) {
+			CacheEntry newEntry = new CacheEntry(size, lastModified);
+			boolean installed = entry==null
+					? cache.putIfAbsent(path, newEntry)==null
+					: cache.replace(path, entry, newEntry);
+			entry = installed ? newEntry : cache.get(path);
+		}
+		return entry.getMetadata(jar);
+	}
+
+	/**
+	 * Record the jars on the classpath of a project. The metadata of jars that were on its
+	 * classpath before, and aren't on the classpath of any other project, is removed.
+	 */
+	public void setJars(String project, Collection<File> jars) {
+		Set<String> paths = new HashSet<>();
+		for (File jar : jars) {
+			paths.add(jar.getAbsolutePath());
+		}
+		synchronized (jarsByProject) {
+			Set<String> old = jarsByProject.put(project, paths);
+			if (old!=null) {
+				old.removeAll(paths);
+				removeUnused(old);
+			}
+		}
+	}
+
+	/**
+	 * Forget the jars on the classpath of a project that was closed or deleted, removing
+	 * the metadata of the jars that aren't on the classpath of any other project.
+	 */
+	public void forgetProject(String project) {
+		synchronized (jarsByProject) {
+			Set<String> old = jarsByProject.remove(project);
+			if (old!=null) {
+				removeUnused(old);
+			}
+		}
+	}
+
+	private void removeUnused(Set<String> candidates) {
+		for (Set<String> used : jarsByProject.values()) {
+			candidates.removeAll(used);
+		}
+		cache.keySet().removeAll(candidates);
+	}
+
+	/**
+	 * Removes all cached metadata.
+	 */
+	public void clear() {
+		synchronized (jarsByProject) {
+			jarsByProject.clear();
+			cache.clear();
+		}
+	}
+
+	/**
+	 * @return The number of jars that are currently cached.
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * @return The number of requests that have been answered without parsing.
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return The number of requests that required a jar to be parsed.
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	private class CacheEntry {
+
+		private final long size;
+		private final long lastModified;
+
+		/**
+		 * Parsed lazily, guarded by 'this' so that projects which request the
+		 * same jar at the same time wait for a single parse.
+		 */
+		private List<RawConfigurationMetadata> metadata;
+
+		CacheEntry(long size, long lastModified) {
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+
+		boolean isFor(long size, long lastModified) {
+			return this.size==size && this.lastModified==lastModified;
+		}
+
+		synchronized List<RawConfigurationMetadata> getMetadata(File jar) throws IOException {
+			if (metadata==null) {
+				misses.incrementAndGet();
+				metadata = parse(jar);
+			} else {
+				hits.incrementAndGet();
+			}
+			return metadata;
+		}
+
+		private List<RawConfigurationMetadata> parse(File f) throws IOException {
+			debug("parse metadata from jar: "+f);
+			List<RawConfigurationMetadata> parsed = new ArrayList<>();
+			try (JarFile jarFile = new JarFile(f)) {
+				for (String loc : StsConfigMetadataRepositoryJsonLoader.JAR_META_DATA_LOCATIONS) {
+					ZipEntry ze = jarFile.getEntry(loc);
+					if (ze!=null) {
+						try (InputStream is = jarFile.getInputStream(ze)) {
+							parsed.add(ConfigurationMetadataRepositoryJsonBuilder.parseJsonResource(jarFile.getName()+"["+ze.getName()+"]", is));
+						}
+					}
+				}
+			}
+			return Collections.unmodifiableList(parsed);
+		}
+	}
+
+}
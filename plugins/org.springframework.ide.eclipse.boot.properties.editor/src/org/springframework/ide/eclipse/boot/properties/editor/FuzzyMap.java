@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 Pivotal, Inc.
+ * Copyright (c) 2014, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,13 +11,15 @@
 package org.springframework.ide.eclipse.boot.properties.editor;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
 
-import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
 import org.springframework.ide.eclipse.editor.support.util.FuzzyMatcher;
 import org.springframework.ide.eclipse.editor.support.util.StringUtil;
 
@@ -28,6 +30,13 @@ import org.springframework.ide.eclipse.editor.support.util.StringUtil;
  * <p>
  * The collection can then be searched for items who's key matches
  * simple 'fuzzy' patterns.
+ * <p>
+ * Searches don't scan all entries. A key can only match a pattern if it
+ * contains every character of the pattern at least as often as the pattern
+ * does, so an index of character occurrences is used to narrow down the
+ * candidates before they are scored. Additionally the matches of the last
+ * search are remembered, since a pattern that extends the previous one
+ * (the typical case while typing) can only match a subset of them.
  */
 public abstract class FuzzyMap<E> implements Iterable<E> {
 
@@ -69,6 +78,11 @@ public abstract class FuzzyMap<E> implements Iterable<E> {
 
 	private TreeMap<String,E> entries = new TreeMap<String, E>();
 
+	/**
+	 * Lazily created index over the current entries, discarded when entries are added.
+	 */
+	private volatile FuzzyIndex<E> index;
+
 	protected abstract String getKey(E entry);
 
 	public void add(E value) {
@@ -77,6 +91,7 @@ public abstract class FuzzyMap<E> implements Iterable<E> {
 		E existing = entries.get(key);
 		if (existing==null) {
 			entries.put(getKey(value), value);
+			index = null;
 		} else {
 			SpringPropertiesEditorPlugin.warning(FuzzyMap.class.getName()+": Multiple entries for key "+key+" some entries discarded");
 		}
@@ -100,19 +115,145 @@ public abstract class FuzzyMap<E> implements Iterable<E> {
 			}
 			return matches;
 		} else {
-			//TODO: optimize somehow with a smarter index? (right now searches all map entries sequentially)
+			FuzzyIndex<E> index = getIndex();
+			BitSet candidates = index.getCandidates(pattern);
 			ArrayList<Match<E>> matches = new ArrayList<Match<E>>();
-			for (Entry<String, E> e : entries.entrySet()) {
-				String key = e.getKey();
-				double score = FuzzyMatcher.matchScore(pattern, key);
+			BitSet matched = new BitSet(index.size());
+			for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i+1)) {
+				double score = FuzzyMatcher.matchScore(pattern, index.keys[i]);
 				if (score!=0.0) {
-					matches.add(new Match<E>(pattern, score, e.getValue()));
+					matches.add(new Match<E>(pattern, score, index.values[i]));
+					matched.set(i);
 				}
 			}
+			index.rememberMatches(pattern, matched);
 			return matches;
 		}
 	}
 
+	private FuzzyIndex<E> getIndex() {
+		FuzzyIndex<E> index = this.index;
+		if (index==null) {
+			synchronized (this) {
+				index = this.index;
+				if (index==null) {
+					this.index = index = new FuzzyIndex<E>(entries);
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Character occurrence index over a snapshot of the entries of a {@link FuzzyMap}.
+	 * Entries are numbered in key order, so iterating candidates yields them in
+	 * the same order as the map.
+	 */
+	private static class FuzzyIndex<E> {
+
+		/**
+		 * Number of occurrences of a single character that are tracked separately.
+		 * Patterns that contain a character more often are treated as if they contained
+		 * it this many times.
+		 */
+		private static final int MAX_OCCURRENCES = 3;
+
+		private final String[] keys;
+		private final E[] values;
+
+		/**
+		 * For every character, the entries that contain it at least 1, 2, ... MAX_OCCURRENCES times.
+		 */
+		private final Map<Character, BitSet[]> occurrences = new HashMap<Character, BitSet[]>();
+
+		private volatile LastSearch lastSearch;
+
+		@SuppressWarnings("unchecked")
+		public FuzzyIndex(TreeMap<String, E> entries) {
+			int size = entries.size();
+			keys = new String[size];
+			values = (E[]) new Object[size];
+			int id = 0;
+			Map<Character, Integer> counts = new HashMap<Character, Integer>();
+			for (Entry<String, E> e : entries.entrySet()) {
+				String key = e.getKey();
+				keys[id] = key;
+				values[id] = e.getValue();
+				counts.clear();
+				for (int i = 0; i < key.length(); i++) {
+					Character c = key.charAt(i);
+					Integer count = counts.get(c);
+					count = count==null ? 1 : count+1;
+					counts.put(c, count);
+					if (count<=MAX_OCCURRENCES) {
+						getOccurrences(c)[count-1].set(id);
+					}
+				}
+				id++;
+			}
+		}
+
+		public int size() {
+			return keys.length;
+		}
+
+		/**
+		 * Returns the entries that might match the given pattern.
+		 */
+		public BitSet getCandidates(String pattern) {
+			BitSet candidates = new BitSet(keys.length);
+			LastSearch last = lastSearch;
+			if (last!=null && pattern.startsWith(last.pattern)) {
+				candidates.or(last.matches);
+			} else {
+				candidates.set(0, keys.length);
+			}
+
+			Map<Character, Integer> counts = new HashMap<Character, Integer>();
+			for (int i = 0; i < pattern.length() && !candidates.isEmpty(); i++) {
+				Character c = pattern.charAt(i);
+				Integer count = counts.get(c);
+				count = count==null ? 1 : count+1;
+				counts.put(c, count);
+				if (count<=MAX_OCCURRENCES) {
+					BitSet[] charOccurrences = occurrences.get(c);
+					if (charOccurrences==null) {
+						candidates.clear();
+					} else {
+						candidates.and(charOccurrences[count-1]);
+					}
+				}
+			}
+			return candidates;
+		}
+
+		public void rememberMatches(String pattern, BitSet matches) {
+			lastSearch = new LastSearch(pattern, matches);
+		}
+
+		private BitSet[] getOccurrences(Character c) {
+			BitSet[] charOccurrences = occurrences.get(c);
+			if (charOccurrences==null) {
+				charOccurrences = new BitSet[MAX_OCCURRENCES];
+				for (int i = 0; i < MAX_OCCURRENCES; i++) {
+					charOccurrences[i] = new BitSet(keys.length);
+				}
+				occurrences.put(c, charOccurrences);
+			}
+			return charOccurrences;
+		}
+	}
+
+	private static class LastSearch {
+		final String pattern;
+		final BitSet matches;
+
+		LastSearch(String pattern, BitSet matches) {
+			this.pattern = pattern;
+			this.matches = matches;
+		}
+	}
+
 	/**
 	 * Searches the index for the longest string which is both
 	 *  - a prefix of propertyName
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 Pivotal, Inc.
+ * Copyright (c) 2014, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,7 +16,9 @@ import org.eclipse.core.runtime.preferences.DefaultScope;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.osgi.framework.BundleContext;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.JavaNameIndexManager;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry;
+import org.springframework.ide.eclipse.boot.properties.editor.util.BeanPropertiesCache;
 import org.springframework.ide.eclipse.boot.properties.editor.util.ClasspathListener;
 import org.springframework.ide.eclipse.boot.properties.editor.util.ClasspathListenerManager;
 import org.springframework.ide.eclipse.boot.properties.editor.util.ListenerManager;
@@ -83,6 +85,24 @@ public class SpringPropertiesEditorPlugin extends AbstractUIPlugin {
 		return classpathListeners;
 	}
 
+	private static BeanPropertiesCache beanPropertiesCache;
+
+	public static synchronized BeanPropertiesCache getBeanPropertiesCache() {
+		if (beanPropertiesCache==null) {
+			beanPropertiesCache = new BeanPropertiesCache();
+		}
+		return beanPropertiesCache;
+	}
+
+	private static JavaNameIndexManager javaNameIndexManager;
+
+	public static synchronized JavaNameIndexManager getJavaNameIndexManager() {
+		if (javaNameIndexManager==null) {
+			javaNameIndexManager = new JavaNameIndexManager();
+		}
+		return javaNameIndexManager;
+	}
+
 	private static SpringPropertiesIndexManager indexManager;
 
 	public static SpringPropertiesIndexManager getIndexManager() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,13 +11,17 @@
 package org.springframework.ide.eclipse.boot.properties.editor;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.IJavaProject;
 import org.springframework.boot.configurationmetadata.ConfigurationMetadataGroup;
 import org.springframework.boot.configurationmetadata.ConfigurationMetadataProperty;
 import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepository;
 import org.springframework.boot.configurationmetadata.ConfigurationMetadataSource;
+import org.springframework.boot.configurationmetadata.RawConfigurationMetadata;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.PropertyInfo;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry;
 
@@ -25,20 +29,43 @@ public class SpringPropertyIndex extends FuzzyMap<PropertyInfo> {
 
 	private ValueProviderRegistry valueProviders;
 
+	/**
+	 * The parsed metadata this index was built from.
+	 */
+	private final List<RawConfigurationMetadata> metadata;
+
 	public SpringPropertyIndex(ValueProviderRegistry valueProviders, IJavaProject jp) {
+		this(valueProviders, jp, null);
+	}
+
+	/**
+	 * Create an index of the properties metadata on the classpath of a project.
+	 *
+	 * @param mon Progress monitor that is checked for cancelation, may be null.
+	 * @throws OperationCanceledException if the monitor was canceled while the index was being built.
+	 */
+	public SpringPropertyIndex(ValueProviderRegistry valueProviders, IJavaProject jp, IProgressMonitor mon) {
+		this(valueProviders, loadMetadata(jp, mon));
+	}
+
+	/**
+	 * Create an index of already loaded metadata.
+	 *
+	 * @see StsConfigMetadataRepositoryJsonLoader#loadMetadata(IJavaProject, IProgressMonitor)
+	 */
+	public SpringPropertyIndex(ValueProviderRegistry valueProviders, List<RawConfigurationMetadata> metadata) {
 		this.valueProviders = valueProviders;
-		if (jp!=null) {
+		this.metadata = metadata;
+		if (!metadata.isEmpty()) {
 			try {
-				StsConfigMetadataRepositoryJsonLoader loader = new StsConfigMetadataRepositoryJsonLoader();
-				ConfigurationMetadataRepository metadata = loader.load(jp);
-				//^^^ Should be done in bg? It seems fast enough for now.
+				ConfigurationMetadataRepository repository = StsConfigMetadataRepositoryJsonLoader.build(metadata);
 
-				Collection<ConfigurationMetadataProperty> allEntries = metadata.getAllProperties().values();
+				Collection<ConfigurationMetadataProperty> allEntries = repository.getAllProperties().values();
 				for (ConfigurationMetadataProperty item : allEntries) {
 					add(new PropertyInfo(valueProviders, item));
 				}
 
-				for (ConfigurationMetadataGroup group : metadata.getAllGroups().values()) {
+				for (ConfigurationMetadataGroup group : repository.getAllGroups().values()) {
 					for (ConfigurationMetadataSource source : group.getSources().values()) {
 						for (ConfigurationMetadataProperty prop : source.getProperties().values()) {
 							PropertyInfo info = get(prop.getId());
@@ -56,6 +83,42 @@ public class SpringPropertyIndex extends FuzzyMap<PropertyInfo> {
 		}
 	}
 
+	/**
+	 * Load the metadata of a project, logging any problems other than cancelation.
+	 *
+	 * @param jp The project, may be null.
+	 * @param mon Progress monitor that is checked for cancelation, may be null.
+	 * @throws OperationCanceledException if the monitor was canceled.
+	 */
+	public static List<RawConfigurationMetadata> loadMetadata(IJavaProject jp, IProgressMonitor mon) {
+		if (jp!=null) {
+			try {
+				return new StsConfigMetadataRepositoryJsonLoader().loadMetadata(jp, mon);
+			} catch (OperationCanceledException e) {
+				throw e;
+			} catch (Exception e) {
+				SpringPropertiesEditorPlugin.log(e);
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * @return Whether this index was built from exactly the given metadata, i.e.
+	 *         building an index from it would result in an index equal to this one.
+	 */
+	public boolean isBuiltFrom(List<RawConfigurationMetadata> other) {
+		if (metadata.size()!=other.size()) {
+			return false;
+		}
+		for (int i = 0; i < metadata.size(); i++) {
+			if (metadata.get(i)!=other.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public void add(ConfigurationMetadataProperty propertyInfo) {
 		add(new PropertyInfo(valueProviders, propertyInfo));
 	}
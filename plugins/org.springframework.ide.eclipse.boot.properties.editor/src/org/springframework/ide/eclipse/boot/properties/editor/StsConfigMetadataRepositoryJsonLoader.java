@@ -15,14 +15,18 @@ import static org.springframework.ide.eclipse.boot.properties.editor.SpringPrope
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.jar.JarFile;
-import java.util.zip.ZipEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
@@ -30,6 +34,7 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepository;
 import org.springframework.boot.configurationmetadata.ConfigurationMetadataRepositoryJsonBuilder;
+import org.springframework.boot.configurationmetadata.RawConfigurationMetadata;
 import org.springframework.ide.eclipse.boot.util.FileUtil;
 
 /**
@@ -60,7 +65,24 @@ public class StsConfigMetadataRepositoryJsonLoader {
 		ADDITIONAL_SPRING_CONFIGURATION_METADATA_JSON
 	};
 
-	private ConfigurationMetadataRepositoryJsonBuilder builder = ConfigurationMetadataRepositoryJsonBuilder.create();
+	/**
+	 * Parsed metadata of json files in project output folders, keyed by the full path of
+	 * the file. Reused for as long as the modification stamp of the file doesn't change.
+	 * Entries are removed when the file is found to be gone, or when its project is
+	 * closed or deleted (see {@link #forgetProject(IProject)}).
+	 */
+	private static final ConcurrentMap<IPath, JsonFileMetadata> jsonFileCache = new ConcurrentHashMap<>();
+
+	private static class JsonFileMetadata {
+		final long modificationStamp;
+		final RawConfigurationMetadata metadata;
+		JsonFileMetadata(long modificationStamp, RawConfigurationMetadata metadata) {
+			this.modificationStamp = modificationStamp;
+			this.metadata = metadata;
+		}
+	}
+
+	private final List<RawConfigurationMetadata> metadata = new ArrayList<>();
 
 	/**
 	 * Load the {@link ConfigMetadataRepository} with the metadata of the current
@@ -69,9 +91,38 @@ public class StsConfigMetadataRepositoryJsonLoader {
 	 * loaded is kept which means the result is not deterministic.
 	 */
 	public ConfigurationMetadataRepository load(IJavaProject project) throws Exception {
+		return load(project, null);
+	}
+
+	/**
+	 * Like {@link #load(IJavaProject)}, but checks the given monitor for cancelation
+	 * between classpath entries.
+	 *
+	 * @throws OperationCanceledException if the monitor was canceled.
+	 */
+	public ConfigurationMetadataRepository load(IJavaProject project, IProgressMonitor mon) throws Exception {
 		debug(">> load ConfigurationMetadataRepository for "+project.getElementName());
+		ConfigurationMetadataRepository repository = build(loadMetadata(project, mon));
+		debug("<< load ConfigurationMetadataRepository for "+project.getElementName()+": "+repository.getAllProperties().size()+" properties");
+		return repository;
+	}
+
+	/**
+	 * Collect the parsed metadata of all classpath entries and output folders of a project,
+	 * in classpath order. Unchanged jars and json files yield the very same (shared)
+	 * {@link RawConfigurationMetadata} instances every time, so comparing the results
+	 * of two calls element by element tells whether anything changed in between.
+	 *
+	 * @throws OperationCanceledException if the monitor was canceled.
+	 */
+	public List<RawConfigurationMetadata> loadMetadata(IJavaProject project, IProgressMonitor mon) throws Exception {
+		metadata.clear();
+		List<File> jars = new ArrayList<>();
 		IClasspathEntry[] classpath = project.getResolvedClasspath(true);
 		for (IClasspathEntry e : classpath) {
+			if (mon!=null && mon.isCanceled()) {
+				throw new OperationCanceledException();
+			}
 			int ekind = e.getEntryKind();
 			int ckind = e.getContentKind();
 			IPath path = e.getPath();
@@ -79,6 +130,7 @@ public class StsConfigMetadataRepositoryJsonLoader {
 				//jar file dependency
 				File jarFile = path.toFile();
 				if (FileUtil.isJarFile(jarFile)) {
+					jars.add(jarFile);
 					loadFromJar(jarFile);
 				}
 			} else if (ekind==IClasspathEntry.CPE_PROJECT) {
@@ -88,9 +140,41 @@ public class StsConfigMetadataRepositoryJsonLoader {
 			}
 		}
 		loadFromOutputFolder(project);
-		ConfigurationMetadataRepository repository = builder.build();
-		debug("<< load ConfigurationMetadataRepository for "+project.getElementName()+": "+repository.getAllProperties().size()+" properties");
-		return repository;
+		ConfigurationMetadataJarCache.getDefault().setJars(project.getElementName(), jars);
+		return new ArrayList<>(metadata);
+	}
+
+	/**
+	 * Forget the cached metadata of the json files in the output folders of a project,
+	 * and of the jars that only that project had on its classpath.
+	 */
+	public static void forgetProject(IProject project) {
+		String name = project.getName();
+		ConfigurationMetadataJarCache.getDefault().forgetProject(name);
+		for (IPath path : jsonFileCache.keySet()) {
+			if (name.equals(path.segment(0))) {
+				jsonFileCache.remove(path);
+			}
+		}
+	}
+
+	/**
+	 * @return The number of json files whose parsed metadata is cached, for testing.
+	 */
+	public static int getJsonFileCacheSize() {
+		return jsonFileCache.size();
+	}
+
+	/**
+	 * Merge parsed metadata into a repository. If the same config metadata item is
+	 * contained in several of them, the first one is kept.
+	 */
+	public static ConfigurationMetadataRepository build(List<RawConfigurationMetadata> metadata) {
+		ConfigurationMetadataRepositoryJsonBuilder builder = ConfigurationMetadataRepositoryJsonBuilder.create();
+		for (RawConfigurationMetadata m : metadata) {
+			builder.withRawMetadata(m);
+		}
+		return builder.build();
 	}
 
 	private void loadFromProjectDependency(IClasspathEntry entry) {
@@ -123,11 +207,22 @@ public class StsConfigMetadataRepositoryJsonLoader {
 	}
 
 	private void loadFromJsonFile(IFile mdf) {
-		if (mdf.exists()) {
+		IPath path = mdf.getFullPath();
+		if (!mdf.exists()) {
+			jsonFileCache.remove(path);
+		} else {
+			long modificationStamp = mdf.getModificationStamp();
+			JsonFileMetadata cached = jsonFileCache.get(path);
+			if (cached!=null && cached.modificationStamp==modificationStamp) {
+				metadata.add(cached.metadata);
+				return;
+			}
 			InputStream is = null;
 			try {
 				is = mdf.getContents(true);
-				loadFromInputStream(mdf, is);
+				RawConfigurationMetadata parsed = ConfigurationMetadataRepositoryJsonBuilder.parseJsonResource(mdf, is);
+				jsonFileCache.put(path, new JsonFileMetadata(modificationStamp, parsed));
+				metadata.add(parsed);
 			} catch (Exception e) {
 				SpringPropertiesEditorPlugin.log(e);
 			} finally {
@@ -144,50 +239,13 @@ public class StsConfigMetadataRepositoryJsonLoader {
 
 	private void loadFromJar(File f) {
 		debug("load from jar: "+f);
-		JarFile jarFile = null;
 		try {
-			jarFile = new JarFile(f);
-			//jarDump(jarFile);
-			for (String loc : JAR_META_DATA_LOCATIONS) {
-				ZipEntry e = jarFile.getEntry(loc);
-				if (e!=null) {
-					loadFrom(jarFile, e);
-				}
-			}
+			metadata.addAll(ConfigurationMetadataJarCache.getDefault().getMetadata(f));
 		} catch (Throwable e) {
 			SpringPropertiesEditorPlugin.log(e);
-		} finally {
-			if (jarFile!=null) {
-				try {
-					jarFile.close();
-				} catch (IOException e) {
-				}
-			}
-		}
-	}
-
-
-	private void loadFrom(JarFile jarFile, ZipEntry ze) {
-		InputStream is = null;
-		try {
-			is = jarFile.getInputStream(ze);
-			loadFromInputStream(jarFile.getName()+"["+ze.getName()+"]", is);
-		} catch (Throwable e) {
-			SpringPropertiesEditorPlugin.log(e);
-		} finally {
-			if (is!=null) {
-				try {
-					is.close();
-				} catch (IOException e) {
-				}
-			}
 		}
 	}
 
-	private void loadFromInputStream(Object origin, InputStream is) throws IOException {
-		builder.withJsonResource(origin, is);
-	}
-
 	/// Debug utils
 	private String ckind(int ckind) {
 		switch (ckind) {
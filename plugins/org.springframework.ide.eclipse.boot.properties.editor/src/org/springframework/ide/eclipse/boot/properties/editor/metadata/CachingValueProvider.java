@@ -15,7 +15,7 @@ import java.time.Duration;
 import org.eclipse.jdt.core.IJavaProject;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry.ValueProviderStrategy;
 import org.springframework.ide.eclipse.boot.properties.editor.util.Cache;
-import org.springframework.ide.eclipse.boot.properties.editor.util.LimitedTimeCache;
+import org.springframework.ide.eclipse.boot.properties.editor.util.ExpiringLruCache;
 import org.springframework.ide.eclipse.editor.support.util.FuzzyMatcher;
 
 import reactor.core.publisher.Flux;
@@ -69,28 +69,43 @@ public abstract class CachingValueProvider implements ValueProviderStrategy {
 	 */
 	private int MAX_RESULTS = 500;
 
+	/**
+	 * The maximum number of queries for which results are cached. Every keystroke during content assist
+	 * is a new query, so this needs to be bounded.
+	 */
+	private static final int MAX_CACHED_QUERIES = 100;
+
 	private Cache<Tuple2<String,String>, CacheEntry> cache = createCache();
 
 	private class CacheEntry {
-		boolean isComplete = false;
-		int count = 0;
+		volatile boolean isComplete = false;
+		volatile int count = 0;
 		Flux<StsValueHint> values;
 
 		public CacheEntry(String query, Flux<StsValueHint> producer) {
 			values = producer
-//			.doOnNext((e) -> {
-//				count++;
+			.take(MAX_RESULTS)
+			.doOnNext((e) -> {
+				count++;
 //				debug("onNext["+query+":"+count+"]: "+e.getValue().toString());
-//			})
-//			.doOnComplete(() -> {
+			})
+			.doOnComplete(() -> {
 //				debug("onComplete["+query+":"+count+"]");
-//				isComplete = true;
-//			})
-			.take(MAX_RESULTS)
+				isComplete = true;
+			})
 			.cache(MAX_RESULTS);
 			values.subscribe(); // create infinite demand so that we actually force cache entries to be fetched upto the max.
 		}
 
+		/**
+		 * Whether these are all the values for the query, so that the values of a longer query
+		 * can be found by filtering them. When the search was cut off at {@link #MAX_RESULTS}
+		 * that isn't the case.
+		 */
+		boolean hasAllValues() {
+			return isComplete && count<MAX_RESULTS;
+		}
+
 		@Override
 		public String toString() {
 			return "CacheEntry [isComplete=" + isComplete + ", count=" + count + "]";
@@ -121,8 +136,7 @@ public abstract class CachingValueProvider implements ValueProviderStrategy {
 			subquery = subquery.substring(0, subquery.length()-1);
 			CacheEntry cached = cache.get(key(javaProject, subquery));
 			if (cached!=null) {
-				System.out.println("cached "+subquery+": "+cached);
-				if (cached.isComplete) {
+				if (cached.hasAllValues()) {
 //					debug("filtering "+subquery+" -> "+query);
 					return cached.values
 //							.doOnNext((hint) -> debug("filter["+query+"]: "+hint.getValue()))
@@ -143,7 +157,7 @@ public abstract class CachingValueProvider implements ValueProviderStrategy {
 	}
 
 	protected <K,V> Cache<K,V> createCache() {
-		return new LimitedTimeCache<>(Duration.ofMinutes(1));
+		return new ExpiringLruCache<>(MAX_CACHED_QUERIES, Duration.ofMinutes(1));
 	}
 
 	public static void restoreDefaults() {
@@ -23,12 +23,14 @@ import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchPattern;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.JavaNameIndex.JavaName;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry.ValueProviderStrategy;
-import org.springframework.ide.eclipse.boot.properties.editor.util.LimitedTimeCache;
+import org.springframework.ide.eclipse.boot.properties.editor.util.ExpiringLruCache;
 import org.springframework.ide.eclipse.boot.util.Log;
 import org.springframework.ide.eclipse.editor.support.util.StringUtil;
 import org.springsource.ide.eclipse.commons.frameworks.core.async.FluxJdtSearch;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -47,8 +49,8 @@ public class ClassReferenceProvider extends JdtSearchingValueProvider {
 
 	private static final ClassReferenceProvider UNTARGETTED_INSTANCE = new ClassReferenceProvider(null, DEFAULT_CONCRETE);
 
-	public static final Function<Map<String, Object>, ValueProviderStrategy> FACTORY = LimitedTimeCache.applyOn(
-		Duration.ofMinutes(1),
+	public static final Function<Map<String, Object>, ValueProviderStrategy> FACTORY = ExpiringLruCache.applyOn(
+		100, Duration.ofMinutes(1),
 		(params) -> {
 			String target = getTarget(params);
 			Boolean concrete = getConcrete(params);
@@ -140,6 +142,18 @@ public class ClassReferenceProvider extends JdtSearchingValueProvider {
 	}
 
 
+	@Override
+	protected Flux<StsValueHint> getValuesFromIndex(IJavaProject javaProject, String query) {
+		if (target==null) {
+			//With a target, the JDT search only looks at the subtypes of the target, which the index doesn't know about.
+			JavaNameIndex index = getNameIndex(javaProject);
+			if (index!=null) {
+				return index.search(query, concrete ? JavaName::isConcreteType : (name) -> !name.isPackage());
+			}
+		}
+		return null;
+	}
+
 	@Override
 	protected SearchPattern toPattern(String query) {
 		String wildcardedQuery = toWildCardPattern(query);
@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.metadata;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+import org.springframework.ide.eclipse.boot.util.Log;
+import org.springframework.ide.eclipse.editor.support.util.FuzzyMatcher;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * In-memory index of the fully qualified names of all the types and packages on the
+ * classpath of a project. Used by {@link JdtSearchingValueProvider}s to answer content
+ * assist queries without running a JDT search for each one of them.
+ * <p>
+ * The index is built by a background job. While it is being (re)built, e.g. after the
+ * classpath of the project changed, {@link #search(String, Predicate)} returns null and
+ * callers should fall back on a JDT search. Changes to compilation units are applied to
+ * the index directly (see {@link JavaNameIndexManager}). When building the index fails,
+ * it is retried later, with increasing delays.
+ * <p>
+ * The names are kept per package fragment root. The names found in a jar are shared by
+ * the indexes of all projects that have that jar on their classpath.
+ */
+public class JavaNameIndex {
+
+	/**
+	 * A type or package in the index.
+	 */
+	public static class JavaName {
+
+		private final String name;
+		private final IJavaElement element;
+		private final int flags;
+
+		JavaName(String name, IJavaElement element, int flags) {
+			this.name = name;
+			this.element = element;
+			this.flags = flags;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public IJavaElement getElement() {
+			return element;
+		}
+
+		public boolean isPackage() {
+			return element.getElementType()==IJavaElement.PACKAGE_FRAGMENT;
+		}
+
+		/**
+		 * @return Whether this is a type that can be instantiated (i.e. not an interface or abstract class).
+		 */
+		public boolean isConcreteType() {
+			return !isPackage() && !Flags.isInterface(flags) && !Flags.isAbstract(flags);
+		}
+
+		private ICompilationUnit getCompilationUnit() {
+			return isPackage() ? null : ((IType)element).getCompilationUnit();
+		}
+
+		/**
+		 * Match a wildcard pattern the way a JDT search does: types on their simple name,
+		 * packages on their full name, ignoring case.
+		 */
+		private boolean matches(char[] pattern) {
+			String matched = isPackage() ? name : element.getElementName();
+			return CharOperation.match(pattern, matched.toCharArray(), false);
+		}
+	}
+
+	/**
+	 * The names found in a package fragment root, and which of them are declared by each
+	 * compilation unit. The latter are only accessed while holding the lock of the index
+	 * (or before the names are handed to the index), searches just iterate the former.
+	 */
+	static class RootNames {
+		private final IPackageFragmentRoot root;
+		final Map<String, JavaName> byName = new ConcurrentHashMap<>();
+		final Map<ICompilationUnit, List<JavaName>> byCompilationUnit = new HashMap<>();
+
+		RootNames(IPackageFragmentRoot root) {
+			this.root = root;
+		}
+
+		/**
+		 * @return The root the names were found in. For a shared jar, this is the root of the
+		 * project that first searched it, the elements of the names belong to that project.
+		 */
+		IPackageFragmentRoot getRoot() {
+			return root;
+		}
+	}
+
+	/**
+	 * The names in the index, by the path of the root they were found in.
+	 */
+	private static class Names {
+		final Map<IPath, RootNames> byRoot = new LinkedHashMap<>();
+	}
+
+	private static final long MIN_RETRY_DELAY = TimeUnit.SECONDS.toMillis(1);
+	private static final long MAX_RETRY_DELAY = TimeUnit.MINUTES.toMillis(5);
+
+	private final IJavaProject project;
+
+	/**
+	 * The names of the jars searched so far, by path, shared with the indexes of other projects.
+	 */
+	private final Map<IPath, RootNames> archives;
+
+	/**
+	 * The names in the index, or null while the index is being (re)built.
+	 */
+	private Names names;
+
+	/**
+	 * Set when the names being built by a running build job may already be out-of-date.
+	 */
+	private boolean stale;
+
+	private final Job buildJob;
+
+	/**
+	 * Delay before the next attempt to build the index, should the current one fail.
+	 */
+	private long retryDelay = MIN_RETRY_DELAY;
+
+	JavaNameIndex(IJavaProject project, Map<IPath, RootNames> archives) {
+		this.project = project;
+		this.archives = archives;
+		this.buildJob = new Job("Indexing Java names of "+project.getElementName()) {
+			{
+				setSystem(true);
+			}
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				synchronized (JavaNameIndex.this) {
+					stale = false;
+				}
+				try {
+					Names built = build(monitor);
+					synchronized (JavaNameIndex.this) {
+						retryDelay = MIN_RETRY_DELAY;
+						if (!stale) {
+							if (isShared(built)) {
+								names = built;
+							} else {
+								//Some of the jars were searched again while this was being built.
+								schedule();
+							}
+						}
+					}
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (Exception e) {
+					Log.log(e);
+					synchronized (JavaNameIndex.this) {
+						if (!monitor.isCanceled()) {
+							//Callers fall back on JDT searches in the mean time.
+							schedule(retryDelay);
+							retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+						}
+					}
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		rebuild();
+	}
+
+	public IJavaProject getProject() {
+		return project;
+	}
+
+	/**
+	 * Find the names matching a content assist query. The names match if a JDT search with
+	 * the wildcarded query would find them and they fuzzy match the query. The best matches
+	 * come first, so callers that only take so many of them get the best ones.
+	 *
+	 * @return The matching names as hints, or null if the index isn't ready.
+	 */
+	public Flux<StsValueHint> search(String query, Predicate<JavaName> filter) {
+		Names names;
+		synchronized (this) {
+			names = this.names;
+		}
+		if (names==null) {
+			return null;
+		}
+		return Flux.defer(() -> Flux.fromIterable(findMatches(names, query, filter)))
+				.map((name) -> StsValueHint.create(name.getName(), name.getElement()));
+	}
+
+	private static List<JavaName> findMatches(Names names, String query, Predicate<JavaName> filter) {
+		char[] pattern = JdtSearchingValueProvider.toWildCardPattern(query).toCharArray();
+		Map<String, Double> scores = new HashMap<>();
+		List<JavaName> matches = new ArrayList<>();
+		for (RootNames rootNames : names.byRoot.values()) {
+			for (JavaName name : rootNames.byName.values()) {
+				//The same packages are found in many roots.
+				if (!scores.containsKey(name.getName()) && filter.test(name) && name.matches(pattern)) {
+					double score = FuzzyMatcher.matchScore(query, name.getName());
+					if (score!=0) {
+						scores.put(name.getName(), score);
+						matches.add(name);
+					}
+				}
+			}
+		}
+		matches.sort(Comparator.comparing((JavaName name) -> scores.get(name.getName())).reversed()
+				.thenComparing(JavaName::getName));
+		return matches;
+	}
+
+	/**
+	 * Discard the index and build it again in the background.
+	 */
+	synchronized void rebuild() {
+		names = null;
+		stale = true;
+		buildJob.schedule();
+	}
+
+	/**
+	 * Update the names declared in a compilation unit that was added, removed or changed.
+	 */
+	synchronized void update(ICompilationUnit cu) {
+		if (!project.isOnClasspath(cu)) {
+			return;
+		}
+		if (names==null) {
+			//Being built, but maybe from an older version of the cu.
+			stale = true;
+			buildJob.schedule();
+			return;
+		}
+		IPackageFragmentRoot root = (IPackageFragmentRoot) cu.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		RootNames rootNames = names.byRoot.get(root.getPath());
+		if (rootNames==null) {
+			//A source folder the index doesn't know about yet.
+			rebuild();
+			return;
+		}
+		List<JavaName> declared = rootNames.byCompilationUnit.remove(cu);
+		if (declared!=null) {
+			for (JavaName name : declared) {
+				rootNames.byName.remove(name.getName(), name);
+			}
+		}
+		try {
+			if (cu.exists()) {
+				for (IType type : cu.getAllTypes()) {
+					add(rootNames, type, type.getFlags());
+				}
+			}
+		} catch (Exception e) {
+			Log.log(e);
+		}
+	}
+
+	/**
+	 * @return Whether the index uses the given names of a shared jar.
+	 */
+	synchronized boolean uses(RootNames shared) {
+		return names!=null && names.byRoot.get(shared.getRoot().getPath())==shared;
+	}
+
+	synchronized void dispose() {
+		buildJob.cancel();
+		names = null;
+	}
+
+	private Names build(IProgressMonitor mon) throws CoreException {
+		Names names = new Names();
+		Map<IPath, RootNames> searched = new HashMap<>();
+		for (IPackageFragmentRoot root : project.getAllPackageFragmentRoots()) {
+			IPath path = root.getPath();
+			RootNames rootNames = root.isArchive() ? archives.get(path) : null;
+			if (rootNames==null) {
+				rootNames = new RootNames(root);
+				searched.put(path, rootNames);
+			}
+			names.byRoot.put(path, rootNames);
+		}
+		if (!searched.isEmpty()) {
+			IJavaElement[] roots = new IJavaElement[searched.size()];
+			int i = 0;
+			for (RootNames rootNames : searched.values()) {
+				roots[i++] = rootNames.getRoot();
+			}
+			new SearchEngine().searchAllTypeNames(
+					null, SearchPattern.R_EXACT_MATCH, //any package
+					null, SearchPattern.R_EXACT_MATCH, //any type
+					IJavaSearchConstants.TYPE,
+					SearchEngine.createJavaSearchScope(roots),
+					new TypeNameMatchRequestor() {
+						@Override
+						public void acceptTypeNameMatch(TypeNameMatch match) {
+							RootNames rootNames = searched.get(match.getPackageFragmentRoot().getPath());
+							if (rootNames!=null) {
+								add(rootNames, match.getType(), match.getModifiers());
+							}
+						}
+					},
+					IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+					mon
+			);
+			for (RootNames rootNames : searched.values()) {
+				IPackageFragmentRoot root = rootNames.getRoot();
+				if (root.isArchive()) {
+					RootNames shared = archives.putIfAbsent(root.getPath(), rootNames);
+					if (shared!=null) {
+						//Another project searched the same jar in the mean time.
+						names.byRoot.put(root.getPath(), shared);
+					}
+				}
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * @return Whether the names of the jars in the given names are still the shared ones.
+	 */
+	private boolean isShared(Names names) {
+		for (RootNames rootNames : names.byRoot.values()) {
+			IPackageFragmentRoot root = rootNames.getRoot();
+			if (root.isArchive() && archives.get(root.getPath())!=rootNames) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Add a type, and the package it is in as well as the parents of that package, to the names of its root.
+	 */
+	private static void add(RootNames names, IType type, int flags) {
+		String typeName = type.getFullyQualifiedName();
+		JavaName name = new JavaName(typeName, type, flags);
+		if (names.byName.putIfAbsent(typeName, name)==null) {
+			ICompilationUnit cu = name.getCompilationUnit();
+			if (cu!=null) {
+				names.byCompilationUnit.computeIfAbsent(cu, (ignore) -> new ArrayList<>()).add(name);
+			}
+		}
+		IPackageFragment pkg = type.getPackageFragment();
+		String pkgName = pkg.getElementName();
+		while (!pkgName.isEmpty() && !names.byName.containsKey(pkgName)) {
+			names.byName.put(pkgName, new JavaName(pkgName, pkg, 0));
+			int dot = pkgName.lastIndexOf('.');
+			pkgName = dot>=0 ? pkgName.substring(0, dot) : "";
+			pkg = ((IPackageFragmentRoot)pkg.getParent()).getPackageFragment(pkgName);
+		}
+	}
+
+}
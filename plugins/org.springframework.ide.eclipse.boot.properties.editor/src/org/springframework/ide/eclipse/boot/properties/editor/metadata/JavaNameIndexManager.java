@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.metadata;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.springframework.ide.eclipse.boot.properties.editor.metadata.JavaNameIndex.RootNames;
+
+/**
+ * Keeps a {@link JavaNameIndex} for each project that needed one, and keeps these up-to-date
+ * with changes to the Java model. Changes to the classpath of a project cause its index to
+ * be rebuilt, changes to compilation units only update the names declared in them.
+ * <p>
+ * The names found in jars are shared by the indexes, as long as they are up-to-date and
+ * the project whose elements they refer to still has the jar on its classpath.
+ */
+public class JavaNameIndexManager implements IElementChangedListener {
+
+	private final Map<IJavaProject, JavaNameIndex> indexes = new HashMap<>();
+
+	private final Map<IPath, RootNames> archives = new ConcurrentHashMap<>();
+
+	public JavaNameIndexManager() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Get the index for a given project, starting to build it if it doesn't exist yet.
+	 */
+	public synchronized JavaNameIndex get(IJavaProject project) {
+		JavaNameIndex index = indexes.get(project);
+		if (index==null) {
+			indexes.put(project, index = new JavaNameIndex(project, archives));
+		}
+		return index;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		visit(event.getDelta());
+	}
+
+	private void visit(IJavaElementDelta delta) {
+		IJavaElement el = delta.getElement();
+		switch (el.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+			visitChildren(delta);
+			break;
+		case IJavaElement.JAVA_PROJECT:
+			if (delta.getKind()==IJavaElementDelta.REMOVED || isFlagged(delta, IJavaElementDelta.F_CLOSED)) {
+				dispose((IJavaProject) el);
+			} else if (isFlagged(delta, IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) {
+				forgetArchives((IJavaProject) el, (names) -> !names.getRoot().exists());
+				rebuild((IJavaProject) el);
+			} else {
+				visitChildren(delta);
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			if (delta.getKind()!=IJavaElementDelta.CHANGED || isFlagged(delta,
+					IJavaElementDelta.F_ADDED_TO_CLASSPATH |
+					IJavaElementDelta.F_REMOVED_FROM_CLASSPATH |
+					IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			)) {
+				IPath path = ((IPackageFragmentRoot) el).getPath();
+				if (isFlagged(delta, IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) {
+					forgetArchives(null, (names) -> names.getRoot().getPath().equals(path));
+				} else {
+					forgetArchives(el.getJavaProject(), (names) -> !names.getRoot().exists());
+				}
+				rebuild(el);
+			} else {
+				visitChildren(delta);
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT:
+			//The compilation units of a package that is added or removed aren't always reported separately.
+			if (delta.getKind()!=IJavaElementDelta.CHANGED) {
+				rebuild(el);
+			} else {
+				visitChildren(delta);
+			}
+			break;
+		case IJavaElement.COMPILATION_UNIT:
+			ICompilationUnit cu = (ICompilationUnit) el;
+			if (!cu.isWorkingCopy()) {
+				for (JavaNameIndex index : getIndexes()) {
+					index.update(cu);
+				}
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void visitChildren(IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			visit(child);
+		}
+	}
+
+	private static boolean isFlagged(IJavaElementDelta delta, int flags) {
+		return 0!=(delta.getFlags() & flags);
+	}
+
+	private synchronized List<JavaNameIndex> getIndexes() {
+		return new ArrayList<>(indexes.values());
+	}
+
+	private synchronized void rebuild(IJavaProject project) {
+		JavaNameIndex index = indexes.get(project);
+		if (index!=null) {
+			index.rebuild();
+		}
+	}
+
+	/**
+	 * Rebuild the indexes of all projects that have the given element on their classpath.
+	 */
+	private synchronized void rebuild(IJavaElement changed) {
+		for (JavaNameIndex index : indexes.values()) {
+			IJavaProject project = index.getProject();
+			if (project.equals(changed.getJavaProject()) || project.isOnClasspath(changed)) {
+				index.rebuild();
+			}
+		}
+	}
+
+	private synchronized void dispose(IJavaProject project) {
+		forgetArchives(project, (names) -> true);
+		JavaNameIndex index = indexes.remove(project);
+		if (index!=null) {
+			index.dispose();
+		}
+		//Don't keep the names of jars no project uses any more.
+		archives.values().removeIf((names) -> !isUsed(names));
+	}
+
+	/**
+	 * Stop sharing the names of some jars, and rebuild the indexes that use them.
+	 *
+	 * @param owner Only forget the names of jars searched through this project (null for any project).
+	 */
+	private synchronized void forgetArchives(IJavaProject owner, Predicate<RootNames> forget) {
+		for (RootNames names : new ArrayList<>(archives.values())) {
+			if ((owner==null || owner.equals(names.getRoot().getJavaProject())) && forget.test(names)) {
+				archives.remove(names.getRoot().getPath(), names);
+				for (JavaNameIndex index : indexes.values()) {
+					if (index.uses(names)) {
+						index.rebuild();
+					}
+				}
+			}
+		}
+	}
+
+	private boolean isUsed(RootNames names) {
+		for (JavaNameIndex index : indexes.values()) {
+			if (index.uses(names)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -22,6 +22,7 @@ import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.springframework.boot.configurationmetadata.ValueHint;
+import org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesEditorPlugin;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry.ValueProviderStrategy;
 import org.springframework.ide.eclipse.editor.support.util.FuzzyMatcher;
 import org.springsource.ide.eclipse.commons.frameworks.core.async.FluxJdtSearch;
@@ -90,8 +91,26 @@ public abstract class JdtSearchingValueProvider extends CachingValueProvider {
 		return FluxJdtSearch.searchScope(javaProject);
 	}
 
+	/**
+	 * Find hints in the {@link JavaNameIndex} of the project rather than by running a JDT search.
+	 * Subclasses that can be answered from the index should override this.
+	 *
+	 * @return The hints, or null if they must be found by a JDT search (e.g. because the index isn't ready).
+	 */
+	protected Flux<StsValueHint> getValuesFromIndex(IJavaProject javaProject, String query) {
+		return null;
+	}
+
+	protected JavaNameIndex getNameIndex(IJavaProject javaProject) {
+		return javaProject==null ? null : SpringPropertiesEditorPlugin.getJavaNameIndexManager().get(javaProject);
+	}
+
 	@Override
 	public Flux<StsValueHint> getValuesAsycn(IJavaProject javaProject, String query) {
+		Flux<StsValueHint> fromIndex = getValuesFromIndex(javaProject, query);
+		if (fromIndex!=null) {
+			return fromIndex;
+		}
 		try {
 			return new FluxJdtSearch()
 			.scope(getScope(javaProject))
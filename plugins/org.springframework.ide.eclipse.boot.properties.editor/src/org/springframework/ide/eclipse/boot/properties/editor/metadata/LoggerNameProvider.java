@@ -13,9 +13,12 @@ package org.springframework.ide.eclipse.boot.properties.editor.metadata;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry.ValueProviderStrategy;
 
+import reactor.core.publisher.Flux;
+
 /**
  * Provides the algorithm for 'logger-name' valueProvider.
  * <p>
@@ -28,6 +31,12 @@ public class LoggerNameProvider extends JdtSearchingValueProvider {
 	private  static final ValueProviderStrategy INSTANCE = new LoggerNameProvider();
 	public static final Function<Map<String, Object>, ValueProviderStrategy> FACTORY = (params) -> INSTANCE;
 
+	@Override
+	protected Flux<StsValueHint> getValuesFromIndex(IJavaProject javaProject, String query) {
+		JavaNameIndex index = getNameIndex(javaProject);
+		return index==null ? null : index.search(query, (name) -> true);
+	}
+
 	@Override
 	protected SearchPattern toPattern(String query) {
 		String wildCardedQuery = toWildCardPattern(query);
@@ -16,6 +16,10 @@ import static org.springframework.ide.eclipse.boot.properties.editor.reconciling
 import static org.springframework.ide.eclipse.boot.properties.editor.reconciling.SpringPropertyProblem.problem;
 import static org.springframework.ide.eclipse.editor.support.util.StringUtil.commonPrefix;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
@@ -40,6 +44,8 @@ import org.springframework.ide.eclipse.boot.properties.editor.util.TypeParser;
 import org.springframework.ide.eclipse.boot.properties.editor.util.TypeUtil;
 import org.springframework.ide.eclipse.editor.support.reconcile.IProblemCollector;
 import org.springframework.ide.eclipse.editor.support.reconcile.IReconcileEngine;
+import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblem;
+import org.springframework.ide.eclipse.editor.support.reconcile.RelocatableProblem;
 import org.springframework.ide.eclipse.editor.support.util.DocumentRegion;
 import org.springframework.ide.eclipse.editor.support.util.DocumentUtil;
 import org.springframework.ide.eclipse.editor.support.util.ValueParser;
@@ -76,6 +82,14 @@ public class SpringPropertiesReconcileEngine implements IReconcileEngine {
 	private TypeUtil typeUtil;
 	private final DelimitedListReconciler commaListReconciler = new DelimitedListReconciler(COMMA, this::reconcileType);
 
+	/**
+	 * Problems found by the previous reconcile, keyed by the text of the property they were found in.
+	 * Only valid for {@link #previousDoc} and {@link #previousIndex}.
+	 */
+	private Map<String, PropertyProblems> previousProperties = Collections.emptyMap();
+	private IDocument previousDoc;
+	private FuzzyMap<PropertyInfo> previousIndex;
+
 	public SpringPropertiesReconcileEngine(Provider<FuzzyMap<PropertyInfo>> provider, TypeUtil typeUtil) {
 		this.fIndexProvider = provider;
 		this.typeUtil = typeUtil;
@@ -90,6 +104,28 @@ public class SpringPropertiesReconcileEngine implements IReconcileEngine {
 			return;
 		}
 		problemCollector.beginCollecting();
+		try {
+			reconcile(doc, index, problemCollector, mon);
+		} catch (Throwable e2) {
+			SpringPropertiesEditorPlugin.log(e2);
+		} finally {
+			problemCollector.endCollecting();
+		}
+	}
+
+	/**
+	 * Checks each property of the document. Only the properties whose text changed since the
+	 * previous reconcile are actually validated, the problems of the other ones are reused,
+	 * moved along with the property. Duplicate names depend on the whole document, so these are
+	 * always checked for all properties.
+	 */
+	private synchronized void reconcile(IDocument doc, FuzzyMap<PropertyInfo> index, IProblemCollector problemCollector, IProgressMonitor mon) throws BadLocationException {
+		if (doc!=previousDoc || index!=previousIndex) {
+			previousProperties = Collections.emptyMap();
+			previousDoc = doc;
+			previousIndex = index;
+		}
+		Map<String, PropertyProblems> properties = new HashMap<>();
 		try {
 			DuplicateNameChecker duplicateNameChecker = new DuplicateNameChecker(problemCollector);
 			ITypedRegion[] regions = TextUtilities.computePartitioning(doc, IPropertiesFilePartitions.PROPERTIES_FILE_PARTITIONING, 0, doc.getLength(), true);
@@ -109,40 +145,74 @@ public class SpringPropertiesReconcileEngine implements IReconcileEngine {
 								}
 							}
 							duplicateNameChecker.check(fullName);
-							PropertyInfo validProperty = SpringPropertiesCompletionEngine.findLongestValidProperty(index, fullName.toString());
-							if (validProperty!=null) {
-								//TODO: Remove last remnants of 'IRegion trimmedRegion' here and replace
-								// it all with just passing around 'fullName' DocumentRegion. This may require changes
-								// in PropertyNavigator (probably these changes are also for the better making it simpler as well)
-								IRegion trimmedRegion = fullName.asRegion();
-								if (validProperty.isDeprecated()) {
-									problemCollector.accept(problemDeprecated(fullName, validProperty));
-								}
-								int offset = validProperty.getId().length() + trimmedRegion.getOffset();
-								PropertyNavigator navigator = new PropertyNavigator(doc, problemCollector, typeUtil, trimmedRegion);
-								Type valueType = navigator.navigate(offset, TypeParser.parse(validProperty.getType()));
-								if (valueType!=null) {
-									reconcileType(doc, valueType, regions, i, problemCollector);
+							String text = getPropertyText(doc, regions, i);
+							PropertyProblems problems = previousProperties.get(text);
+							if (problems==null) {
+								problems = properties.get(text);
+							}
+							if (problems==null) {
+								problems = new PropertyProblems(r.getOffset(), problemCollector);
+								try {
+									reconcileProperty(doc, index, regions, i, fullName, problems);
+								} catch (Exception e) {
+									problems.relocatable = false;
+									SpringPropertiesEditorPlugin.log(e);
 								}
-							} else { //validProperty==null
-								//The name is invalid, with no 'prefix' of the name being a valid property name.
-								PropertyInfo similarEntry = index.findLongestCommonPrefixEntry(fullName.toString());
-								CharSequence validPrefix = commonPrefix(similarEntry.getId(), fullName);
-								problemCollector.accept(problemUnkownProperty(fullName, similarEntry, validPrefix));
-							} //end: validProperty==null
+							}
+							if (problems.relocatable) {
+								properties.put(text, problems);
+							}
+							for (RelocatableProblem problem : problems.problems) {
+								problemCollector.accept(problem.relocate(r.getOffset()));
+							}
 						}
 					} catch (Exception e) {
 						SpringPropertiesEditorPlugin.log(e);
 					}
 				} //end: for regions
 			}
-		} catch (Throwable e2) {
-			SpringPropertiesEditorPlugin.log(e2);
 		} finally {
-			problemCollector.endCollecting();
+			previousProperties = properties;
 		}
 	}
 
+	private void reconcileProperty(IDocument doc, FuzzyMap<PropertyInfo> index, ITypedRegion[] regions, int i, DocumentRegion fullName, IProblemCollector problemCollector) throws Exception {
+		PropertyInfo validProperty = SpringPropertiesCompletionEngine.findLongestValidProperty(index, fullName.toString());
+		if (validProperty!=null) {
+			//TODO: Remove last remnants of 'IRegion trimmedRegion' here and replace
+			// it all with just passing around 'fullName' DocumentRegion. This may require changes
+			// in PropertyNavigator (probably these changes are also for the better making it simpler as well)
+			IRegion trimmedRegion = fullName.asRegion();
+			if (validProperty.isDeprecated()) {
+				problemCollector.accept(problemDeprecated(fullName, validProperty));
+			}
+			int offset = validProperty.getId().length() + trimmedRegion.getOffset();
+			PropertyNavigator navigator = new PropertyNavigator(doc, problemCollector, typeUtil, trimmedRegion);
+			Type valueType = navigator.navigate(offset, TypeParser.parse(validProperty.getType()));
+			if (valueType!=null) {
+				reconcileType(doc, valueType, regions, i, problemCollector);
+			}
+		} else { //validProperty==null
+			//The name is invalid, with no 'prefix' of the name being a valid property name.
+			PropertyInfo similarEntry = index.findLongestCommonPrefixEntry(fullName.toString());
+			CharSequence validPrefix = commonPrefix(similarEntry.getId(), fullName);
+			problemCollector.accept(problemUnkownProperty(fullName, similarEntry, validPrefix));
+		} //end: validProperty==null
+	}
+
+	/**
+	 * The text that the problems of the property at regions[i] depend on: its name, and the value
+	 * assigned to it, if any.
+	 */
+	private String getPropertyText(IDocument doc, ITypedRegion[] regions, int i) throws BadLocationException {
+		IRegion last = regions[i];
+		if (i+1<regions.length && IPropertiesFilePartitions.PROPERTY_VALUE.equals(regions[i+1].getType())) {
+			last = regions[i+1];
+		}
+		int start = regions[i].getOffset();
+		return doc.get(start, last.getOffset()+last.getLength()-start);
+	}
+
 	protected SpringPropertyProblem problemDeprecated(DocumentRegion trimmedRegion, PropertyInfo property) {
 		SpringPropertyProblem p = problem(PROP_DEPRECATED,
 				TypeUtil.deprecatedPropertyMessage(
@@ -247,4 +317,37 @@ public class SpringPropertiesReconcileEngine implements IReconcileEngine {
 		}
 	}
 
+	/**
+	 * Collects the problems of a single property, with offsets relative to the start of the property.
+	 * Problems that can't be relocated are passed on to the real collector directly, in which case
+	 * the property has to be checked again next time (and so does a property whose check failed).
+	 */
+	private static class PropertyProblems implements IProblemCollector {
+
+		final int offset;
+		final IProblemCollector collector;
+		final List<RelocatableProblem> problems = new ArrayList<>();
+		boolean relocatable = true;
+
+		PropertyProblems(int offset, IProblemCollector collector) {
+			this.offset = offset;
+			this.collector = collector;
+		}
+
+		public void beginCollecting() {
+		}
+
+		public void endCollecting() {
+		}
+
+		public void accept(ReconcileProblem problem) {
+			if (problem instanceof RelocatableProblem) {
+				problems.add(((RelocatableProblem) problem).relocate(-offset));
+			} else {
+				relocatable = false;
+				collector.accept(problem);
+			}
+		}
+	}
+
 }
@@ -30,14 +30,14 @@ import org.springframework.ide.eclipse.boot.properties.editor.quickfix.IgnorePro
 import org.springframework.ide.eclipse.boot.properties.editor.quickfix.ReplaceDeprecatedPropertyQuickfix;
 import org.springframework.ide.eclipse.editor.support.reconcile.FixableProblem;
 import org.springframework.ide.eclipse.editor.support.reconcile.QuickfixContext;
-import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblem;
 import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblemAnnotation;
+import org.springframework.ide.eclipse.editor.support.reconcile.RelocatableProblem;
 import org.springframework.ide.eclipse.editor.support.util.DocumentRegion;
 
 /**
  * @author Kris De Volder
  */
-public class SpringPropertyProblem implements ReconcileProblem, FixableProblem {
+public class SpringPropertyProblem implements RelocatableProblem, FixableProblem {
 
 	private static final EnumSet<SpringPropertiesProblemType> FIXABLE_UNKNOWN_PROPERTY_PROBLEM_TYPES = EnumSet.of(
 			PROP_UNKNOWN_PROPERTY,
@@ -196,4 +196,13 @@ public class SpringPropertyProblem implements ReconcileProblem, FixableProblem {
 	public int getEnd() {
 		return getOffset()+getLength();
 	}
+
+	@Override
+	public SpringPropertyProblem relocate(int delta) {
+		SpringPropertyProblem copy = new SpringPropertyProblem(type, msg, offset+delta, length);
+		copy.propertyName = propertyName;
+		copy.metadata = metadata;
+		copy.problemFixer = problemFixer;
+		return copy;
+	}
 }
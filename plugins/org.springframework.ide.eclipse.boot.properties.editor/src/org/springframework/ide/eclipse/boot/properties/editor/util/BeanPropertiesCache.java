@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.springframework.ide.eclipse.boot.properties.editor.util.TypeUtil.BeanPropertyNameMode;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Remembers the bean properties {@link TypeUtil} found on the types of a project, so that
+ * completion, hovers and reconciling don't walk the getters of the same JDT types over and over
+ * when navigating into nested properties.
+ * <p>
+ * The types of one project can be on the classpath of another, so any change to the Java model
+ * (which includes classpath changes) simply clears the whole cache.
+ */
+public class BeanPropertiesCache implements IElementChangedListener {
+
+	/**
+	 * The properties of a type, both as a list and as a map, or null if they are unknown.
+	 */
+	public static class BeanProperties {
+
+		private final List<TypedProperty> list;
+		private Map<String, TypedProperty> map;
+
+		public BeanProperties(List<TypedProperty> list) {
+			this.list = list==null ? null : Collections.unmodifiableList(list);
+		}
+
+		public List<TypedProperty> getList() {
+			return list;
+		}
+
+		public synchronized Map<String, TypedProperty> getMap() {
+			if (map==null && list!=null) {
+				Map<String, TypedProperty> map = new HashMap<>();
+				for (TypedProperty p : list) {
+					map.put(p.getName(), p);
+				}
+				this.map = Collections.unmodifiableMap(map);
+			}
+			return map;
+		}
+	}
+
+	/**
+	 * Replaced (rather than cleared) when the Java model changes, so that properties
+	 * computed concurrently with the change don't end up in the new cache.
+	 */
+	private volatile Map<List<Object>, BeanProperties> entries = new ConcurrentHashMap<>();
+
+	public BeanPropertiesCache() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+	}
+
+	public BeanProperties get(IJavaProject jp, String typeName, BeanPropertyNameMode mode, Supplier<List<TypedProperty>> properties) {
+		Map<List<Object>, BeanProperties> entries = this.entries;
+		List<Object> key = ImmutableList.of(jp, typeName, mode);
+		BeanProperties cached = entries.get(key);
+		if (cached==null) {
+			cached = new BeanProperties(properties.get());
+			entries.put(key, cached);
+		}
+		return cached;
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		if (!entries.isEmpty()) {
+			entries = new ConcurrentHashMap<>();
+		}
+	}
+
+}
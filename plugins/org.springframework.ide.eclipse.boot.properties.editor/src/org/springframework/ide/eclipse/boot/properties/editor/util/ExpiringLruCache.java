@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.boot.properties.editor.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link Cache} that holds at most a given number of entries, discarding the least
+ * recently used ones first, and that also discards entries that haven't been used for
+ * a given amount of time.
+ * <p>
+ * Entries are spread over a number of independently locked segments, so that concurrent
+ * lookups of different keys don't block one another. Each segment enforces its own share
+ * of the size limit. Expired entries are removed lazily, when the segment they are in is
+ * next used, so no background job is needed to clean up.
+ */
+public class ExpiringLruCache<K,V> implements Cache<K,V> {
+
+	private static final int SEGMENTS = 8;
+
+	private final long maxAge;
+	private final LongSupplier clock;
+	private final List<Segment> segments = new ArrayList<>(SEGMENTS);
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	private static class Entry<V> {
+		final V value;
+		long lastUsed;
+		Entry(V value, long now) {
+			this.value = value;
+			this.lastUsed = now;
+		}
+	}
+
+	/**
+	 * A map in access order, so its least recently used entry is always the first one.
+	 */
+	private class Segment extends LinkedHashMap<K, Entry<V>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int maxSize;
+
+		Segment(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+			if (size()>maxSize) {
+				evictions.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+		void removeExpired(long now) {
+			Iterator<Entry<V>> iter = values().iterator();
+			while (iter.hasNext() && isExpired(iter.next(), now)) {
+				iter.remove();
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	public ExpiringLruCache(int maxSize, Duration maxAge) {
+		this(maxSize, maxAge, System::currentTimeMillis);
+	}
+
+	/**
+	 * @param clock Provides the current time in milliseconds.
+	 */
+	public ExpiringLruCache(int maxSize, Duration maxAge, LongSupplier clock) {
+		this.maxAge = maxAge.toMillis();
+		this.clock = clock;
+		int segmentSize = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+		for (int i = 0; i < SEGMENTS; i++) {
+			segments.add(new Segment(segmentSize));
+		}
+	}
+
+	@Override
+	public V get(K key) {
+		Segment segment = segmentFor(key);
+		synchronized (segment) {
+			long now = clock.getAsLong();
+			Entry<V> e = segment.get(key);
+			if (e!=null && isExpired(e, now)) {
+				segment.remove(key);
+				evictions.incrementAndGet();
+				e = null;
+			}
+			if (e==null) {
+				misses.incrementAndGet();
+				return null;
+			}
+			hits.incrementAndGet();
+			e.lastUsed = now;
+			return e.value;
+		}
+	}
+
+	@Override
+	public void put(K key, V value) {
+		Segment segment = segmentFor(key);
+		synchronized (segment) {
+			long now = clock.getAsLong();
+			if (value==null) {
+				segment.remove(key);
+			} else {
+				segment.put(key, new Entry<>(value, now));
+			}
+			segment.removeExpired(now);
+		}
+	}
+
+	@Override
+	public void clear() {
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return The number of lookups that found a value.
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return The number of lookups that found no value.
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * @return The number of entries that were discarded because they expired or to make room for others.
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	private boolean isExpired(Entry<V> e, long now) {
+		return now - e.lastUsed >= maxAge;
+	}
+
+	private Segment segmentFor(K key) {
+		int h = key==null ? 0 : key.hashCode();
+		h ^= (h >>> 16);
+		return segments.get(h & (SEGMENTS-1));
+	}
+
+	/**
+	 * Applies an {@link ExpiringLruCache} around a given function.
+	 *
+	 * @param maxSize maximum number of results to remember.
+	 * @param maxAge time after which unused results should expire.
+	 * @param func Function to wrap the cache around
+	 * @return Equivalent function but with caching.
+	 */
+	public static <K,V> Function<K,V> applyOn(int maxSize, Duration maxAge, Function<K,V> func) {
+		ExpiringLruCache<K, V> cache = new ExpiringLruCache<>(maxSize, maxAge);
+		return (k) -> {
+			V v = cache.get(k);
+			if (v==null) {
+				cache.put(k, v=func.apply(k));
+			}
+			return v;
+		};
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 Pivotal, Inc.
+ * Copyright (c) 2014, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,8 +10,14 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.boot.properties.editor.util;
 
+import static org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesCompletionEngine.debug;
+
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -23,8 +29,15 @@ import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.swt.widgets.Display;
+import org.springframework.boot.configurationmetadata.RawConfigurationMetadata;
 import org.springframework.ide.eclipse.boot.properties.editor.FuzzyMap;
 import org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesEditorPlugin;
 import org.springframework.ide.eclipse.boot.properties.editor.SpringPropertyIndex;
@@ -37,52 +50,307 @@ import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProv
  * file all make use of a per-project index of spring properties metadata extracted
  * from project's classpath. This Index manager is responsible for keeping at most
  * one index per-project and to keep the index up-to-date.
+ * <p>
+ * Indexes are built by a background job. When the classpath of a project changes,
+ * clients keep getting the previous index of the project until the new one is ready,
+ * listeners are notified once it is. Only when a project has no index at all yet,
+ * callers wait for its first index to be built (the UI thread only for a short while).
+ * The index of a project is dropped when the project is closed or deleted.
  *
  * @author Kris De Volder
  */
 public class SpringPropertiesIndexManager extends ListenerManager<Listener<SpringPropertiesIndexManager>> implements ClasspathListener {
 
-	//TODO: More precise cache flushing?
-	// right now, any detected change that may affect the cached metadata results.
-	// in clearing the entire cache.
-	// Probably this is okay, since reading the data is pretty fast.
+	// Any detected change that may affect the cached metadata schedules a rebuild of all the indexes.
+	// A rebuild only re-reads the jars and metadata files that actually changed (the others come
+	// from the jar cache and the metadata file cache), and leaves an index alone altogether when
+	// none of its contributions changed.
+
+	/**
+	 * Delay before an index is rebuilt after a change. A burst of changes
+	 * (e.g. during a maven update) thereby only results in a single rebuild.
+	 */
+	public static final long REBUILD_DELAY = 500;
+
+	/**
+	 * How long the UI thread waits for the first index of a project before
+	 * it carries on with an empty index.
+	 */
+	public static final long UI_THREAD_WAIT = 250;
+
+	/**
+	 * How long other threads wait for the first index of a project.
+	 */
+	private static final long WAIT = TimeUnit.MINUTES.toMillis(1);
 
-	private Map<String, SpringPropertyIndex> indexes = null;
+	private final Map<String, ProjectIndex> indexes = new HashMap<>();
 	final private ValueProviderRegistry valueProviders;
+	final private LiveMetadataListener resourceListener = new LiveMetadataListener();
 
 	public SpringPropertiesIndexManager(ValueProviderRegistry valueProviders) {
 		this.valueProviders = valueProviders;
 		SpringPropertiesEditorPlugin.getClasspathListeners().addListener(this);
-		ResourcesPlugin.getWorkspace().addResourceChangeListener(new LiveMetadataListener(), IResourceChangeEvent.POST_CHANGE);
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(resourceListener, IResourceChangeEvent.POST_CHANGE);
 	}
 
-	public synchronized FuzzyMap<PropertyInfo> get(IJavaProject jp) {
-		String key = jp.getElementName();
-		if (indexes==null) {
-			indexes = new HashMap<>();
+	/**
+	 * Stop listening for changes and cancel any pending builds.
+	 */
+	public void dispose() {
+		SpringPropertiesEditorPlugin.getClasspathListeners().removeListener(this);
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(resourceListener);
+		synchronized (this) {
+			for (ProjectIndex index : indexes.values()) {
+				index.dispose();
+			}
+			indexes.clear();
 		}
-		SpringPropertyIndex index = indexes.get(key);
-		if (index==null) {
-			index = new SpringPropertyIndex(valueProviders, jp);
-			indexes.put(key, index);
+	}
+
+	public FuzzyMap<PropertyInfo> get(IJavaProject jp) {
+		ProjectIndex index;
+		synchronized (this) {
+			String key = jp.getElementName();
+			index = indexes.get(key);
+			if (index==null) {
+				index = new ProjectIndex(jp);
+				indexes.put(key, index);
+			}
 		}
-		return index;
+		return index.get();
+	}
+
+	/**
+	 * @return The time in milliseconds it took to build the current index of the
+	 *         given project, or -1 if no index has been built for it yet.
+	 */
+	public synchronized long getBuildTime(IJavaProject jp) {
+		ProjectIndex index = indexes.get(jp.getElementName());
+		return index==null ? -1 : index.buildTime;
 	}
 
 	@Override
 	public synchronized void classpathChanged(IJavaProject jp) {
-		clear();
+		invalidateAll();
 	}
 
-	private void clear() {
-		if (indexes!=null) {
-			indexes.clear();
-			for (Listener<SpringPropertiesIndexManager> l : getListeners()) {
-				l.changed(this);
+	private synchronized void invalidateAll() {
+		for (ProjectIndex index : indexes.values()) {
+			index.invalidate();
+		}
+	}
+
+	/**
+	 * Called when a project was closed or deleted. Forgets the index of the project
+	 * and cancels any build of it.
+	 */
+	private synchronized void projectClosed(IProject p) {
+		ProjectIndex index = indexes.remove(p.getName());
+		if (index!=null) {
+			index.dispose();
+		}
+		StsConfigMetadataRepositoryJsonLoader.forgetProject(p);
+	}
+
+	/**
+	 * Load the metadata an index of a project is built from.
+	 *
+	 * @throws OperationCanceledException if the monitor was canceled.
+	 */
+	protected List<RawConfigurationMetadata> loadMetadata(IJavaProject jp, IProgressMonitor monitor) {
+		return SpringPropertyIndex.loadMetadata(jp, monitor);
+	}
+
+	private void notifyListeners() {
+		for (Listener<SpringPropertiesIndexManager> l : getListeners()) {
+			l.changed(this);
+		}
+	}
+
+	/**
+	 * The index of a single project and the job that (re)builds it. All the state
+	 * is guarded by the index manager.
+	 */
+	private class ProjectIndex {
+
+		private final IJavaProject jp;
+
+		/**
+		 * The last index that was built for the project, possibly outdated.
+		 */
+		private SpringPropertyIndex current;
+
+		private boolean upToDate = false;
+
+		private BuildJob job;
+
+		private long buildTime = -1;
+
+		ProjectIndex(IJavaProject jp) {
+			this.jp = jp;
+		}
+
+		FuzzyMap<PropertyInfo> get() {
+			SpringPropertyIndex index;
+			BuildJob building;
+			synchronized (SpringPropertiesIndexManager.this) {
+				ensureUpToDate(0);
+				index = current;
+				building = job;
+			}
+			if (index==null) {
+				long deadline = System.currentTimeMillis() + (Display.getCurrent()!=null ? UI_THREAD_WAIT : WAIT);
+				long remaining;
+				while (index==null && building!=null && (remaining = deadline - System.currentTimeMillis()) > 0) {
+					if (!building.await(remaining)) {
+						break;
+					}
+					synchronized (SpringPropertiesIndexManager.this) {
+						index = current;
+						building = job;
+					}
+				}
+			}
+			if (index==null) {
+				//Not built yet. An empty index means nothing gets reported as an error
+				// until the real one is ready and listeners are notified.
+				return new SpringPropertyIndex(valueProviders, Collections.<RawConfigurationMetadata>emptyList());
+			}
+			return index;
+		}
+
+		void invalidate() {
+			upToDate = false;
+			cancelJob();
+			ensureUpToDate(REBUILD_DELAY);
+		}
+
+		void dispose() {
+			cancelJob();
+			current = null;
+		}
+
+		private void cancelJob() {
+			if (job!=null) {
+				job.cancel();
+				job.finished.countDown();
+				job = null;
+			}
+		}
+
+		private void ensureUpToDate(long delay) {
+			if (!upToDate && job==null) {
+				job = new BuildJob(this);
+				job.schedule(delay);
+			}
+		}
+
+		/**
+		 * Called when a job has built a new index.
+		 *
+		 * @return whether the index was installed, i.e. no newer build was requested in the mean time.
+		 */
+		boolean built(BuildJob job, SpringPropertyIndex index, long time) {
+			synchronized (SpringPropertiesIndexManager.this) {
+				if (this.job!=job) {
+					return false;
+				}
+				this.job = null;
+				current = index;
+				upToDate = true;
+				buildTime = time;
+				return true;
+			}
+		}
+
+		/**
+		 * Called when a job found that the current index doesn't need to change.
+		 *
+		 * @return whether the index was marked up-to-date, i.e. no newer build was requested in the mean time.
+		 */
+		boolean unchanged(BuildJob job) {
+			synchronized (SpringPropertiesIndexManager.this) {
+				if (this.job!=job) {
+					return false;
+				}
+				this.job = null;
+				upToDate = true;
+				return true;
+			}
+		}
+
+		SpringPropertyIndex getCurrent() {
+			synchronized (SpringPropertiesIndexManager.this) {
+				return current;
+			}
+		}
+
+		/**
+		 * Called when a job ends, whether it built an index or not.
+		 */
+		void finished(BuildJob job) {
+			synchronized (SpringPropertiesIndexManager.this) {
+				if (this.job==job) {
+					//Failed or canceled by the user. Try again when the index is requested next time.
+					this.job = null;
+				}
 			}
 		}
 	}
 
+	private class BuildJob extends Job {
+
+		private final ProjectIndex index;
+
+		private final CountDownLatch finished = new CountDownLatch(1);
+
+		BuildJob(ProjectIndex index) {
+			super("Indexing Spring Boot properties of "+index.jp.getElementName());
+			this.index = index;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				long start = System.currentTimeMillis();
+				List<RawConfigurationMetadata> metadata = loadMetadata(index.jp, monitor);
+				SpringPropertyIndex previous = index.getCurrent();
+				if (previous!=null && previous.isBuiltFrom(metadata)) {
+					//None of the jars and metadata files on the classpath changed.
+					if (index.unchanged(this)) {
+						debug("Index of "+index.jp.getElementName()+" still up-to-date, checked in "+(System.currentTimeMillis() - start)+" ms");
+					}
+					return Status.OK_STATUS;
+				}
+				SpringPropertyIndex built = new SpringPropertyIndex(valueProviders, metadata);
+				long time = System.currentTimeMillis() - start;
+				if (index.built(this, built, time)) {
+					debug("Indexed "+built.size()+" properties of "+index.jp.getElementName()+" in "+time+" ms");
+					notifyListeners();
+				}
+				return Status.OK_STATUS;
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} finally {
+				index.finished(this);
+				finished.countDown();
+			}
+		}
+
+		/**
+		 * Wait for this job to finish or be canceled.
+		 *
+		 * @return false if the job is still running when the timeout elapsed.
+		 */
+		boolean await(long timeout) {
+			try {
+				return finished.await(timeout, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+	}
 
 	/**
 	 * Called by LiveMetadataListener when a change to live json metadata file in the
@@ -92,7 +360,7 @@ public class SpringPropertiesIndexManager extends ListenerManager<Listener<Sprin
 	 * @param jsonFile The IFile in project's output folder that was changed.
 	 */
 	public synchronized void liveMetadataChanged(IJavaProject jp, IFile jsonFile) {
-		clear();
+		invalidateAll();
 	}
 
 	private class LiveMetadataListener implements IResourceChangeListener, IResourceDeltaVisitor {
@@ -124,8 +392,8 @@ public class SpringPropertiesIndexManager extends ListenerManager<Listener<Sprin
 						}
 					}
 				} else {
-					//TODO: not accessible (closed or deleted?)
-					//  Do we need to do something with these?
+					//Closed or deleted
+					projectClosed(p);
 				}
 				return false;
 			default:
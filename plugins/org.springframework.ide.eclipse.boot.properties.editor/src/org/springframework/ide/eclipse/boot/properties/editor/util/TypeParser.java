@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 Pivotal, Inc.
+ * Copyright (c) 2015, 2016 Pivotal, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,10 @@ import java.util.StringTokenizer;
 
 import org.springframework.ide.eclipse.editor.support.util.StringUtil;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
 /**
  * Converts types in notation used by spring properties metadata into a 'Structured' form
  *
@@ -71,9 +75,23 @@ public class TypeParser {
 		this.input = new Tokener(input);
 	}
 
+	/**
+	 * Types that were already parsed. The same few type names are parsed over and over by completion,
+	 * hovers and reconciling, and {@link Type}s are immutable, so they can be shared. Bounded, since
+	 * the type names come from the metadata of every project ever edited.
+	 */
+	private static final LoadingCache<String, Type> PARSED = CacheBuilder.newBuilder()
+			.maximumSize(1000)
+			.build(new CacheLoader<String, Type>() {
+				@Override
+				public Type load(String str) {
+					return new TypeParser(str).parseType();
+				}
+			});
+
 	public static Type parse(String str) {
 		if (StringUtil.hasText(str)) {
-			return new TypeParser(str).parseType();
+			return PARSED.getUnchecked(str);
 		}
 		return null;
 	}
@@ -44,10 +44,12 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
 import org.springframework.boot.configurationmetadata.Deprecation;
 import org.springframework.ide.eclipse.boot.core.BootActivator;
+import org.springframework.ide.eclipse.boot.properties.editor.SpringPropertiesEditorPlugin;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.DeprecationUtil;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.StsValueHint;
 import org.springframework.ide.eclipse.boot.properties.editor.metadata.ValueProviderRegistry.ValueProviderStrategy;
 import org.springframework.ide.eclipse.boot.properties.editor.reconciling.AlwaysFailingParser;
+import org.springframework.ide.eclipse.boot.properties.editor.util.BeanPropertiesCache.BeanProperties;
 import org.springframework.ide.eclipse.boot.util.Log;
 import org.springframework.ide.eclipse.editor.support.util.CollectionUtil;
 import org.springframework.ide.eclipse.editor.support.util.EnumValueParser;
@@ -632,32 +634,46 @@ public class TypeUtil {
 				}
 			}
 		} else {
-			String typename = type.getErasure();
-			IType eclipseType = findType(typename);
+			return getBeanProperties(type, beanMode).getList();
+		}
+		return null;
+	}
 
-			//TODO: handle type parameters.
-			if (eclipseType!=null) {
-				List<IMethod> getters = getGetterMethods(eclipseType);
-				//TODO: getters inherited from super classes?
-				if (getters!=null && !getters.isEmpty()) {
-					ArrayList<TypedProperty> properties = new ArrayList<>(getters.size());
-					for (IMethod m : getters) {
-						Deprecation deprecation = DeprecationUtil.extract(m);
-						Type propType = null;
-						try {
-							propType = Type.fromSignature(m.getReturnType(), eclipseType);
-						} catch (JavaModelException e) {
-							Log.log(e);
-						}
-						if (beanMode.includesHyphenated()) {
-							properties.add(new TypedProperty(getterOrSetterNameToProperty(m.getElementName()), propType, deprecation));
-						}
-						if (beanMode.includesCamelCase()) {
-							properties.add(new TypedProperty(getterOrSetterNameToCamelName(m.getElementName()), propType, deprecation));
-						}
+	private BeanProperties getBeanProperties(Type type, BeanPropertyNameMode beanMode) {
+		String typename = type.getErasure();
+		if (javaProject==null) {
+			return new BeanProperties(computeBeanProperties(typename, beanMode));
+		}
+		return SpringPropertiesEditorPlugin.getBeanPropertiesCache().get(javaProject, typename, beanMode,
+				() -> computeBeanProperties(typename, beanMode)
+		);
+	}
+
+	private List<TypedProperty> computeBeanProperties(String typename, BeanPropertyNameMode beanMode) {
+		IType eclipseType = findType(typename);
+
+		//TODO: handle type parameters.
+		if (eclipseType!=null) {
+			List<IMethod> getters = getGetterMethods(eclipseType);
+			//TODO: getters inherited from super classes?
+			if (getters!=null && !getters.isEmpty()) {
+				ArrayList<TypedProperty> properties = new ArrayList<>(getters.size());
+				for (IMethod m : getters) {
+					Deprecation deprecation = DeprecationUtil.extract(m);
+					Type propType = null;
+					try {
+						propType = Type.fromSignature(m.getReturnType(), eclipseType);
+					} catch (JavaModelException e) {
+						Log.log(e);
+					}
+					if (beanMode.includesHyphenated()) {
+						properties.add(new TypedProperty(getterOrSetterNameToProperty(m.getElementName()), propType, deprecation));
+					}
+					if (beanMode.includesCamelCase()) {
+						properties.add(new TypedProperty(getterOrSetterNameToCamelName(m.getElementName()), propType, deprecation));
 					}
-					return properties;
 				}
+				return properties;
 			}
 		}
 		return null;
@@ -783,8 +799,9 @@ public class TypeUtil {
 	}
 
 	public Map<String, TypedProperty> getPropertiesMap(Type type, EnumCaseMode enumMode, BeanPropertyNameMode beanMode) {
-		//TODO: optimize, produce directly as a map instead of
-		// first creating list and then coverting it.
+		if (type!=null && isDotable(type) && !isMap(type)) {
+			return getBeanProperties(type, beanMode).getMap();
+		}
 		List<TypedProperty> list = getProperties(type, enumMode, beanMode);
 		if (list!=null) {
 			Map<String, TypedProperty> map = new HashMap<>();
@@ -28,6 +28,7 @@ import org.springframework.ide.eclipse.core.java.TypeStructureCache;
 import org.springframework.ide.eclipse.core.java.typehierarchy.BytecodeTypeHierarchyClassReaderFactory;
 import org.springframework.ide.eclipse.core.java.typehierarchy.DirectTypeHierarchyElementCacheFactory;
 import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyEngine;
+import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyJarCache;
 import org.springframework.ide.eclipse.core.java.typehierarchy.TypeHierarchyResourceChangeListener;
 import org.springframework.ide.eclipse.core.model.ISpringModel;
 
@@ -65,6 +66,9 @@ public class SpringCore extends Plugin {
 
 	private static final String RESOURCE_NAME = PLUGIN_ID + ".messages";
 
+	/** Name of the file in the state location that holds the type hierarchy information of jar files */
+	private static final String TYPE_HIERARCHY_SNAPSHOT_FILE = "typehierarchy.snapshot";
+
 	/** The identifier for enablement of project versus workspace settings */
 	public static final String PROJECT_PROPERTY_ID = "enable.project.preferences";
 
@@ -74,6 +78,12 @@ public class SpringCore extends Plugin {
 	/** Temporally setting to enable or disable the use of XBean's non-locking classloader infrastructure */
 	public static final String USE_NON_LOCKING_CLASSLOADER = PLUGIN_ID + ".useNonLockingClassLoader";
 
+	/** Number of threads used to run concurrent validators of the Spring project builder; <code>1</code> disables concurrency */
+	public static final String PROJECT_CONTRIBUTION_THREADS = PLUGIN_ID + ".projectContributionThreads";
+
+	/** Setting to write the execution times of the validation rules to the log after each build */
+	public static final String REPORT_VALIDATION_RULE_STATISTICS = PLUGIN_ID + ".reportValidationRuleStatistics";
+
 	/** The shared instance */
 	private static SpringCore plugin;
 
@@ -86,6 +96,8 @@ public class SpringCore extends Plugin {
 	private static TypeStructureCache typeStructureCache;
 	
 	private static TypeHierarchyEngine typeHierarchyEngine;
+	
+	private static TypeHierarchyJarCache typeHierarchyJarCache;
 
 	/**
 	 * Creates the Spring core plug-in.
@@ -96,6 +108,7 @@ public class SpringCore extends Plugin {
 		plugin = this;
 		model = new SpringModel();
 		typeStructureCache = new TypeStructureCache();
+		typeHierarchyJarCache = new TypeHierarchyJarCache();
 
 		typeHierarchyEngine = new TypeHierarchyEngine(true);
 		typeHierarchyEngine.setClassReaderFactory(new BytecodeTypeHierarchyClassReaderFactory());
@@ -117,16 +130,22 @@ public class SpringCore extends Plugin {
 		super.start(context);
 		model.startup();
 		typeStructureCache.startup();
+		typeHierarchyJarCache.load(getStateLocation().append(TYPE_HIERARCHY_SNAPSHOT_FILE).toFile());
 		// install default for incremtal compilation
 		plugin.getPluginPreferences().setDefault(USE_CHANGE_DETECTION_IN_JAVA_FILES, true);
 		// non.locking classloader is not enabled by default
 		plugin.getPluginPreferences().setDefault(USE_NON_LOCKING_CLASSLOADER, false);
+		// validators run one after the other unless more threads are configured
+		plugin.getPluginPreferences().setDefault(PROJECT_CONTRIBUTION_THREADS, 1);
+		// validation rule statistics are collected, but not reported by default
+		plugin.getPluginPreferences().setDefault(REPORT_VALIDATION_RULE_STATISTICS, false);
 	}
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
 		model.shutdown();
 		typeStructureCache.shutdown();
+		typeHierarchyJarCache.save(getStateLocation().append(TYPE_HIERARCHY_SNAPSHOT_FILE).toFile());
 		super.stop(context);
 	}
 
@@ -152,6 +171,14 @@ public class SpringCore extends Plugin {
 		return typeHierarchyEngine;
 	}
 
+	/**
+	 * Returns the workspace-wide store of type hierarchy information read from jar files.
+	 * @since 3.8.4
+	 */
+	public static final TypeHierarchyJarCache getTypeHierarchyJarCache() {
+		return typeHierarchyJarCache;
+	}
+
 	/**
 	 * Returns the workspace instance.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 Spring IDE Developers
+ * Copyright (c) 2007, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -34,11 +34,13 @@ import org.springframework.ide.eclipse.core.internal.model.resources.ISpringReso
 import org.springframework.ide.eclipse.core.internal.model.resources.SpringResourceChangeListener;
 import org.springframework.ide.eclipse.core.internal.project.SpringProjectContributionManager;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.java.SuperTypeHierarchyCache;
 import org.springframework.ide.eclipse.core.model.AbstractModel;
 import org.springframework.ide.eclipse.core.model.IModelElement;
 import org.springframework.ide.eclipse.core.model.ISpringModel;
 import org.springframework.ide.eclipse.core.model.ISpringProject;
 import org.springframework.ide.eclipse.core.model.ModelChangeEvent.Type;
+import org.springframework.ide.eclipse.core.model.validation.ValidationRuleStatistics;
 import org.springframework.util.ObjectUtils;
 import org.springsource.ide.eclipse.commons.core.SpringCoreUtils;
 
@@ -277,6 +279,8 @@ public class SpringModel extends AbstractModel implements ISpringModel {
 		}
 
 		public void projectClosed(IProject project, int eventType) {
+			SuperTypeHierarchyCache.removeTypeHierarchies(project);
+			ValidationRuleStatistics.removeStatistics(project);
 			ISpringProject proj = null;
 			try {
 				w.lock();
@@ -291,6 +295,8 @@ public class SpringModel extends AbstractModel implements ISpringModel {
 		}
 
 		public void projectDeleted(IProject project, int eventType) {
+			SuperTypeHierarchyCache.removeTypeHierarchies(project);
+			ValidationRuleStatistics.removeStatistics(project);
 			ISpringProject proj = null;
 			try {
 				w.lock();
@@ -315,6 +321,7 @@ public class SpringModel extends AbstractModel implements ISpringModel {
 			for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
 				if ((delta.getFlags() & IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED) != 0
 						|| (delta.getFlags() & IJavaElementDelta.F_CLASSPATH_CHANGED) != 0) {
+					SuperTypeHierarchyCache.removeTypeHierarchies(delta.getElement().getJavaProject().getProject());
 					boolean addedOrRemoved = false;
 					
 					for (IJavaElementDelta classpathDelta : delta.getAffectedChildren()) {
@@ -63,6 +63,8 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 
 	private static final String SEVERITY_ATTRIBUTE = "severity";
 
+	private static final String THREAD_SAFE_ATTRIBUTE = "threadSafe";
+
 	private String description;
 
 	private String id;
@@ -87,6 +89,8 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 
 	private boolean rulePropertiesInitialized;
 
+	private boolean threadSafe;
+
 	public ValidationRuleDefinition(String validatorID, IConfigurationElement element) throws CoreException {
 		this.validatorId = validatorID;
 		init(element);
@@ -116,7 +120,7 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 		return ENABLEMENT_PREFIX + id;
 	}
 
-	public IValidationRule getRule() {
+	public synchronized IValidationRule getRule() {
 		if (propertyValues.size() > 0 && !rulePropertiesInitialized) {
 			BeanWrapper wrapper = new BeanWrapperImpl(rule);
 			for (Map.Entry<String, String> entry : propertyValues.entrySet()) {
@@ -136,6 +140,14 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 		return validatorId;
 	}
 
+	/**
+	 * Returns <code>true</code> if the rule can be executed at the same time as other rules of the same validator.
+	 * @since 3.8.4
+	 */
+	public boolean isThreadSafe() {
+		return threadSafe;
+	}
+
 	private void init(IConfigurationElement element) throws CoreException {
 		Object executable = element.createExecutableExtension(CLASS_ATTRIBUTE);
 		if (executable instanceof IValidationRule) {
@@ -144,6 +156,7 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 		id = element.getContributor().getName() + "." + element.getAttribute(ID_ATTRIBUTE) + "-" + validatorId;
 		name = element.getAttribute(NAME_ATTRIBUTE);
 		description = element.getAttribute(DESCRIPTION_ATTRIBUTE);
+		threadSafe = Boolean.valueOf(element.getAttribute(THREAD_SAFE_ATTRIBUTE));
 		String enabledByDefault = element.getAttribute(ENABLED_BY_DEFAULT_ATTRIBUTE);
 		if (enabledByDefault != null) {
 			setEnabledByDefault(Boolean.valueOf(enabledByDefault));
@@ -201,11 +214,11 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 		return new HashMap<String, Integer>(originalMessageSeverities);
 	}
 
-	public Map<String, String> getPropertyValues() {
+	public synchronized Map<String, String> getPropertyValues() {
 		return new HashMap<String, String>(propertyValues);
 	}
 
-	public Map<String, Integer> getMessageSeverities() {
+	public synchronized Map<String, Integer> getMessageSeverities() {
 		return new HashMap<String, Integer>(messageSeverities);
 	}
 
@@ -220,7 +233,7 @@ public class ValidationRuleDefinition extends PersistablePreferenceObjectSupport
 		return super.isEnabled(project);
 	}
 
-	protected void readSpecificConfiguration(IProject project) {
+	protected synchronized void readSpecificConfiguration(IProject project) {
 		if (project != null && hasProjectSpecificOptions(project)) {
 			for (Map.Entry<String, String> entry : originalPropertyValues.entrySet()) {
 				String value = SpringCorePreferences.getProjectPreferences(project, SpringCore.PLUGIN_ID).getString(
@@ -34,6 +34,8 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 
 	private static final String CLASS_ATTRIBUTE = "class";
 
+	private static final String CONCURRENT_ATTRIBUTE = "concurrent";
+
 	private static final String DESCRIPTION_ATTRIBUTE = "description";
 
 	private static final String ENABLED_BY_DEFAULT_ATTRIBUTE = "enabledByDefault";
@@ -50,6 +52,8 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 
 	private static final String ORDER_ATTRIBUTE = "order";
 
+	private boolean concurrent;
+
 	private String description;
 
 	private String iconUri;
@@ -93,6 +97,14 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 		}
 	}
 
+	/**
+	 * Returns <code>true</code> if the validator can run concurrently with the other concurrent validators.
+	 * @since 3.8.4
+	 */
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
 	public String getDescription() {
 		return description;
 	}
@@ -159,6 +171,7 @@ public class ValidatorDefinition extends PersistablePreferenceObjectSupport {
 		else {
 			setEnabledByDefault(true);
 		}
+		concurrent = Boolean.valueOf(element.getAttribute(CONCURRENT_ATTRIBUTE));
 		initValidator();
 	}
 
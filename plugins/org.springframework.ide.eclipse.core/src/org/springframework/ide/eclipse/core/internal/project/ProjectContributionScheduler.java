@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.internal.project;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.springframework.ide.eclipse.core.SpringCore;
+
+/**
+ * Shared, bounded fork-join pool that is used to run the computational parts of project contributions
+ * (e.g. validating a set of resources) concurrently.
+ * <p>
+ * Only work that does not modify the workspace must be handed to this pool. The build thread holds the
+ * workspace rule during a build, so marker updates and other resource modifications done from a worker
+ * thread would block until the build has finished.
+ * <p>
+ * The size of the pool is controlled by the {@link SpringCore#PROJECT_CONTRIBUTION_THREADS} preference.
+ * A value of <code>1</code> disables concurrent execution altogether.
+ * @since 3.8.4
+ */
+public class ProjectContributionScheduler {
+
+	private static ForkJoinPool pool;
+
+	/**
+	 * Returns the number of threads that are configured to run project contributions.
+	 */
+	public static int getThreadCount() {
+		SpringCore core = SpringCore.getDefault();
+		if (core == null) {
+			return 1;
+		}
+		return Math.max(1, core.getPluginPreferences().getInt(SpringCore.PROJECT_CONTRIBUTION_THREADS));
+	}
+
+	/**
+	 * Returns <code>true</code> if project contributions should make use of concurrent execution.
+	 */
+	public static boolean isConcurrent() {
+		return getThreadCount() > 1;
+	}
+
+	/**
+	 * Runs all given tasks and waits for their completion. The tasks are executed on the shared pool, unless the
+	 * calling thread is already one of its worker threads, in which case they get forked into the current pool.
+	 */
+	public static void invokeAll(final Collection<? extends ForkJoinTask<?>> tasks) {
+		if (tasks.isEmpty()) {
+			return;
+		}
+		if (ForkJoinTask.inForkJoinPool()) {
+			ForkJoinTask.invokeAll(tasks);
+		}
+		else {
+			getPool().invoke(new RecursiveAction() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected void compute() {
+					ForkJoinTask.invokeAll(tasks);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Returns a progress monitor that can be used from worker threads. It only forwards cancelation requests of the
+	 * given monitor, as progress monitors in general must not be used from multiple threads.
+	 */
+	public static IProgressMonitor createWorkerMonitor(final IProgressMonitor monitor) {
+		return new NullProgressMonitor() {
+
+			@Override
+			public boolean isCanceled() {
+				return super.isCanceled() || (monitor != null && monitor.isCanceled());
+			}
+		};
+	}
+
+	private static synchronized ForkJoinPool getPool() {
+		int threadCount = getThreadCount();
+		if (pool == null || pool.getParallelism() != threadCount) {
+			if (pool != null) {
+				pool.shutdown();
+			}
+			pool = new ForkJoinPool(threadCount, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+
+				public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+					ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					thread.setName("Spring Project Contribution Worker " + thread.getPoolIndex());
+					thread.setDaemon(true);
+					return thread;
+				}
+			}, null, false);
+		}
+		return pool;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 Spring IDE Developers
+ * Copyright (c) 2007, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,11 +10,14 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.internal.project;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RecursiveAction;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -32,6 +35,8 @@ import org.eclipse.core.runtime.SubProgressMonitor;
 import org.springframework.ide.eclipse.core.SpringCoreUtils;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinition;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinitionFactory;
+import org.springframework.ide.eclipse.core.model.validation.AbstractValidator;
+import org.springframework.ide.eclipse.core.model.validation.AbstractValidator.ValidationResult;
 import org.springframework.ide.eclipse.core.model.validation.IValidator;
 import org.springframework.ide.eclipse.core.project.DefaultProjectContributorState;
 import org.springframework.ide.eclipse.core.project.IProjectBuilder;
@@ -55,6 +60,10 @@ import org.springframework.ide.eclipse.core.project.ProjectContributionEventList
  * <p>
  * {@link IProjectBuilder} or {@link IValidator} implementations that want to access the state should implement the
  * {@link IProjectContributorStateAware} interface to a call back with the current state.
+ * <p>
+ * If more than one thread is configured via {@link ProjectContributionScheduler}, consecutive validators that are
+ * declared as <code>concurrent</code> compute their problems at the same time. Their markers are still created one
+ * validator after the other on the build thread.
  * 
  * @author Torsten Juergeleit
  * @author Christian Dupuis
@@ -125,12 +134,22 @@ public class SpringProjectContributionManager extends IncrementalProjectBuilder
 		}
 
 		// Finally run all validators
+		List<ValidatorDefinition> concurrentValidatorDefinitions = new ArrayList<ValidatorDefinition>();
 		for (ValidatorDefinition validatorDefinition : validatorDefinitions) {
 			if (validatorDefinition.isEnabled(project)) {
-				Set<IResource> affectedResources = getAffectedResources(validatorDefinition.getValidator(), project, buildKind, delta);
-				runValidator(validatorDefinition, affectedResources, buildKind, monitor, listeners);
+				if (isConcurrent(validatorDefinition)) {
+					concurrentValidatorDefinitions.add(validatorDefinition);
+				}
+				else {
+					runConcurrentValidators(concurrentValidatorDefinitions, project, buildKind, delta, monitor, listeners);
+					concurrentValidatorDefinitions.clear();
+
+					Set<IResource> affectedResources = getAffectedResources(validatorDefinition.getValidator(), project, buildKind, delta);
+					runValidator(validatorDefinition, affectedResources, buildKind, monitor, listeners);
+				}
 			}
 		}
+		runConcurrentValidators(concurrentValidatorDefinitions, project, buildKind, delta, monitor, listeners);
 
 		// Fire end event on listeners
 		for (final IProjectContributionEventListener listener : listeners) {
@@ -235,12 +254,76 @@ public class SpringProjectContributionManager extends IncrementalProjectBuilder
 		}
 	}
 
+	/**
+	 * Returns <code>true</code> if the given validator can compute its problems concurrently to other validators.
+	 */
+	private boolean isConcurrent(ValidatorDefinition validatorDefinition) {
+		return validatorDefinition.isConcurrent() && validatorDefinition.getValidator() instanceof AbstractValidator
+				&& ProjectContributionScheduler.isConcurrent();
+	}
+
 	/**
 	 * Runs all given {@link IValidator} in the order as they are given in the set.
 	 */
 	private void runValidator(final ValidatorDefinition validatorDefinition, final Set<IResource> affectedResources,
 			final int kind, IProgressMonitor monitor, List<IProjectContributionEventListener> listeners) {
 
+		fireStartValidator(validatorDefinition, affectedResources, monitor, listeners);
+
+		execute(new SafeExecutableWithMonitor() {
+
+			public void execute(IProgressMonitor subMonitor) throws Exception {
+				validatorDefinition.getValidator().validate(affectedResources, kind, subMonitor);
+			}
+		}, monitor);
+
+		fireFinishValidator(validatorDefinition, affectedResources, monitor, listeners);
+	}
+
+	/**
+	 * Runs the given concurrent {@link IValidator}s. The problems of all validators are computed on the
+	 * {@link ProjectContributionScheduler} at the same time; the markers are created afterwards on the build thread in
+	 * the order of the given validators.
+	 */
+	private void runConcurrentValidators(List<ValidatorDefinition> validatorDefinitions, IProject project,
+			final int kind, IResourceDelta delta, IProgressMonitor monitor,
+			List<IProjectContributionEventListener> listeners) throws CoreException {
+		if (validatorDefinitions.isEmpty()) {
+			return;
+		}
+
+		Map<ValidatorDefinition, Set<IResource>> affectedResources = new LinkedHashMap<ValidatorDefinition, Set<IResource>>();
+		for (ValidatorDefinition validatorDefinition : validatorDefinitions) {
+			Set<IResource> resources = getAffectedResources(validatorDefinition.getValidator(), project, kind, delta);
+			affectedResources.put(validatorDefinition, resources);
+			fireStartValidator(validatorDefinition, resources, monitor, listeners);
+		}
+
+		IProgressMonitor workerMonitor = ProjectContributionScheduler.createWorkerMonitor(monitor);
+		List<ComputeProblemsTask> tasks = new ArrayList<ComputeProblemsTask>();
+		for (Map.Entry<ValidatorDefinition, Set<IResource>> entry : affectedResources.entrySet()) {
+			tasks.add(new ComputeProblemsTask(entry.getKey(), entry.getValue(), kind, workerMonitor));
+		}
+		ProjectContributionScheduler.invokeAll(tasks);
+
+		for (final ComputeProblemsTask task : tasks) {
+			if (task.result != null) {
+				execute(new SafeExecutableWithMonitor() {
+
+					public void execute(IProgressMonitor subMonitor) throws Exception {
+						((AbstractValidator) task.validatorDefinition.getValidator()).createProblemMarkers(task.result,
+								subMonitor);
+					}
+				}, monitor);
+			}
+			fireFinishValidator(task.validatorDefinition, task.affectedResources, monitor, listeners);
+		}
+	}
+
+	private void fireStartValidator(final ValidatorDefinition validatorDefinition,
+			final Set<IResource> affectedResources, IProgressMonitor monitor,
+			List<IProjectContributionEventListener> listeners) {
+
 		for (final IProjectContributionEventListener listener : listeners) {
 
 			execute(new SafeExecutableWithMonitor() {
@@ -253,13 +336,11 @@ public class SpringProjectContributionManager extends IncrementalProjectBuilder
 			}, monitor);
 
 		}
+	}
 
-		execute(new SafeExecutableWithMonitor() {
-
-			public void execute(IProgressMonitor subMonitor) throws Exception {
-				validatorDefinition.getValidator().validate(affectedResources, kind, subMonitor);
-			}
-		}, monitor);
+	private void fireFinishValidator(final ValidatorDefinition validatorDefinition,
+			final Set<IResource> affectedResources, IProgressMonitor monitor,
+			List<IProjectContributionEventListener> listeners) {
 
 		for (final IProjectContributionEventListener listener : listeners) {
 			
@@ -302,6 +383,43 @@ public class SpringProjectContributionManager extends IncrementalProjectBuilder
 
 	}
 
+	/**
+	 * Computes the problems of a single concurrent validator on the {@link ProjectContributionScheduler}.
+	 */
+	private class ComputeProblemsTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ValidatorDefinition validatorDefinition;
+
+		private final Set<IResource> affectedResources;
+
+		private final int kind;
+
+		private final IProgressMonitor monitor;
+
+		private ValidationResult result;
+
+		public ComputeProblemsTask(ValidatorDefinition validatorDefinition, Set<IResource> affectedResources, int kind,
+				IProgressMonitor monitor) {
+			this.validatorDefinition = validatorDefinition;
+			this.affectedResources = affectedResources;
+			this.kind = kind;
+			this.monitor = monitor;
+		}
+
+		@Override
+		protected void compute() {
+			SpringProjectContributionManager.this.execute(new SafeExecutableWithMonitor() {
+
+				public void execute(IProgressMonitor subMonitor) throws Exception {
+					result = ((AbstractValidator) validatorDefinition.getValidator()).computeProblems(
+							affectedResources, kind, subMonitor);
+				}
+			}, monitor);
+		}
+	}
+
 	/**
 	 * Create a list of affected resources from a resource delta.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 Spring IDE Developers
+ * Copyright (c) 2009, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,9 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.xbean.classloader.NonLockingJarFileClassLoader;
 import org.eclipse.core.resources.IFolder;
@@ -49,6 +52,10 @@ import org.springframework.ide.eclipse.core.SpringCore;
 
 /**
  * Internal cache of classpath urls and corresponding classloaders.
+ * <p>
+ * Entries are keyed by project and parent class loader, so lookups don't need a global lock. The cache is bounded by
+ * the number of entries as well as by the total number of classpath urls of all entries; the least recently used
+ * entries are evicted first.
  * @author Christian Dupuis
  * @author Martin Lippert
  * @since 2.2.5
@@ -58,7 +65,15 @@ public class ProjectClassLoaderCache {
 
 	private static final String FILE_SCHEME = "file";
 	private static final int CACHE_SIZE = 12;
-	private static final List<ClassLoaderCacheEntry> CLASSLOADER_CACHE = new ArrayList<ClassLoaderCacheEntry>(CACHE_SIZE);
+	private static final int CACHE_WEIGHT = 5000;
+	private static final ConcurrentMap<ClassLoaderCacheKey, ClassLoaderCacheEntry> CLASSLOADER_CACHE = new ConcurrentHashMap<ClassLoaderCacheKey, ClassLoaderCacheEntry>();
+
+	/** Guards eviction, lookups don't need to hold it */
+	private static final Object EVICTION_LOCK = new Object();
+	private static final AtomicLong ACCESS_COUNTER = new AtomicLong();
+	private static final AtomicLong HITS = new AtomicLong();
+	private static final AtomicLong MISSES = new AtomicLong();
+	private static final AtomicLong EVICTIONS = new AtomicLong();
 
 	private static final String DEBUG_OPTION = SpringCore.PLUGIN_ID + "/java/classloader/debug";
 	private static final boolean DEBUG_CLASSLOADER = SpringCore.isDebug(DEBUG_OPTION);
@@ -68,39 +83,63 @@ public class ProjectClassLoaderCache {
 	private static IResourceChangeListener resourceChangeListener = null;
 
 	private static ClassLoader addClassLoaderToCache(IProject project, List<URL> urls, ClassLoader parentClassLoader) {
-		synchronized (CLASSLOADER_CACHE) {
-			int nEntries = CLASSLOADER_CACHE.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
+		ClassLoader classLoader = null;
+		// null if the entry got evicted concurrently, try again then
+		while (classLoader == null) {
+			ClassLoaderCacheEntry newEntry = new ClassLoaderCacheEntry(project, urls, parentClassLoader);
+			ClassLoaderCacheEntry existingEntry = CLASSLOADER_CACHE.putIfAbsent(newEntry.getKey(), newEntry);
+			if (existingEntry != null) {
+				// another thread created the class loader in the meantime
+				newEntry.dispose();
+				existingEntry.markAsAccessed();
+				classLoader = existingEntry.getClassLoader();
+			}
+			else {
+				evictEntriesIfRequired(newEntry);
+				classLoader = newEntry.getClassLoader();
+			}
+		}
+		return classLoader;
+	}
+
+	/**
+	 * Removes entries of projects that are no longer accessible and afterwards the least recently used entries until
+	 * the cache fits into its size and weight bounds again. The given entry is never evicted.
+	 */
+	private static void evictEntriesIfRequired(ClassLoaderCacheEntry newEntry) {
+		synchronized (EVICTION_LOCK) {
+			for (ClassLoaderCacheEntry entry : CLASSLOADER_CACHE.values()) {
+				IProject curr = entry.getProject();
+				if (!curr.exists() || !curr.isAccessible() || !curr.isOpen()) {
+					removeClassLoaderEntryFromCache(entry);
+				}
+			}
+
+			while (CLASSLOADER_CACHE.size() > CACHE_SIZE || getCacheWeight() > CACHE_WEIGHT) {
 				ClassLoaderCacheEntry oldest = null;
-				List<ClassLoaderCacheEntry> obsoleteClassLoaders = new ArrayList<ClassLoaderCacheEntry>(CACHE_SIZE);
-				for (int i = 0; i < nEntries; i++) {
-					ClassLoaderCacheEntry entry = (ClassLoaderCacheEntry) CLASSLOADER_CACHE.get(i);
-					IProject curr = entry.getProject();
-					if (!curr.exists() || !curr.isAccessible() || !curr.isOpen()) {
-						obsoleteClassLoaders.add(entry);
-					}
-					else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest = entry;
-						}
+				for (ClassLoaderCacheEntry entry : CLASSLOADER_CACHE.values()) {
+					if (entry != newEntry && (oldest == null || entry.getLastAccess() < oldest.getLastAccess())) {
+						oldest = entry;
 					}
 				}
-				if (!obsoleteClassLoaders.isEmpty()) {
-					for (int i = 0; i < obsoleteClassLoaders.size(); i++) {
-						removeClassLoaderEntryFromCache((ClassLoaderCacheEntry) obsoleteClassLoaders.get(i));
-					}
+				if (oldest == null) {
+					break;
 				}
-				else if (oldest != null) {
-					removeClassLoaderEntryFromCache(oldest);
+				if (removeClassLoaderEntryFromCache(oldest)) {
+					EVICTIONS.incrementAndGet();
 				}
 			}
-			ClassLoaderCacheEntry newEntry = new ClassLoaderCacheEntry(project, urls, parentClassLoader);
-			CLASSLOADER_CACHE.add(newEntry);
-			return newEntry.getClassLoader();
 		}
 	}
 
+	private static int getCacheWeight() {
+		int weight = 0;
+		for (ClassLoaderCacheEntry entry : CLASSLOADER_CACHE.values()) {
+			weight += entry.getWeight();
+		}
+		return weight;
+	}
+
 	/**
 	 * Add {@link URL}s to the given set of <code>paths</code>.
 	 */
@@ -210,25 +249,23 @@ public class ProjectClassLoaderCache {
 	}
 
 	private static ClassLoader findClassLoaderInCache(IProject project, ClassLoader parentClassLoader) {
-		synchronized (CLASSLOADER_CACHE) {
-			for (int i = CLASSLOADER_CACHE.size() - 1; i >= 0; i--) {
-				ClassLoaderCacheEntry entry = (ClassLoaderCacheEntry) CLASSLOADER_CACHE.get(i);
-				IProject curr = entry.getProject();
-				if (curr == null || !curr.exists() || !curr.isAccessible() || !curr.isOpen()) {
-					removeClassLoaderEntryFromCache(entry);
-					if (DEBUG_CLASSLOADER) {
-						System.out.println(String.format("> removing classloader for '%s' : total %s",
-								entry.getProject(), CLASSLOADER_CACHE.size()));
-					}
-				}
-				else {
-					if (entry.matches(project, parentClassLoader)) {
-						entry.markAsAccessed();
-						return entry.getClassLoader();
-					}
+		ClassLoaderCacheEntry entry = CLASSLOADER_CACHE.get(new ClassLoaderCacheKey(project, parentClassLoader));
+		if (entry != null) {
+			IProject curr = entry.getProject();
+			if (!curr.exists() || !curr.isAccessible() || !curr.isOpen()) {
+				removeClassLoaderEntryFromCache(entry);
+			}
+			else {
+				ClassLoader classLoader = entry.getClassLoader();
+				// null if the entry got evicted concurrently
+				if (classLoader != null) {
+					entry.markAsAccessed();
+					HITS.incrementAndGet();
+					return classLoader;
 				}
 			}
 		}
+		MISSES.incrementAndGet();
 		return null;
 	}
 
@@ -268,16 +305,59 @@ public class ProjectClassLoaderCache {
 	/**
 	 * Removes the given {@link ClassLoaderCacheEntry} from the internal cache.
 	 * @param entry the entry to remove
+	 * @return <code>true</code> if the entry was still part of the cache
 	 */
-	private static void removeClassLoaderEntryFromCache(ClassLoaderCacheEntry entry) {
-		synchronized (CLASSLOADER_CACHE) {
+	private static boolean removeClassLoaderEntryFromCache(ClassLoaderCacheEntry entry) {
+		if (CLASSLOADER_CACHE.remove(entry.getKey(), entry)) {
 			if (DEBUG_CLASSLOADER) {
 				System.out.println(String.format("> removing classloader for '%s' : total %s", entry.getProject()
 						.getName(), CLASSLOADER_CACHE.size()));
 			}
 			entry.dispose();
-			CLASSLOADER_CACHE.remove(entry);
+			return true;
 		}
+		return false;
+	}
+
+	/**
+	 * Removes all entries from the internal cache.
+	 */
+	private static void clearCache() {
+		for (ClassLoaderCacheEntry entry : CLASSLOADER_CACHE.values()) {
+			removeClassLoaderEntryFromCache(entry);
+		}
+	}
+
+	/**
+	 * Returns the number of class loader requests that have been served from the cache.
+	 * @since 3.8.4
+	 */
+	public static long getHitCount() {
+		return HITS.get();
+	}
+
+	/**
+	 * Returns the number of class loader requests that required to create a new class loader.
+	 * @since 3.8.4
+	 */
+	public static long getMissCount() {
+		return MISSES.get();
+	}
+
+	/**
+	 * Returns the number of entries that have been evicted to keep the cache within its bounds.
+	 * @since 3.8.4
+	 */
+	public static long getEvictionCount() {
+		return EVICTIONS.get();
+	}
+
+	/**
+	 * Returns the number of cached class loaders.
+	 * @since 3.8.4
+	 */
+	public static int size() {
+		return CLASSLOADER_CACHE.size();
 	}
 
 	public static boolean shouldFilter(String name) {
@@ -345,17 +425,44 @@ public class ProjectClassLoaderCache {
 	 * @param project the project to remove {@link ClassLoaderCacheEntry} for
 	 */
 	protected static void removeClassLoaderEntryFromCache(IProject project) {
-		synchronized (CLASSLOADER_CACHE) {
-			if (DEBUG_CLASSLOADER) {
-				System.out.println(String.format("> removing classloader for '%s' : total %s", project.getName(),
-						CLASSLOADER_CACHE.size()));
+		for (ClassLoaderCacheEntry entry : CLASSLOADER_CACHE.values()) {
+			if (project.equals(entry.getProject())) {
+				removeClassLoaderEntryFromCache(entry);
 			}
-			for (ClassLoaderCacheEntry entry : new ArrayList<ClassLoaderCacheEntry>(CLASSLOADER_CACHE)) {
-				if (project.equals(entry.getProject())) {
-					entry.dispose();
-					CLASSLOADER_CACHE.remove(entry);
-				}
+		}
+	}
+
+	/**
+	 * Internal cache key, consisting of the project and the parent class loader
+	 */
+	static class ClassLoaderCacheKey {
+
+		private final IProject project;
+
+		private final ClassLoader parentClassLoader;
+
+		public ClassLoaderCacheKey(IProject project, ClassLoader parentClassLoader) {
+			this.project = project;
+			this.parentClassLoader = parentClassLoader;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ClassLoaderCacheKey)) {
+				return false;
 			}
+			ClassLoaderCacheKey other = (ClassLoaderCacheKey) obj;
+			return project.equals(other.project)
+					&& (parentClassLoader == null ? other.parentClassLoader == null : parentClassLoader
+							.equals(other.parentClassLoader));
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * project.hashCode() + (parentClassLoader != null ? parentClassLoader.hashCode() : 0);
 		}
 	}
 	
@@ -368,7 +475,11 @@ public class ProjectClassLoaderCache {
 
 		private ClassLoader jarClassLoader;
 
-		private long lastAccess;
+		private boolean disposed = false;
+
+		private final ClassLoaderCacheKey key;
+
+		private volatile long lastAccess;
 
 		private ClassLoader parentClassLoader;
 
@@ -376,17 +487,28 @@ public class ProjectClassLoaderCache {
 
 		private URL[] urls;
 
+		private final int weight;
+
 		public ClassLoaderCacheEntry(IProject project, List<URL> urls, ClassLoader parentClassLoader) {
 			this.project = project;
 			this.urls = urls.toArray(new URL[urls.size()]);
+			this.weight = this.urls.length;
 			this.parentClassLoader = parentClassLoader;
+			this.key = new ClassLoaderCacheKey(project, parentClassLoader);
 			markAsAccessed();
 			JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
 		}
 
-		public void dispose() {
+		/**
+		 * Stops listening for classpath changes and drops the class loader of this entry. A disposed entry doesn't hand
+		 * out class loaders anymore.
+		 * <p>
+		 * The jar class loader is not closed: class loaders handed out before may still be in use by running builds,
+		 * and they delegate to it. It is left to the garbage collector once none of them is referenced anymore.
+		 */
+		public synchronized void dispose() {
 			JavaCore.removeElementChangedListener(this);
-			this.urls = null;
+			this.disposed = true;
 			this.jarClassLoader = null;
 		}
 
@@ -404,8 +526,15 @@ public class ProjectClassLoaderCache {
 			}
 		}
 
+		/**
+		 * Returns a new class loader for the output folders of the project, delegating to the shared class loader of
+		 * its jars, or <code>null</code> if this entry has been disposed.
+		 */
 		public ClassLoader getClassLoader() {
 			ClassLoader parent = getJarClassLoader();
+			if (parent == null) {
+				return null;
+			}
 			if (useNonLockingClassLoader()) {
 				return new FilteringNonLockingJarFileClassLoader(String.format("ClassLoader for '%s'", project.getName()),
 						directories, parent);
@@ -415,25 +544,34 @@ public class ProjectClassLoaderCache {
 			}
 		}
 
+		public ClassLoaderCacheKey getKey() {
+			return key;
+		}
+
 		public long getLastAccess() {
 			return lastAccess;
 		}
 
+		/**
+		 * Returns the number of classpath urls of this entry.
+		 */
+		public int getWeight() {
+			return weight;
+		}
+
 		public IProject getProject() {
 			return this.project;
 		}
 
 		public void markAsAccessed() {
-			lastAccess = System.currentTimeMillis();
-		}
-
-		public boolean matches(IProject project, ClassLoader parentClassLoader) {
-			return this.project.equals(project)
-					&& ((parentClassLoader == null && this.parentClassLoader == null) || (parentClassLoader != null && parentClassLoader
-							.equals(this.parentClassLoader)));
+			// a counter instead of the current time, so that accesses within the same millisecond are ordered
+			lastAccess = ACCESS_COUNTER.incrementAndGet();
 		}
 
 		private synchronized ClassLoader getJarClassLoader() {
+			if (disposed) {
+				return null;
+			}
 			if (jarClassLoader == null) {
 				Set<URL> jars = new LinkedHashSet<URL>();
 				List<URL> dirs = new ArrayList<URL>();
@@ -494,9 +632,7 @@ public class ProjectClassLoaderCache {
 		 */
 		public void propertyChange(PropertyChangeEvent event) {
 			if (SpringCore.USE_NON_LOCKING_CLASSLOADER.equals(event.getProperty())) {
-				synchronized (CLASSLOADER_CACHE) {
-					CLASSLOADER_CACHE.clear();
-				}
+				clearCache();
 			}
 		}
 	}
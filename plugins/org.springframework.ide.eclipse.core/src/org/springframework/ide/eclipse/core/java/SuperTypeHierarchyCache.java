@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2009 Spring IDE Developers
+ * Copyright (c) 2007, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,10 +10,13 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.java;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
@@ -23,6 +26,10 @@ import org.eclipse.jdt.core.JavaModelException;
  * Cache for {@link ITypeHierarchy} instances.
  * <p>
  * The implementation has been taken from {@link org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache}.
+ * <p>
+ * Hierarchies are keyed by their focus type and evicted by their estimated weight (the number of types they contain)
+ * rather than by their number only, so that a few huge hierarchies can't pin large amounts of memory. Hierarchies that
+ * are too large to ever fit into the cache are not cached at all.
  * @author Christian Dupuis
  * @since 2.0.1
  */
@@ -33,31 +40,47 @@ public class SuperTypeHierarchyCache {
 	 */
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private long lastAccess;
+		private final IType type;
+
+		private final int weight;
 
-		private ITypeHierarchy typeHierarchy;
+		private volatile long lastAccess;
 
-		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
+		private volatile ITypeHierarchy typeHierarchy;
+
+		public HierarchyCacheEntry(ITypeHierarchy hierarchy, int weight) {
+			this.type = hierarchy.getType();
+			this.weight = weight;
 			typeHierarchy = hierarchy;
 			typeHierarchy.addTypeHierarchyChangedListener(this);
 			markAsAccessed();
 		}
 
-		public void dispose() {
-			typeHierarchy.removeTypeHierarchyChangedListener(this);
-			typeHierarchy = null;
+		public synchronized void dispose() {
+			if (typeHierarchy != null) {
+				typeHierarchy.removeTypeHierarchyChangedListener(this);
+				typeHierarchy = null;
+			}
 		}
 
 		public long getLastAccess() {
 			return lastAccess;
 		}
 
+		public IType getType() {
+			return type;
+		}
+
 		public ITypeHierarchy getTypeHierarchy() {
 			return typeHierarchy;
 		}
 
+		public int getWeight() {
+			return weight;
+		}
+
 		public void markAsAccessed() {
-			lastAccess = System.currentTimeMillis();
+			lastAccess = ACCESS_COUNTER.incrementAndGet();
 		}
 
 		public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
@@ -67,58 +90,95 @@ public class SuperTypeHierarchyCache {
 
 	private static final int CACHE_SIZE = 50;
 
-	private static List<HierarchyCacheEntry> HIERACHY_CACHE = new ArrayList<HierarchyCacheEntry>(CACHE_SIZE);
+	/** Upper bound for the total number of types of all cached hierarchies */
+	private static final int CACHE_WEIGHT = 50000;
+
+	private static final ConcurrentMap<IType, HierarchyCacheEntry> HIERACHY_CACHE = new ConcurrentHashMap<IType, HierarchyCacheEntry>();
+
+	/** Guards eviction, lookups don't need to hold it */
+	private static final Object EVICTION_LOCK = new Object();
+
+	private static final AtomicLong ACCESS_COUNTER = new AtomicLong();
+
+	private static final AtomicLong WEIGHT = new AtomicLong();
+
+	private static final AtomicLong HITS = new AtomicLong();
+
+	private static final AtomicLong MISSES = new AtomicLong();
+
+	private static final AtomicLong EVICTIONS = new AtomicLong();
 
 	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
-		synchronized (HIERACHY_CACHE) {
-			int nEntries = HIERACHY_CACHE.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently
-				// accessed
+		if (hierarchy.getType() == null) {
+			return;
+		}
+		int weight = estimateWeight(hierarchy);
+		if (weight > CACHE_WEIGHT) {
+			// caching the hierarchy would evict everything else
+			return;
+		}
+
+		synchronized (EVICTION_LOCK) {
+			// remove obsolete entries and hierarchies that are covered by the new one
+			for (HierarchyCacheEntry entry : HIERACHY_CACHE.values()) {
+				ITypeHierarchy curr = entry.getTypeHierarchy();
+				if (curr == null || !curr.exists() || hierarchy.contains(entry.getType())) {
+					removeHierarchyEntryFromCache(entry);
+				}
+			}
+
+			while (!HIERACHY_CACHE.isEmpty()
+					&& (HIERACHY_CACHE.size() >= CACHE_SIZE || WEIGHT.get() + weight > CACHE_WEIGHT)) {
 				HierarchyCacheEntry oldest = null;
-				List<HierarchyCacheEntry> obsoleteHierarchies = new ArrayList<HierarchyCacheEntry>(CACHE_SIZE);
-				for (int i = 0; i < nEntries; i++) {
-					HierarchyCacheEntry entry = (HierarchyCacheEntry) HIERACHY_CACHE.get(i);
-					ITypeHierarchy curr = entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					}
-					else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest = entry;
-						}
+				for (HierarchyCacheEntry entry : HIERACHY_CACHE.values()) {
+					if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
+						oldest = entry;
 					}
 				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (int i = 0; i < obsoleteHierarchies.size(); i++) {
-						removeHierarchyEntryFromCache((HierarchyCacheEntry) obsoleteHierarchies.get(i));
-					}
+				if (oldest == null) {
+					break;
 				}
-				else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
+				if (removeHierarchyEntryFromCache(oldest)) {
+					EVICTIONS.incrementAndGet();
 				}
 			}
-			HierarchyCacheEntry newEntry = new HierarchyCacheEntry(hierarchy);
-			HIERACHY_CACHE.add(newEntry);
+
+			HierarchyCacheEntry newEntry = new HierarchyCacheEntry(hierarchy, weight);
+			HierarchyCacheEntry oldEntry = HIERACHY_CACHE.put(newEntry.getType(), newEntry);
+			WEIGHT.addAndGet(weight);
+			if (oldEntry != null) {
+				WEIGHT.addAndGet(-oldEntry.getWeight());
+				oldEntry.dispose();
+			}
 		}
 	}
 
 	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (HIERACHY_CACHE) {
-			for (int i = HIERACHY_CACHE.size() - 1; i >= 0; i--) {
-				HierarchyCacheEntry curr = (HierarchyCacheEntry) HIERACHY_CACHE.get(i);
-				ITypeHierarchy hierarchy = curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				}
-				else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
+		// fast path: a hierarchy that has been created for the given type
+		HierarchyCacheEntry entry = HIERACHY_CACHE.get(type);
+		if (entry != null) {
+			ITypeHierarchy hierarchy = entry.getTypeHierarchy();
+			if (hierarchy != null && hierarchy.exists()) {
+				entry.markAsAccessed();
+				HITS.incrementAndGet();
+				return hierarchy;
 			}
+			removeHierarchyEntryFromCache(entry);
 		}
+
+		// a hierarchy of another type that contains the given type
+		for (HierarchyCacheEntry curr : HIERACHY_CACHE.values()) {
+			ITypeHierarchy hierarchy = curr.getTypeHierarchy();
+			if (hierarchy == null || !hierarchy.exists()) {
+				removeHierarchyEntryFromCache(curr);
+			}
+			else if (hierarchy.contains(type)) {
+				curr.markAsAccessed();
+				HITS.incrementAndGet();
+				return hierarchy;
+			}
+		}
+		MISSES.incrementAndGet();
 		return null;
 	}
 
@@ -162,10 +222,64 @@ public class SuperTypeHierarchyCache {
 		return findTypeHierarchyInCache(type) != null;
 	}
 
-	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
-		synchronized (HIERACHY_CACHE) {
+	/**
+	 * Removes all cached hierarchies of types that belong to the given project.
+	 * <p>
+	 * Called when a Spring project is closed or deleted, or when its classpath changes.
+	 * @param project the project to remove the hierarchies for
+	 * @since 3.8.4
+	 */
+	public static void removeTypeHierarchies(IProject project) {
+		for (HierarchyCacheEntry entry : HIERACHY_CACHE.values()) {
+			IJavaProject javaProject = entry.getType().getJavaProject();
+			if (javaProject != null && project.equals(javaProject.getProject())) {
+				removeHierarchyEntryFromCache(entry);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of lookups that have been served from the cache.
+	 * @since 3.8.4
+	 */
+	public static long getHitCount() {
+		return HITS.get();
+	}
+
+	/**
+	 * Returns the number of lookups that required to create a new hierarchy.
+	 * @since 3.8.4
+	 */
+	public static long getMissCount() {
+		return MISSES.get();
+	}
+
+	/**
+	 * Returns the number of hierarchies that have been evicted to keep the cache within its bounds.
+	 * @since 3.8.4
+	 */
+	public static long getEvictionCount() {
+		return EVICTIONS.get();
+	}
+
+	/**
+	 * Returns the total number of types of all cached hierarchies.
+	 * @since 3.8.4
+	 */
+	public static long getWeight() {
+		return WEIGHT.get();
+	}
+
+	private static int estimateWeight(ITypeHierarchy hierarchy) {
+		return Math.max(1, hierarchy.getAllTypes().length);
+	}
+
+	private static boolean removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
+		if (HIERACHY_CACHE.remove(entry.getType(), entry)) {
+			WEIGHT.addAndGet(-entry.getWeight());
 			entry.dispose();
-			HIERACHY_CACHE.remove(entry);
+			return true;
 		}
+		return false;
 	}
 }
@@ -14,6 +14,8 @@ import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
@@ -27,9 +29,21 @@ import org.springframework.ide.eclipse.core.SpringCore;
 public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReader {
 	
 	private ClasspathLookup lookup;
+	private TypeHierarchyJarCache jarCache;
+	private Map<String, JarTypeHierarchyTable> jarTables;
 
 	public BytecodeTypeHierarchyClassReader(ClasspathLookup lookup) {
+		this(lookup, null);
+	}
+
+	/**
+	 * Creates a class reader that uses and fills the given jar cache for classes that are loaded from jar files.
+	 * @since 3.8.4
+	 */
+	public BytecodeTypeHierarchyClassReader(ClasspathLookup lookup, TypeHierarchyJarCache jarCache) {
 		this.lookup = lookup;
+		this.jarCache = jarCache;
+		this.jarTables = new HashMap<String, JarTypeHierarchyTable>();
 	}
 
 	public TypeHierarchyElement readTypeHierarchyInformation(char[] fullyQualifiedClassName, IProject project) {
@@ -44,12 +58,34 @@ public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReade
 			className = fullyQualifiedClassFileName.substring(lastIndexOf + 1);
 		}
 
+		ClasspathResource resource = lookup.find(fullyQualifiedClassFileName, packageName, className);
+		if (resource == null) {
+			return null;
+		}
+
+		JarTypeHierarchyTable jarTable = null;
+		if (jarCache != null) {
+			jarTable = getJarTable(resource.getJarPath());
+			if (jarTable != null) {
+				TypeHierarchyElement element = jarTable.get(fullyQualifiedClassName);
+				if (element != null) {
+					return element;
+				}
+			}
+		}
+
 		InputStream stream = null;
 		try {
-			stream = lookup.getStream(fullyQualifiedClassFileName, packageName, className);
+			stream = resource.getStream();
 			if (stream != null) {
-				return readTypeHierarchy(stream);
+				TypeHierarchyElement element = readTypeHierarchy(stream);
+				if (element != null && jarTable != null) {
+					element = jarTable.put(element);
+				}
+				return element;
 			}
+		} catch (IOException e) {
+			// not readable, as if not found
 		} finally {
 			if (stream != null) {
 				try {
@@ -66,6 +102,16 @@ public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReade
 		lookup.close();
 	}
 
+	public void dispose() {
+		cleanup();
+		synchronized (jarTables) {
+			for (JarTypeHierarchyTable table : jarTables.values()) {
+				jarCache.releaseTable(table);
+			}
+			jarTables.clear();
+		}
+	}
+
 	public TypeHierarchyElement readTypeHierarchy(InputStream stream) {
 		try {
 			DataInputStream dis = new DataInputStream(new BufferedInputStream(stream));
@@ -162,6 +208,23 @@ public class BytecodeTypeHierarchyClassReader implements TypeHierarchyClassReade
 		return null;
 	}
 	
+	private JarTypeHierarchyTable getJarTable(String jarPath) {
+		if (jarPath == null) {
+			return null;
+		}
+		
+		// the tables are referenced until this reader gets disposed, so that the jar files are not
+		// checked for changes on each lookup and the elements are shared with other projects
+		synchronized (jarTables) {
+			JarTypeHierarchyTable table = jarTables.get(jarPath);
+			if (table == null) {
+				table = jarCache.acquireTable(jarPath);
+				jarTables.put(jarPath, table);
+			}
+			return table;
+		}
+	}
+	
 	private void skip(InputStream stream, long n) throws IOException {
 		long bytesToSkip = n;
 		do {
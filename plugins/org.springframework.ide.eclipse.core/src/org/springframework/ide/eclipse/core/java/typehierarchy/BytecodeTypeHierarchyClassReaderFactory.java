@@ -11,6 +11,7 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import org.eclipse.core.resources.IProject;
+import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
 
 /**
@@ -26,7 +27,7 @@ public class BytecodeTypeHierarchyClassReaderFactory implements TypeHierarchyCla
 		ClassLoader loader = JdtUtils.getClassLoader(project, null);
 		ClasspathLookup lookup = new ClasspathLookupClassloader(loader);
 
-		return new BytecodeTypeHierarchyClassReader(lookup);
+		return new BytecodeTypeHierarchyClassReader(lookup, SpringCore.getTypeHierarchyJarCache());
 	}
 
 }
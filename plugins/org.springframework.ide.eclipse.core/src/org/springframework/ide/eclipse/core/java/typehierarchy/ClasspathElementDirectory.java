@@ -45,6 +45,13 @@ public class ClasspathElementDirectory implements ClasspathElement {
 		}
 	}
 
+	/**
+	 * @since 3.8.4
+	 */
+	public boolean hasEntry(String fullyQualifiedClassFileName, String packageName, String classFileName) {
+		return doesFileExist(fullyQualifiedClassFileName, packageName, classFileName);
+	}
+
 	public void cleanup() {
 		this.directoryCache.clear();
 	}
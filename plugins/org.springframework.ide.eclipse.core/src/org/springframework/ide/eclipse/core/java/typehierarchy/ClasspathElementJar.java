@@ -46,6 +46,14 @@ public class ClasspathElementJar implements ClasspathElement {
 		return null;
 	}
 
+	public boolean hasEntry(String fullyQualifiedClassFileName, String packageName) {
+		return isPackage(packageName) && jarFile.getEntry(fullyQualifiedClassFileName) != null;
+	}
+
+	public String getJarFileName() {
+		return new File(jarFileName).getAbsolutePath();
+	}
+
 	public void cleanup() {
 		synchronized(this) {
 			if (this.jarFile != null) {
@@ -18,6 +18,14 @@ import java.io.InputStream;
 public interface ClasspathLookup {
 
 	InputStream getStream(String fullyQualifiedClassFileName, String packageName, String className);
+
+	/**
+	 * Looks up the given class file without reading it yet.
+	 * @return the class file, or <code>null</code> if it is not found
+	 * @since 3.8.4
+	 */
+	ClasspathResource find(String fullyQualifiedClassFileName, String packageName, String className);
+
 	void close();
 
 }
@@ -10,23 +10,77 @@
 *******************************************************************************/
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Martin Lippert
  */
 public class ClasspathLookupClassloader implements ClasspathLookup {
 	
+	private static final String NO_JAR_FILE = "";
+
 	private ClassLoader loader;
 
+	/** Absolute paths of the jar files, keyed by the url of the jar file as it appears in resource urls */
+	private Map<String, String> jarPaths;
+
 	public ClasspathLookupClassloader(ClassLoader loader) {
 		this.loader = loader;
+		this.jarPaths = new ConcurrentHashMap<String, String>();
 	}
 
 	public InputStream getStream(String fullyQualifiedClassFileName, String packageName, String className) {
 		return loader.getResourceAsStream(fullyQualifiedClassFileName);
 	}
 
+	public ClasspathResource find(String fullyQualifiedClassFileName, String packageName, String className) {
+		final URL resource = loader.getResource(fullyQualifiedClassFileName);
+		if (resource == null) {
+			return null;
+		}
+		return new ClasspathResource() {
+
+			public String getJarPath() {
+				return ClasspathLookupClassloader.this.getJarPath(resource);
+			}
+
+			public InputStream getStream() throws IOException {
+				return resource.openStream();
+			}
+		};
+	}
+
+	/**
+	 * Derives the path of the jar file from the url of a resource in it, only once per jar file.
+	 */
+	private String getJarPath(URL resource) {
+		if ("jar".equals(resource.getProtocol())) {
+			String path = resource.getPath();
+			int separator = path.indexOf("!/");
+			if (separator > 0) {
+				String jarUrl = path.substring(0, separator);
+				String jarPath = jarPaths.get(jarUrl);
+				if (jarPath == null) {
+					try {
+						jarPath = new File(new URL(jarUrl).toURI()).getAbsolutePath();
+					}
+					catch (Exception e) {
+						// no local jar file
+						jarPath = NO_JAR_FILE;
+					}
+					jarPaths.put(jarUrl, jarPath);
+				}
+				return jarPath == NO_JAR_FILE ? null : jarPath;
+			}
+		}
+		return null;
+	}
+
 	public void close() {
 	}
 
@@ -11,6 +11,7 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
@@ -84,6 +85,53 @@ public class ClasspathLookupDirect implements ClasspathLookup {
 		return null;
 	}
 
+	public ClasspathResource find(final String fullyQualifiedClassFileName, final String packageName, final String className) {
+		for (int i = 0; i < cpElements.length; i++) {
+			final ClasspathElement element = cpElements[i];
+			synchronized(element) {
+				try {
+					final String jarPath;
+					if (element instanceof ClasspathElementJar) {
+						ClasspathElementJar jar = (ClasspathElementJar) element;
+						jarPath = jar.hasEntry(fullyQualifiedClassFileName, packageName) ? jar.getJarFileName() : null;
+						if (jarPath == null) {
+							continue;
+						}
+					}
+					else if (element instanceof ClasspathElementDirectory) {
+						if (!((ClasspathElementDirectory) element).hasEntry(fullyQualifiedClassFileName, packageName, className)) {
+							continue;
+						}
+						jarPath = null;
+					}
+					else {
+						continue;
+					}
+					return new ClasspathResource() {
+
+						public String getJarPath() {
+							return jarPath;
+						}
+
+						public InputStream getStream() throws IOException {
+							synchronized(element) {
+								try {
+									return element.getStream(fullyQualifiedClassFileName, packageName, className);
+								} catch (IOException e) {
+									throw e;
+								} catch (Exception e) {
+									throw new IOException(e);
+								}
+							}
+						}
+					};
+				} catch (Exception e) {
+				}
+			}
+		}
+		return null;
+	}
+
 	public void close() {
 		for (int i = 0; i < cpElements.length; i++) {
 			synchronized(cpElements[i]) {
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A class file found by a {@link ClasspathLookup}, which is only read when asked for its contents.
+ * @since 3.8.4
+ */
+public interface ClasspathResource {
+
+	/**
+	 * Returns the absolute path of the jar file this class file is contained in, or <code>null</code> if it is not in
+	 * a jar file.
+	 */
+	String getJarPath();
+
+	InputStream getStream() throws IOException;
+
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.ide.eclipse.core.SpringCore;
+
+/**
+ * The type hierarchy information of the classes of a single jar file that have been read so far.
+ * A table is only valid for the exact version of the jar, identified by its last modification time
+ * and size.
+ * <p>
+ * Tables that got restored from a {@link TypeHierarchyJarCache} snapshot keep a reference to their
+ * serialized data and decode it on first access only. Tables that are no longer referenced by any
+ * project are turned back into their serialized form to free the memory of the elements.
+ * <p>
+ * All elements of the table are {@link TypeHierarchyElement#isShared() shared} elements, so the same
+ * instances can be used by all projects that have the jar on their classpath.
+ *
+ * @since 3.8.4
+ */
+public class JarTypeHierarchyTable {
+
+	private final String jarPath;
+	private final long lastModified;
+	private final long fileSize;
+
+	private final Map<String, TypeHierarchyElement> elements;
+	private volatile ByteBuffer persistedData;
+	private int references;
+	private volatile long lastUsed;
+
+	public JarTypeHierarchyTable(String jarPath, long lastModified, long fileSize) {
+		this(jarPath, lastModified, fileSize, null, System.currentTimeMillis());
+	}
+
+	JarTypeHierarchyTable(String jarPath, long lastModified, long fileSize, ByteBuffer persistedData, long lastUsed) {
+		this.jarPath = jarPath;
+		this.lastModified = lastModified;
+		this.fileSize = fileSize;
+		this.elements = new ConcurrentHashMap<String, TypeHierarchyElement>();
+		this.persistedData = persistedData;
+		this.lastUsed = lastUsed;
+	}
+
+	public String getJarPath() {
+		return jarPath;
+	}
+
+	public long getLastModified() {
+		return lastModified;
+	}
+
+	public long getFileSize() {
+		return fileSize;
+	}
+
+	public boolean isValidFor(long lastModified, long fileSize) {
+		return this.lastModified == lastModified && this.fileSize == fileSize;
+	}
+
+	/**
+	 * Returns the shared element for the given class or <code>null</code>, if the class has
+	 * not been read from this jar yet.
+	 */
+	public TypeHierarchyElement get(char[] fullyQualifiedClassName) {
+		decodePersistedData();
+		return elements.get(new String(fullyQualifiedClassName));
+	}
+
+	/**
+	 * Adds the type hierarchy information of the given element to this table.
+	 * @return the shared element that is stored in this table
+	 */
+	public TypeHierarchyElement put(TypeHierarchyElement element) {
+		decodePersistedData();
+		TypeHierarchyElement sharedElement = element;
+		if (!element.isShared()) {
+			sharedElement = new TypeHierarchyElement(element.className, element.superclassName, element.interfaces, true);
+		}
+		elements.put(new String(element.className), sharedElement);
+		return sharedElement;
+	}
+
+	public int size() {
+		decodePersistedData();
+		return elements.size();
+	}
+
+	public synchronized int getReferenceCount() {
+		return references;
+	}
+
+	/**
+	 * Returns the time this table was last acquired by a project, or got created.
+	 */
+	public long getLastUsed() {
+		return lastUsed;
+	}
+
+	synchronized void acquire() {
+		references++;
+		lastUsed = System.currentTimeMillis();
+	}
+
+	/**
+	 * @return the number of remaining references
+	 */
+	synchronized int release() {
+		if (references > 0) {
+			references--;
+		}
+		return references;
+	}
+
+	/**
+	 * Turns the elements of this table back into their serialized form. They get decoded again on next access.
+	 */
+	synchronized void passivate() {
+		if (persistedData != null || references > 0) {
+			return;
+		}
+
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			write(out);
+			out.flush();
+
+			elements.clear();
+			persistedData = ByteBuffer.wrap(bytes.toByteArray());
+		}
+		catch (IOException e) {
+			// keep the decoded elements
+		}
+	}
+
+	/**
+	 * Writes the elements of this table. Tables that are still (or again) in their serialized form
+	 * write that form as is, without decoding it.
+	 */
+	protected synchronized void write(DataOutputStream out) throws IOException {
+		ByteBuffer data = persistedData;
+		if (data != null) {
+			byte[] bytes = new byte[data.remaining()];
+			data.duplicate().get(bytes);
+			out.write(bytes);
+			return;
+		}
+		Collection<TypeHierarchyElement> values = elements.values();
+		out.writeInt(values.size());
+		for (TypeHierarchyElement element : values) {
+			out.writeUTF(new String(element.className));
+			out.writeUTF(element.superclassName != null ? new String(element.superclassName) : "");
+			int interfacesCount = element.interfaces != null ? element.interfaces.length : 0;
+			out.writeShort(interfacesCount);
+			for (int i = 0; i < interfacesCount; i++) {
+				out.writeUTF(new String(element.interfaces[i]));
+			}
+		}
+	}
+
+	private void decodePersistedData() {
+		if (persistedData == null) {
+			return;
+		}
+
+		synchronized (this) {
+			if (persistedData == null) {
+				return;
+			}
+
+			try {
+				byte[] bytes = new byte[persistedData.remaining()];
+				persistedData.duplicate().get(bytes);
+				DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+				// share the char arrays of names that show up multiple times (e.g. common super types)
+				Map<String, char[]> names = new HashMap<String, char[]>();
+
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					char[] className = name(in.readUTF(), names);
+					String superclassName = in.readUTF();
+					int interfacesCount = in.readShort();
+					char[][] interfaces = null;
+					if (interfacesCount > 0) {
+						interfaces = new char[interfacesCount][];
+						for (int j = 0; j < interfacesCount; j++) {
+							interfaces[j] = name(in.readUTF(), names);
+						}
+					}
+					elements.put(new String(className), new TypeHierarchyElement(className,
+							superclassName.length() > 0 ? name(superclassName, names) : null, interfaces, true));
+				}
+			}
+			catch (IOException e) {
+				SpringCore.log("Error reading type hierarchy snapshot for " + jarPath, e);
+				elements.clear();
+			}
+			finally {
+				persistedData = null;
+			}
+		}
+	}
+
+	private static char[] name(String name, Map<String, char[]> names) {
+		char[] result = names.get(name);
+		if (result == null) {
+			result = name.toCharArray();
+			names.put(name, result);
+		}
+		return result;
+	}
+
+}
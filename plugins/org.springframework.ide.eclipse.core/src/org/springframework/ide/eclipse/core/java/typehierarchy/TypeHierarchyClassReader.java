@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 Spring IDE Developers
+ * Copyright (c) 2013, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,4 +21,10 @@ public interface TypeHierarchyClassReader {
 	public TypeHierarchyElement readTypeHierarchyInformation(char[] fullyQualifiedClassName, IProject project);
 	public void cleanup();
 
+	/**
+	 * Releases all resources held by this reader, it will not be used anymore afterwards.
+	 * @since 3.8.4
+	 */
+	public void dispose();
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 Spring IDE Developers
+ * Copyright (c) 2013, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,9 @@ import java.util.Arrays;
 /**
  * Implementation that can hold type hierarchy information about Java class files.
  * Used to check if classes are related to each other in terms of their types.
+ * <p>
+ * Shared elements are used by multiple projects at the same time (e.g. elements read from jar files),
+ * therefore the lazily resolved references to the super types are never set for them.
  * 
  * @author Martin Lippert
  * @since 3.3.0
@@ -26,19 +29,36 @@ public class TypeHierarchyElement {
 	public TypeHierarchyElement superclassElement; // lazy set
 	
 	public final char[][] interfaces;
-	public TypeHierarchyElement[] interfacesElements; // array initialized, but elements being set lazy
+	public TypeHierarchyElement[] interfacesElements; // array initialized, but elements being set lazy (null for shared elements)
+	
+	private final boolean shared;
 	
 	public TypeHierarchyElement(char[] className, char[] superclassName, char[][] interfaces) {
+		this(className, superclassName, interfaces, false);
+	}
+	
+	/**
+	 * @since 3.8.4
+	 */
+	public TypeHierarchyElement(char[] className, char[] superclassName, char[][] interfaces, boolean shared) {
 		super();
 		this.className = className;
 		this.superclassName = superclassName;
+		this.shared = shared;
 		
 		this.interfaces = interfaces;
-		if (this.interfaces != null) {
+		if (this.interfaces != null && !shared) {
 			this.interfacesElements = new TypeHierarchyElement[this.interfaces.length];
 		}
 	}
 	
+	/**
+	 * @since 3.8.4
+	 */
+	public boolean isShared() {
+		return shared;
+	}
+	
 	@Override
 	public int hashCode() {
 		final int prime = 31;
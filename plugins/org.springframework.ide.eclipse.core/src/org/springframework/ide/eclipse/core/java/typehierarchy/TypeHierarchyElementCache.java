@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 Spring IDE Developers
+ * Copyright (c) 2013, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,35 +10,154 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.ide.eclipse.core.SpringCore;
 
 /**
+ * Cache for {@link TypeHierarchyElement}s, keyed by the fully qualified class name
+ * in its internal <code>char[]</code> representation.
+ * <p>
+ * The implementation is an open-addressing hash table with linear probing. Each slot holds
+ * an immutable entry with the class name, its hash code and the element, and lookups compare
+ * the hash codes first and then the full class names, so there are no boxed keys and no false
+ * hits for class names that happen to share the same hash code.
+ * <p>
+ * Lookups don't lock and don't allocate, as the cache is used by several validation threads
+ * at the same time. Changes are synchronized. A lookup that runs at the same time as the
+ * change of an entry may not see that change yet.
+ * <p>
+ * Hits and misses are only counted when the cache is created for it, or when the
+ * {@link #DEBUG_OPTION} is set.
+ *
  * @author Martin Lippert
  * @since 3.3.0
  */
 public class TypeHierarchyElementCache {
-	
-	private Map<Integer, TypeHierarchyElement> cache;
-	
+
+	public static final String DEBUG_OPTION = SpringCore.PLUGIN_ID + "/java/typehierarchy/debug";
+	public static boolean DEBUG = SpringCore.isDebug(DEBUG_OPTION);
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private volatile Entry[] table;
+	private int size;
+
+	private final AtomicLong hits;
+	private final AtomicLong misses;
+
 	public TypeHierarchyElementCache() {
-		this.cache = new ConcurrentHashMap<Integer, TypeHierarchyElement>();
+		this(DEBUG);
+	}
+
+	/**
+	 * @param countAccesses whether to count the hits and misses of lookups
+	 * @since 3.8.4
+	 */
+	public TypeHierarchyElementCache(boolean countAccesses) {
+		this.table = new Entry[INITIAL_CAPACITY];
+		this.hits = countAccesses ? new AtomicLong() : null;
+		this.misses = countAccesses ? new AtomicLong() : null;
 	}
 
 	public TypeHierarchyElement get(char[] fullyQualifiedClassName) {
-		return cache.get(charArrayToHashcode(fullyQualifiedClassName));
+		int hash = hash(fullyQualifiedClassName);
+		Entry[] table = this.table;
+		Entry entry = table[indexOf(table, fullyQualifiedClassName, hash)];
+		if (entry != null) {
+			if (hits != null) {
+				hits.incrementAndGet();
+			}
+			return entry.element;
+		}
+		if (misses != null) {
+			misses.incrementAndGet();
+		}
+		return null;
+	}
+
+	public synchronized void put(char[] fullyQualifiedClassName, TypeHierarchyElement typeElement) {
+		int hash = hash(fullyQualifiedClassName);
+		Entry[] table = this.table;
+		int index = indexOf(table, fullyQualifiedClassName, hash);
+		if (table[index] == null) {
+			size++;
+		}
+		table[index] = new Entry(fullyQualifiedClassName, hash, typeElement);
+
+		// keep the load factor below 0.5 to keep probe sequences short
+		if (size * 2 > table.length) {
+			resize(table.length * 2);
+		}
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of lookups that found an element, or 0 if hits are not counted.
+	 */
+	public long getHitCount() {
+		return hits != null ? hits.get() : 0;
+	}
+
+	/**
+	 * Returns the number of lookups that found no element, or 0 if misses are not counted.
+	 */
+	public long getMissCount() {
+		return misses != null ? misses.get() : 0;
 	}
 
-	public void put(char[] fullyQualifiedClassName, TypeHierarchyElement typeElement) {
-		cache.put(charArrayToHashcode(fullyQualifiedClassName), typeElement);
+	private void resize(int newCapacity) {
+		Entry[] oldTable = this.table;
+		Entry[] newTable = new Entry[newCapacity];
+		for (Entry entry : oldTable) {
+			if (entry != null) {
+				newTable[indexOf(newTable, entry.className, entry.hash)] = entry;
+			}
+		}
+		// lookups that still use the old table keep seeing all entries that were in it
+		this.table = newTable;
+	}
+
+	/**
+	 * Returns the slot that either contains the given class name or the free slot where it would be inserted.
+	 */
+	private static int indexOf(Entry[] table, char[] className, int hash) {
+		int mask = table.length - 1;
+		int index = hash & mask;
+		Entry entry;
+		while ((entry = table[index]) != null && !entry.matches(className, hash)) {
+			index = (index + 1) & mask;
+		}
+		return index;
 	}
-	
-	private int charArrayToHashcode(char[] characters) {
+
+	private static int hash(char[] characters) {
 		int h = 0;
 		for (int i = 0; i < characters.length; i++) {
 			h = 31*h + characters[i];
 		}
-        return h;
+		return h ^ (h >>> 16);
+	}
+
+	private static final class Entry {
+
+		private final char[] className;
+		private final int hash;
+		private final TypeHierarchyElement element;
+
+		Entry(char[] className, int hash, TypeHierarchyElement element) {
+			this.className = className;
+			this.hash = hash;
+			this.element = element;
+		}
+
+		boolean matches(char[] otherClassName, int otherHash) {
+			return hash == otherHash && (className == otherClassName || Arrays.equals(className, otherClassName));
+		}
 	}
 
 }
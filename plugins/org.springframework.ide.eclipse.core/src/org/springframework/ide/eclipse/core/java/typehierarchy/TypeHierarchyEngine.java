@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 Spring IDE Developers
+ * Copyright (c) 2013, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,8 +11,13 @@
 package org.springframework.ide.eclipse.core.java.typehierarchy;
 
 import java.util.ArrayDeque;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.jdt.core.IJavaElement;
@@ -31,8 +36,9 @@ public class TypeHierarchyEngine {
 	private TypeHierarchyClassReaderFactory classReaderFactory;
 	private TypeHierarchyElementCacheFactory elementCacheFactory;
 
-	private final Map<IProject, TypeHierarchyElementCache> cache;
-	private final Map<IProject, TypeHierarchyClassReader> readers;
+	private final ConcurrentMap<IProject, TypeHierarchyElementCache> cache;
+	private final ConcurrentMap<IProject, TypeHierarchyClassReader> readers;
+	private final ConcurrentMap<IProject, TypeHierarchyReverseIndex> reverseIndexes;
 
 	private final boolean autoCleanup;
 	
@@ -40,6 +46,7 @@ public class TypeHierarchyEngine {
 		this.autoCleanup = autoCleanup;
 		this.cache = new ConcurrentHashMap<IProject, TypeHierarchyElementCache>();
 		this.readers = new ConcurrentHashMap<IProject, TypeHierarchyClassReader>();
+		this.reverseIndexes = new ConcurrentHashMap<IProject, TypeHierarchyReverseIndex>();
 	}
 
 	public void setClassReaderFactory(TypeHierarchyClassReaderFactory classReaderFactory) {
@@ -65,8 +72,12 @@ public class TypeHierarchyEngine {
 
 	public void clearCache(IProject project) {
 		cleanup(project);
-		this.readers.remove(project);
+		TypeHierarchyClassReader reader = this.readers.remove(project);
+		if (reader != null) {
+			reader.dispose();
+		}
 		this.cache.remove(project);
+		this.reverseIndexes.remove(project);
 	}
 	
 	public void clearCache() {
@@ -144,7 +155,7 @@ public class TypeHierarchyEngine {
 				else {
 					if (typeElement == null) {
 						typeElement = getTypeElement(typeName, project, elementCache);
-						if (previousTypeElement != null) {
+						if (previousTypeElement != null && !previousTypeElement.isShared()) {
 							previousTypeElement.superclassElement = typeElement;
 						}
 					}
@@ -192,6 +203,93 @@ public class TypeHierarchyEngine {
 		}
 	}
 
+	/**
+	 * Makes sure that the complete supertype hierarchy (superclasses and interfaces) of the given
+	 * classes is known to the reverse index of the project, so that subsequent calls to
+	 * {@link #getAllSubtypes(IProject, String, boolean)} take them into account. Types that have been
+	 * indexed before are skipped.
+	 */
+	public void indexTypes(IProject project, Collection<String> classNames) {
+		try {
+			TypeHierarchyElementCache elementCache = getTypeHierarchyElementCache(project);
+			TypeHierarchyReverseIndex reverseIndex = getTypeHierarchyReverseIndex(project);
+			
+			for (String className : classNames) {
+				indexType(className.replace('.', '/').toCharArray(), project, elementCache, reverseIndex);
+			}
+		}
+		finally {
+			if (autoCleanup) cleanup(project);
+		}
+	}
+	
+	/**
+	 * Returns the given type and all of its known subtypes. If the type is an interface, all types
+	 * directly or indirectly implementing it are returned, otherwise only the subclasses.
+	 * <p>
+	 * Only types that have been read by this engine for the given project are known. Use
+	 * {@link #indexTypes(IProject, Collection)} to register the types that are of interest first.
+	 * @return the fully qualified names of the subtypes, including the given type itself
+	 */
+	public Set<String> getAllSubtypes(IProject project, String typeName, boolean isInterface) {
+		TypeHierarchyReverseIndex reverseIndex = getTypeHierarchyReverseIndex(project);
+		String internalTypeName = typeName.replace('.', '/');
+		
+		Set<String> subtypes = isInterface ? reverseIndex.getAllImplementors(internalTypeName)
+				: reverseIndex.getAllSubclasses(internalTypeName);
+		
+		Set<String> result = new LinkedHashSet<String>();
+		for (String subtype : subtypes) {
+			result.add(subtype.replace('/', '.'));
+		}
+		return result;
+	}
+
+	private void indexType(char[] typeName, IProject project, TypeHierarchyElementCache elementCache,
+			TypeHierarchyReverseIndex reverseIndex) {
+		if (reverseIndex.isIndexed(typeName)) {
+			return;
+		}
+
+		List<char[]> visited = new ArrayList<char[]>();
+		ArrayDeque<char[]> toVisit = new ArrayDeque<char[]>();
+		toVisit.add(typeName);
+		
+		while (!toVisit.isEmpty()) {
+			char[] current = toVisit.pop();
+			if (reverseIndex.isIndexed(current) || containsName(visited, current)) {
+				continue;
+			}
+			visited.add(current);
+			
+			TypeHierarchyElement element = getTypeElement(current, project, elementCache);
+			if (element != null) {
+				if (element.superclassName != null) {
+					toVisit.add(element.superclassName);
+				}
+				if (element.interfaces != null) {
+					for (char[] interfaceName : element.interfaces) {
+						toVisit.add(interfaceName);
+					}
+				}
+			}
+		}
+		
+		// mark types as indexed only after their complete supertype hierarchy has been read
+		for (char[] visitedType : visited) {
+			reverseIndex.markIndexed(visitedType);
+		}
+	}
+	
+	private static boolean containsName(List<char[]> names, char[] name) {
+		for (char[] candidate : names) {
+			if (CharOperation.equals(candidate, name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	protected boolean doesImplement(final IProject project, char[] classTypeName, final char[] interfaceTypeName,
 			final boolean cachedItemsOnly, TypeHierarchyElementCache elementCache) {
 		
@@ -212,12 +310,14 @@ public class TypeHierarchyEngine {
 
 						for (int i = 0; i < element.interfaces.length; i++) {
 							char[] interfaceToAnalyze = element.interfaces[i];
-							TypeHierarchyElement interfaceToAnalyzeElement = element.interfacesElements[i];
+							TypeHierarchyElement interfaceToAnalyzeElement = element.interfacesElements != null ? element.interfacesElements[i] : null;
 
 							if (!cachedItemsOnly || interfaceToAnalyzeElement != null || elementCache.get(interfaceToAnalyze) != null) {
 								if (interfaceToAnalyzeElement == null) {
 									interfaceToAnalyzeElement = getTypeElement(interfaceToAnalyze, project, elementCache);
-									element.interfacesElements[i] = interfaceToAnalyzeElement;
+									if (element.interfacesElements != null) {
+										element.interfacesElements[i] = interfaceToAnalyzeElement;
+									}
 								}
 								if (interfaceToAnalyzeElement != null && interfaceToAnalyzeElement.interfaces != null) {
 									elementStack.add(interfaceToAnalyzeElement);
@@ -232,7 +332,9 @@ public class TypeHierarchyEngine {
 				TypeHierarchyElement superClassTypeElement = classTypeElement.superclassElement;
 				if (superClassTypeElement == null && classTypeName != null && (!cachedItemsOnly || elementCache.get(classTypeName) != null)) {
 					superClassTypeElement = getTypeElement(classTypeName, project, elementCache);
-					classTypeElement.superclassElement = superClassTypeElement;
+					if (!classTypeElement.isShared()) {
+						classTypeElement.superclassElement = superClassTypeElement;
+					}
 				}
 				
 				classTypeElement = superClassTypeElement;
@@ -254,6 +356,7 @@ public class TypeHierarchyEngine {
 			result = getClassReader(project).readTypeHierarchyInformation(fullyQualifiedClassName, project);
 			if (result != null) {
 				elementCache.put(fullyQualifiedClassName, result);
+				getTypeHierarchyReverseIndex(project).add(result);
 			}
 		}
 		return result;
@@ -263,16 +366,37 @@ public class TypeHierarchyEngine {
 		TypeHierarchyElementCache elementCache = this.cache.get(project);
 		if (elementCache == null) {
 			elementCache = this.elementCacheFactory.createTypeHierarchyElementCache();
-			this.cache.put(project, elementCache);
+			TypeHierarchyElementCache existing = this.cache.putIfAbsent(project, elementCache);
+			if (existing != null) {
+				elementCache = existing;
+			}
 		}
 		return elementCache;
 	}
 
+	protected TypeHierarchyReverseIndex getTypeHierarchyReverseIndex(IProject project) {
+		TypeHierarchyReverseIndex reverseIndex = this.reverseIndexes.get(project);
+		if (reverseIndex == null) {
+			// concurrent validators may ask for the index at the same time, all of them need to fill the same one
+			reverseIndex = new TypeHierarchyReverseIndex();
+			TypeHierarchyReverseIndex existing = this.reverseIndexes.putIfAbsent(project, reverseIndex);
+			if (existing != null) {
+				reverseIndex = existing;
+			}
+		}
+		return reverseIndex;
+	}
+
 	private TypeHierarchyClassReader getClassReader(IProject project) {
 		TypeHierarchyClassReader result = this.readers.get(project);
 		if (result == null) {
+			// a reader holds on to jar tables, so a reader that lost the race for the project is disposed right away
 			result = classReaderFactory.createClassReader(project);
-			this.readers.put(project, result);
+			TypeHierarchyClassReader existing = this.readers.putIfAbsent(project, result);
+			if (existing != null) {
+				result.dispose();
+				result = existing;
+			}
 		}
 		return result;
 	}
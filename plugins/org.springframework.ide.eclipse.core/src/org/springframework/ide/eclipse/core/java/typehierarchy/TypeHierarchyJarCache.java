@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.ide.eclipse.core.SpringCore;
+
+/**
+ * Workspace-wide store of {@link JarTypeHierarchyTable}s, keyed by the path of the jar file.
+ * <p>
+ * The store can be written to a binary snapshot file when the plugin stops and restored from it
+ * on the next start, so that the type hierarchy information of unchanged jars does not need to
+ * be read from the class files again. The snapshot file is memory-mapped and the individual jar
+ * tables are decoded on first access only.
+ * <p>
+ * Class readers {@link #acquireTable(String) acquire} the tables of the jars on the classpath of their
+ * project, so that all projects share the same elements for the same jar. Once a table is no longer
+ * referenced by any project its elements are dropped from memory until it gets acquired again.
+ * <p>
+ * Only a limited number of unreferenced tables is kept, the least recently used ones and those of jars
+ * that changed or got deleted are removed. Tables that no project acquired for a long time are not
+ * written to the snapshot any more.
+ *
+ * @since 3.8.4
+ */
+public class TypeHierarchyJarCache {
+
+	private static final int SNAPSHOT_MAGIC = 0x54484A43;
+	private static final int SNAPSHOT_VERSION = 2;
+
+	private static final int DEFAULT_MAX_UNUSED_TABLES = 200;
+	private static final long MAX_UNUSED_AGE = TimeUnit.DAYS.toMillis(30);
+
+	private final Map<String, JarTypeHierarchyTable> tables;
+	private final int maxUnusedTables;
+
+	public TypeHierarchyJarCache() {
+		this(DEFAULT_MAX_UNUSED_TABLES);
+	}
+
+	/**
+	 * @param maxUnusedTables the number of tables that are kept while no project references them
+	 */
+	public TypeHierarchyJarCache(int maxUnusedTables) {
+		this.tables = new ConcurrentHashMap<String, JarTypeHierarchyTable>();
+		this.maxUnusedTables = maxUnusedTables;
+	}
+
+	/**
+	 * Returns the table for the current version of the given jar file. If the jar has changed since
+	 * the known table got created, a new and empty table is returned.
+	 */
+	public synchronized JarTypeHierarchyTable getTable(String jarPath) {
+		File jarFile = new File(jarPath);
+		long lastModified = jarFile.lastModified();
+		long fileSize = jarFile.length();
+
+		JarTypeHierarchyTable table = tables.get(jarPath);
+		if (table == null || !table.isValidFor(lastModified, fileSize)) {
+			table = new JarTypeHierarchyTable(jarPath, lastModified, fileSize);
+			tables.put(jarPath, table);
+		}
+		return table;
+	}
+
+	/**
+	 * Returns the table for the current version of the given jar file and registers a reference to it,
+	 * which needs to be released via {@link #releaseTable(JarTypeHierarchyTable)} when no longer used.
+	 */
+	public synchronized JarTypeHierarchyTable acquireTable(String jarPath) {
+		JarTypeHierarchyTable table = getTable(jarPath);
+		table.acquire();
+		return table;
+	}
+
+	public synchronized void releaseTable(JarTypeHierarchyTable table) {
+		if (table.release() == 0 && tables.get(table.getJarPath()) == table) {
+			table.passivate();
+			evictUnusedTables();
+		}
+	}
+
+	/**
+	 * Removes the unreferenced tables of jar files that changed or got deleted, and the least recently
+	 * used ones beyond the maximum number of unreferenced tables.
+	 */
+	private void evictUnusedTables() {
+		List<JarTypeHierarchyTable> unused = new ArrayList<JarTypeHierarchyTable>();
+		for (JarTypeHierarchyTable table : tables.values()) {
+			if (table.getReferenceCount() == 0) {
+				File jarFile = new File(table.getJarPath());
+				if (jarFile.exists() && table.isValidFor(jarFile.lastModified(), jarFile.length())) {
+					unused.add(table);
+				}
+				else {
+					tables.remove(table.getJarPath());
+				}
+			}
+		}
+		if (unused.size() > maxUnusedTables) {
+			Collections.sort(unused, new Comparator<JarTypeHierarchyTable>() {
+				public int compare(JarTypeHierarchyTable t1, JarTypeHierarchyTable t2) {
+					return Long.compare(t1.getLastUsed(), t2.getLastUsed());
+				}
+			});
+			for (JarTypeHierarchyTable table : unused.subList(0, unused.size() - maxUnusedTables)) {
+				tables.remove(table.getJarPath());
+			}
+		}
+	}
+
+	public int size() {
+		return tables.size();
+	}
+
+	public void clear() {
+		tables.clear();
+	}
+
+	/**
+	 * Restores the jar tables from the given snapshot file. Tables for jar files that
+	 * have changed in the meantime are ignored when they are requested.
+	 */
+	public void load(File snapshotFile) {
+		File newSnapshotFile = getNewSnapshotFile(snapshotFile);
+		if (newSnapshotFile.exists()) {
+			// a previous save was not able to replace the mapped snapshot file
+			snapshotFile.delete();
+			newSnapshotFile.renameTo(snapshotFile);
+		}
+		if (!snapshotFile.exists()) {
+			return;
+		}
+
+		RandomAccessFile file = null;
+		try {
+			file = new RandomAccessFile(snapshotFile, "r");
+			MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+
+			if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+				return;
+			}
+
+			byte[] header = new byte[buffer.getInt()];
+			buffer.get(header);
+			int dataStart = buffer.position();
+
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(header));
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String jarPath = in.readUTF();
+				long lastModified = in.readLong();
+				long fileSize = in.readLong();
+				long lastUsed = in.readLong();
+				int offset = in.readInt();
+				int length = in.readInt();
+
+				ByteBuffer data = buffer.duplicate();
+				data.position(dataStart + offset);
+				data.limit(dataStart + offset + length);
+
+				if (!tables.containsKey(jarPath)) {
+					tables.put(jarPath, new JarTypeHierarchyTable(jarPath, lastModified, fileSize, data.slice(), lastUsed));
+				}
+			}
+		}
+		catch (Exception e) {
+			SpringCore.log("Error loading type hierarchy snapshot " + snapshotFile, e);
+		}
+		finally {
+			if (file != null) {
+				try {
+					file.close();
+				}
+				catch (IOException e) {
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes all tables for jar files that still exist in the same version into the given snapshot file,
+	 * except for the ones no project used for a long time. Tables that have not been decoded are copied
+	 * as they are.
+	 */
+	public void save(File snapshotFile) {
+		long usedSince = System.currentTimeMillis() - MAX_UNUSED_AGE;
+		List<JarTypeHierarchyTable> validTables = new ArrayList<JarTypeHierarchyTable>();
+		for (JarTypeHierarchyTable table : tables.values()) {
+			File jarFile = new File(table.getJarPath());
+			if (jarFile.exists() && table.isValidFor(jarFile.lastModified(), jarFile.length())
+					&& (table.getLastUsed() >= usedSince || table.getReferenceCount() > 0)) {
+				validTables.add(table);
+			}
+		}
+
+		File newSnapshotFile = getNewSnapshotFile(snapshotFile);
+		DataOutputStream out = null;
+		try {
+			ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+			DataOutputStream header = new DataOutputStream(headerBytes);
+			ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+			DataOutputStream data = new DataOutputStream(dataBytes);
+
+			header.writeInt(validTables.size());
+			for (JarTypeHierarchyTable table : validTables) {
+				int offset = data.size();
+				table.write(data);
+
+				header.writeUTF(table.getJarPath());
+				header.writeLong(table.getLastModified());
+				header.writeLong(table.getFileSize());
+				header.writeLong(table.getLastUsed());
+				header.writeInt(offset);
+				header.writeInt(data.size() - offset);
+			}
+			header.flush();
+			data.flush();
+
+			out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(newSnapshotFile)));
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeInt(SNAPSHOT_VERSION);
+			out.writeInt(headerBytes.size());
+			headerBytes.writeTo(out);
+			dataBytes.writeTo(out);
+			out.close();
+			out = null;
+
+			// the old snapshot file might still be mapped, in which case the new file gets picked up on next load
+			if (snapshotFile.delete() || !snapshotFile.exists()) {
+				newSnapshotFile.renameTo(snapshotFile);
+			}
+		}
+		catch (IOException e) {
+			SpringCore.log("Error saving type hierarchy snapshot " + snapshotFile, e);
+		}
+		finally {
+			if (out != null) {
+				try {
+					out.close();
+				}
+				catch (IOException e) {
+				}
+			}
+		}
+	}
+
+	private static File getNewSnapshotFile(File snapshotFile) {
+		return new File(snapshotFile.getPath() + ".new");
+	}
+
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.java.typehierarchy;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse view of the type hierarchy information that has been read into a
+ * {@link TypeHierarchyElementCache}. For every type it knows the direct subclasses
+ * (superclass edges) and the direct implementors (interface edges, which includes
+ * interfaces extending other interfaces).
+ * <p>
+ * The index is maintained incrementally: every {@link TypeHierarchyElement} that gets
+ * read for a project is added via {@link #add(TypeHierarchyElement)}. It therefore only
+ * knows about subtypes that have been seen so far. Types that got registered via
+ * {@link #markIndexed(char[])} have their complete supertype hierarchy in the index.
+ * <p>
+ * All type names are in the internal slash-separated format (e.g. <code>java/lang/Object</code>).
+ *
+ * @since 3.8.4
+ */
+public class TypeHierarchyReverseIndex {
+
+	private final ConcurrentHashMap<String, Set<String>> subclasses;
+	private final ConcurrentHashMap<String, Set<String>> implementors;
+	private final Set<String> indexedTypes;
+
+	public TypeHierarchyReverseIndex() {
+		this.subclasses = new ConcurrentHashMap<String, Set<String>>();
+		this.implementors = new ConcurrentHashMap<String, Set<String>>();
+		this.indexedTypes = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+	}
+
+	public void add(TypeHierarchyElement element) {
+		String typeName = new String(element.className);
+		if (element.superclassName != null) {
+			register(subclasses, new String(element.superclassName), typeName);
+		}
+		if (element.interfaces != null) {
+			for (char[] interfaceName : element.interfaces) {
+				register(implementors, new String(interfaceName), typeName);
+			}
+		}
+	}
+
+	public boolean isIndexed(char[] fullyQualifiedClassName) {
+		return indexedTypes.contains(new String(fullyQualifiedClassName));
+	}
+
+	public void markIndexed(char[] fullyQualifiedClassName) {
+		indexedTypes.add(new String(fullyQualifiedClassName));
+	}
+
+	/**
+	 * Returns the given type together with all known direct and indirect subclasses of it.
+	 * Interface edges are not followed.
+	 */
+	public Set<String> getAllSubclasses(String typeName) {
+		return collectSubtypes(typeName, false);
+	}
+
+	/**
+	 * Returns the given type together with all known types that directly or indirectly
+	 * implement or extend it, following both interface and superclass edges.
+	 */
+	public Set<String> getAllImplementors(String typeName) {
+		return collectSubtypes(typeName, true);
+	}
+
+	public void clear() {
+		this.subclasses.clear();
+		this.implementors.clear();
+		this.indexedTypes.clear();
+	}
+
+	private Set<String> collectSubtypes(String typeName, boolean followInterfaces) {
+		Set<String> result = new LinkedHashSet<String>();
+		ArrayDeque<String> toVisit = new ArrayDeque<String>();
+		toVisit.add(typeName);
+
+		while (!toVisit.isEmpty()) {
+			String current = toVisit.pop();
+			if (result.add(current)) {
+				addAll(toVisit, subclasses.get(current));
+				if (followInterfaces) {
+					addAll(toVisit, implementors.get(current));
+				}
+			}
+		}
+		return result;
+	}
+
+	private static void addAll(ArrayDeque<String> toVisit, Set<String> types) {
+		if (types != null) {
+			toVisit.addAll(types);
+		}
+	}
+
+	private static void register(ConcurrentHashMap<String, Set<String>> edges, String superType, String subType) {
+		Set<String> subTypes = edges.get(superType);
+		if (subTypes == null) {
+			subTypes = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+			Set<String> existing = edges.putIfAbsent(superType, subTypes);
+			if (existing != null) {
+				subTypes = existing;
+			}
+		}
+		subTypes.add(subType);
+	}
+
+}
@@ -48,7 +48,7 @@ public class TypeHierarchyStateRegisteringEventListener extends ProjectContribut
 	public void finish(int kind, IResourceDelta delta, List<ProjectBuilderDefinition> builderDefinitions,
 			List<ValidatorDefinition> validatorDefinitions, IProjectContributorState state, IProject project) {
 		TypeHierarchyEngine engine = state.get(TypeHierarchyEngine.class);
-		engine.cleanup();
+		engine.clearCache();
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Spring IDE Developers
+ * Copyright (c) 2007, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -42,6 +42,9 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 
 	private ValidationRuleDefinition currentRuleDefinition;
 
+	/** Rule definition and problems of a rule that is executed concurrently on the current thread */
+	private final ThreadLocal<ConcurrentRuleState> concurrentRuleState = new ThreadLocal<ConcurrentRuleState>();
+
 	private Set<ValidationProblem> problems;
 
 	private IResourceModelElement rootElement;
@@ -130,7 +133,13 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 	 * {@inheritDoc}
 	 */
 	public void setCurrentRuleDefinition(ValidationRuleDefinition ruleDefinition) {
-		currentRuleDefinition = ruleDefinition;
+		ConcurrentRuleState state = concurrentRuleState.get();
+		if (state != null) {
+			state.ruleDefinition = ruleDefinition;
+		}
+		else {
+			currentRuleDefinition = ruleDefinition;
+		}
 	}
 
 	/**
@@ -159,12 +168,62 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 		return SpringCore.getTypeHierarchyEngine();
 	}
 
+	/**
+	 * Returns <code>true</code> if validation rules that are marked as thread-safe can be executed concurrently
+	 * against this context. Sub classes that return <code>true</code> need to make sure that all state they expose to
+	 * the rules is thread-safe.
+	 * <p>
+	 * This implementation returns <code>false</code>.
+	 * @since 3.8.4
+	 */
+	protected boolean supportsConcurrentRules() {
+		return false;
+	}
+
+	/**
+	 * Collects the problems that are reported from the current thread separately until
+	 * {@link #endConcurrentRules()} is called.
+	 */
+	void beginConcurrentRules() {
+		concurrentRuleState.set(new ConcurrentRuleState());
+	}
+
+	/**
+	 * Returns the problems that have been reported from the current thread since {@link #beginConcurrentRules()}.
+	 * They need to be added to this context via {@link #addConcurrentRuleProblems(Set)}.
+	 */
+	Set<ValidationProblem> endConcurrentRules() {
+		ConcurrentRuleState state = concurrentRuleState.get();
+		concurrentRuleState.remove();
+		return (state != null ? state.problems : new LinkedHashSet<ValidationProblem>());
+	}
+
+	synchronized void addConcurrentRuleProblems(Set<ValidationProblem> problems) {
+		addProblems(problems);
+	}
+
+	/**
+	 * Returns the number of problems that have been reported so far by the current thread.
+	 */
+	int getProblemCount() {
+		ConcurrentRuleState state = concurrentRuleState.get();
+		return (state != null ? state.problems.size() : problems.size());
+	}
+
 	/**
 	 * Add the given problems to the internal state.
 	 * <p>
 	 * This implementation will make sure that progress is reported correctly. 
 	 */
 	private void addProblems(Collection<ValidationProblem> problems) {
+		ConcurrentRuleState state = concurrentRuleState.get();
+		if (state != null) {
+			// progress gets reported once the problems are added to the context
+			if (problems != null) {
+				state.problems.addAll(problems);
+			}
+			return;
+		}
 		if (problems != null) {
 			for (ValidationProblem problem : problems) {
 				if (problem.getSeverity() == IValidationProblemMarker.SEVERITY_ERROR) {
@@ -210,6 +269,7 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 				.asList(attributes));
 		attributeList.add(new ValidationProblemAttribute(MarkerUtils.ELEMENT_ID_KEY, elementId));
 
+		ValidationRuleDefinition currentRuleDefinition = getCurrentRuleDefinition();
 		return new ValidationProblem((currentRuleDefinition != null ? currentRuleDefinition.getId() : "UNKOWN"),
 				problemId, getSeverity(problemId, severity), message, element.getElementResource(), line, attributeList
 						.toArray(new ValidationProblemAttribute[attributeList.size()]));
@@ -267,6 +327,7 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 	 * @since 2.3.1
 	 */
 	protected int getSeverity(String messageId, int defaultSeverity) {
+		ValidationRuleDefinition currentRuleDefinition = getCurrentRuleDefinition();
 		if (currentRuleDefinition != null
 				&& currentRuleDefinition.isEnabled(getRootElement().getElementResource().getProject())) {
 			Integer severity = currentRuleDefinition.getMessageSeverities().get(messageId);
@@ -277,4 +338,16 @@ public abstract class AbstractValidationContext implements IValidationContext, I
 		return defaultSeverity;
 	}
 
+	private ValidationRuleDefinition getCurrentRuleDefinition() {
+		ConcurrentRuleState state = concurrentRuleState.get();
+		return (state != null ? state.ruleDefinition : currentRuleDefinition);
+	}
+
+	private static class ConcurrentRuleState {
+
+		private ValidationRuleDefinition ruleDefinition;
+
+		private final Set<ValidationProblem> problems = new LinkedHashSet<ValidationProblem>();
+	}
+
 }
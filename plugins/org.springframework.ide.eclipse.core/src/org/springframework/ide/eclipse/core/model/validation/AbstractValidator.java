@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Spring IDE Developers
+ * Copyright (c) 2007, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,8 +10,12 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.core.model.validation;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RecursiveAction;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
@@ -22,6 +26,7 @@ import org.eclipse.core.runtime.SubProgressMonitor;
 import org.springframework.ide.eclipse.core.MarkerUtils;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinition;
 import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinitionFactory;
+import org.springframework.ide.eclipse.core.internal.project.ProjectContributionScheduler;
 import org.springframework.ide.eclipse.core.model.IModelElement;
 import org.springframework.ide.eclipse.core.model.IModelElementVisitor;
 import org.springframework.ide.eclipse.core.model.IResourceModelElement;
@@ -78,6 +83,11 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 	 */
 	public final void validate(Set<IResource> affectedResources, int kind, IProgressMonitor monitor)
 			throws CoreException {
+		if (supportsConcurrentValidation() && ProjectContributionScheduler.isConcurrent()) {
+			createProblemMarkers(computeProblems(affectedResources, kind, monitor), monitor);
+			return;
+		}
+
 		SubProgressMonitor subMonitor = new SubProgressMonitor(monitor, affectedResources.size());
 		try {
 			for (IResource resource : affectedResources) {
@@ -119,6 +129,80 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 		}
 	}
 
+	/**
+	 * Validates the given resources without touching any markers. The returned problems need to be applied via
+	 * {@link #createProblemMarkers(ValidationResult, IProgressMonitor)} from the build thread.
+	 * <p>
+	 * This method can be called from any thread. The resources are validated concurrently if
+	 * {@link #supportsConcurrentValidation()} returns <code>true</code>.
+	 * @since 3.8.4
+	 */
+	public final ValidationResult computeProblems(Set<IResource> affectedResources, int kind, IProgressMonitor monitor) {
+		IProgressMonitor workerMonitor = ProjectContributionScheduler.createWorkerMonitor(monitor);
+		List<ResourceValidationTask> tasks = new ArrayList<ResourceValidationTask>(affectedResources.size());
+		for (IResource resource : affectedResources) {
+			tasks.add(new ResourceValidationTask(resource, kind, workerMonitor));
+		}
+		if (supportsConcurrentValidation()) {
+			ProjectContributionScheduler.invokeAll(tasks);
+		}
+		else {
+			for (ResourceValidationTask task : tasks) {
+				task.invoke();
+			}
+		}
+		return new ValidationResult(tasks);
+	}
+
+	/**
+	 * Replaces the markers of the validated resources with the problems of the given {@link ValidationResult}. The
+	 * resources are processed in the order they have been validated in.
+	 * @since 3.8.4
+	 */
+	public final void createProblemMarkers(ValidationResult result, IProgressMonitor monitor) throws CoreException {
+		SubProgressMonitor subMonitor = new SubProgressMonitor(monitor, result.tasks.size());
+		try {
+			for (ResourceValidationTask task : result.tasks) {
+				String progressMessage = "Validating '" + task.resource.getFullPath().toString().substring(1) + "'";
+				reportProgress(progressMessage, subMonitor);
+
+				cleanup(task.resource, subMonitor);
+				if (subMonitor.isCanceled() || task.canceled) {
+					throw new OperationCanceledException();
+				}
+				if (task.failure != null) {
+					throw task.failure;
+				}
+
+				// Resources external to the workspace stop the validation
+				if (task.external) {
+					break;
+				}
+
+				ValidationUtils.createProblemMarkers(task.resource, task.problems, getMarkerId());
+
+				subMonitor.worked(1);
+				if (subMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+		}
+		finally {
+			subMonitor.done();
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the affected resources can be validated concurrently. Sub classes that return
+	 * <code>true</code> must make sure that their validation callbacks, contexts and rules are thread-safe.
+	 * <p>
+	 * This implementation returns <code>false</code>.
+	 * @since 3.8.4
+	 */
+	protected boolean supportsConcurrentValidation() {
+		return false;
+	}
+
 	private IValidationElementLifecycleManager initValidationElementCallback(IResource resource, int kind) {
 		IValidationElementLifecycleManager callback = createValidationElementLifecycleManager();
 		if (callback instanceof IValidationElementLifecycleManagerExtension) {
@@ -129,7 +213,7 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 	}
 
 	private Set<ValidationProblem> validate(IValidationElementLifecycleManager callback,
-			Set<ValidationRuleDefinition> ruleDefinitions, SubProgressMonitor subMonitor) {
+			Set<ValidationRuleDefinition> ruleDefinitions, IProgressMonitor subMonitor) {
 		Set<ValidationProblem> problems = new LinkedHashSet<ValidationProblem>();
 		for (IResourceModelElement contextElement : callback.getContextElements()) {
 			IValidationContext context = createContext(callback.getRootElement(), contextElement);
@@ -138,8 +222,14 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 			}
 
 			if (context != null) {
-				IModelElementVisitor visitor = new ValidationVisitor(context, ruleDefinitions);
-				callback.getRootElement().accept(visitor, subMonitor);
+				if (isConcurrentRuleExecution(context, ruleDefinitions)) {
+					validateConcurrently(callback.getRootElement(), (AbstractValidationContext) context,
+							ruleDefinitions, subMonitor);
+				}
+				else {
+					IModelElementVisitor visitor = new ValidationVisitor(context, ruleDefinitions);
+					callback.getRootElement().accept(visitor, subMonitor);
+				}
 				problems.addAll(context.getProblems());
 			}
 			if (subMonitor.isCanceled()) {
@@ -149,6 +239,59 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 		return problems;
 	}
 
+	private boolean isConcurrentRuleExecution(IValidationContext context, Set<ValidationRuleDefinition> ruleDefinitions) {
+		if (ruleDefinitions.size() < 2 || !(context instanceof AbstractValidationContext)
+				|| !((AbstractValidationContext) context).supportsConcurrentRules()
+				|| !ProjectContributionScheduler.isConcurrent()) {
+			return false;
+		}
+		for (ValidationRuleDefinition ruleDefinition : ruleDefinitions) {
+			if (ruleDefinition.isThreadSafe()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Visits the model tree once per thread-safe rule and once for all other rules, all at the same time. The
+	 * problems are added to the context in a stable order afterwards: first the ones of the other rules, then the
+	 * ones of the thread-safe rules in the order of the given rule definitions.
+	 */
+	private void validateConcurrently(IResourceModelElement rootElement, AbstractValidationContext context,
+			Set<ValidationRuleDefinition> ruleDefinitions, IProgressMonitor monitor) {
+		IProgressMonitor workerMonitor = ProjectContributionScheduler.createWorkerMonitor(monitor);
+		List<RuleValidationTask> tasks = new ArrayList<RuleValidationTask>();
+
+		Set<ValidationRuleDefinition> otherRuleDefinitions = new LinkedHashSet<ValidationRuleDefinition>();
+		for (ValidationRuleDefinition ruleDefinition : ruleDefinitions) {
+			if (!ruleDefinition.isThreadSafe()) {
+				otherRuleDefinitions.add(ruleDefinition);
+			}
+		}
+		if (!otherRuleDefinitions.isEmpty()) {
+			tasks.add(new RuleValidationTask(rootElement, context, otherRuleDefinitions, workerMonitor));
+		}
+		for (ValidationRuleDefinition ruleDefinition : ruleDefinitions) {
+			if (ruleDefinition.isThreadSafe()) {
+				tasks.add(new RuleValidationTask(rootElement, context, Collections.singleton(ruleDefinition),
+						workerMonitor));
+			}
+		}
+
+		ProjectContributionScheduler.invokeAll(tasks);
+
+		for (RuleValidationTask task : tasks) {
+			if (task.failure != null) {
+				throw task.failure;
+			}
+			context.addConcurrentRuleProblems(task.problems);
+		}
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
 	/**
 	 * Returns a newly created {@link IValidationContext} for the given {@link IResourceModelElement root element} and
 	 * it's {@link IResourceModelElement context element}.
@@ -248,6 +391,123 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 		return true;
 	}
 
+	/**
+	 * The problems that have been found by {@link AbstractValidator#computeProblems(Set, int, IProgressMonitor)}.
+	 * @since 3.8.4
+	 */
+	public static final class ValidationResult {
+
+		private final List<ResourceValidationTask> tasks;
+
+		private ValidationResult(List<ResourceValidationTask> tasks) {
+			this.tasks = tasks;
+		}
+	}
+
+	/**
+	 * Computes the problems of a single resource.
+	 */
+	private final class ResourceValidationTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final IResource resource;
+
+		private final int kind;
+
+		private final IProgressMonitor monitor;
+
+		private Set<ValidationProblem> problems;
+
+		private RuntimeException failure;
+
+		private boolean external;
+
+		private boolean canceled;
+
+		public ResourceValidationTask(IResource resource, int kind, IProgressMonitor monitor) {
+			this.resource = resource;
+			this.kind = kind;
+			this.monitor = monitor;
+		}
+
+		@Override
+		protected void compute() {
+			if (monitor.isCanceled()) {
+				canceled = true;
+				return;
+			}
+
+			IValidationElementLifecycleManager callback = initValidationElementCallback(resource, kind);
+			try {
+				IResourceModelElement rootElement = callback.getRootElement();
+				if (rootElement != null && rootElement.isExternal()) {
+					external = true;
+					return;
+				}
+
+				Set<ValidationRuleDefinition> ruleDefinitions = getRuleDefinitions(resource);
+				if (rootElement != null && ruleDefinitions != null && ruleDefinitions.size() > 0) {
+					problems = validate(callback, ruleDefinitions, monitor);
+				}
+			}
+			catch (OperationCanceledException e) {
+				canceled = true;
+			}
+			catch (RuntimeException e) {
+				failure = e;
+			}
+			finally {
+				callback.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Visits the model tree with a subset of the rules on a worker thread.
+	 */
+	private final class RuleValidationTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final IResourceModelElement rootElement;
+
+		private final AbstractValidationContext context;
+
+		private final Set<ValidationRuleDefinition> ruleDefinitions;
+
+		private final IProgressMonitor monitor;
+
+		private Set<ValidationProblem> problems;
+
+		private RuntimeException failure;
+
+		public RuleValidationTask(IResourceModelElement rootElement, AbstractValidationContext context,
+				Set<ValidationRuleDefinition> ruleDefinitions, IProgressMonitor monitor) {
+			this.rootElement = rootElement;
+			this.context = context;
+			this.ruleDefinitions = ruleDefinitions;
+			this.monitor = monitor;
+		}
+
+		@Override
+		protected void compute() {
+			context.beginConcurrentRules();
+			try {
+				rootElement.accept(new ValidationVisitor(context, ruleDefinitions), monitor);
+			}
+			catch (OperationCanceledException e) {
+				// reported by the caller
+			}
+			catch (RuntimeException e) {
+				failure = e;
+			}
+			finally {
+				problems = context.endConcurrentRules();
+			}
+		}
+	}
+
 	/**
 	 * {@link IModelElementVisitor} implementation that validates a specified model tree.
 	 */
@@ -257,9 +517,12 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 
 		private Set<ValidationRuleDefinition> ruleDefinitions;
 
+		private ValidationRuleStatistics statistics;
+
 		public ValidationVisitor(IValidationContext context, Set<ValidationRuleDefinition> ruleDefinitions) {
 			this.ruleDefinitions = ruleDefinitions;
 			this.context = context;
+			this.statistics = getProjectContributorState().get(ValidationRuleStatistics.class);
 		}
 
 		@SuppressWarnings("unchecked")
@@ -277,7 +540,16 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 						IValidationRule rule = ruleDefinition.getRule();
 						if (rule.supports(element, context)) {
 							context.setCurrentRuleDefinition(ruleDefinition);
-							rule.validate(element, context, monitor);
+							if (statistics != null) {
+								int problemCount = getProblemCount();
+								long start = System.nanoTime();
+								rule.validate(element, context, monitor);
+								statistics.record(ruleDefinition, System.nanoTime() - start, getProblemCount()
+										- problemCount);
+							}
+							else {
+								rule.validate(element, context, monitor);
+							}
 						}
 						subMonitor.worked(1);
 					}
@@ -289,5 +561,12 @@ public abstract class AbstractValidator implements IValidator, IProjectContribut
 			}
 			return false;
 		}
+
+		private int getProblemCount() {
+			if (context instanceof AbstractValidationContext) {
+				return ((AbstractValidationContext) context).getProblemCount();
+			}
+			return context.getProblems().size();
+		}
 	}
 }
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.model.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IProject;
+import org.springframework.ide.eclipse.core.internal.model.validation.ValidationRuleDefinition;
+
+/**
+ * Cumulative execution time, invocation count and problem count of every {@link IValidationRule} that has been
+ * executed during a single build of a project.
+ * <p>
+ * The statistics of the last build of every open project are available via {@link #getStatistics(IProject)}.
+ * @since 3.8.4
+ * @see ValidationRuleStatisticsEventListener
+ */
+public class ValidationRuleStatistics {
+
+	private static final Map<String, ValidationRuleStatistics> LAST_BUILD_STATISTICS = new ConcurrentHashMap<String, ValidationRuleStatistics>();
+
+	private final ConcurrentHashMap<String, RuleStatistics> rules = new ConcurrentHashMap<String, RuleStatistics>();
+
+	/**
+	 * Returns the statistics of the last build of the given project or <code>null</code> if no validation rule has
+	 * been executed for the project since startup.
+	 */
+	public static ValidationRuleStatistics getStatistics(IProject project) {
+		return LAST_BUILD_STATISTICS.get(project.getName());
+	}
+
+	static void setStatistics(IProject project, ValidationRuleStatistics statistics) {
+		LAST_BUILD_STATISTICS.put(project.getName(), statistics);
+	}
+
+	/**
+	 * Forgets the statistics of the given project; called once the project is closed or deleted.
+	 */
+	public static void removeStatistics(IProject project) {
+		LAST_BUILD_STATISTICS.remove(project.getName());
+	}
+
+	/**
+	 * Records a single execution of the given rule.
+	 */
+	public void record(ValidationRuleDefinition ruleDefinition, long nanos, int problemCount) {
+		RuleStatistics statistics = rules.get(ruleDefinition.getId());
+		if (statistics == null) {
+			statistics = new RuleStatistics(ruleDefinition.getId(), ruleDefinition.getName());
+			RuleStatistics existing = rules.putIfAbsent(ruleDefinition.getId(), statistics);
+			if (existing != null) {
+				statistics = existing;
+			}
+		}
+		statistics.record(nanos, problemCount);
+	}
+
+	/**
+	 * Returns the statistics of all executed rules, ordered by their cumulative execution time (slowest first).
+	 */
+	public List<RuleStatistics> getRuleStatistics() {
+		List<RuleStatistics> result = new ArrayList<RuleStatistics>(rules.values());
+		Collections.sort(result, new Comparator<RuleStatistics>() {
+
+			public int compare(RuleStatistics o1, RuleStatistics o2) {
+				return Long.valueOf(o2.getTime()).compareTo(o1.getTime());
+			}
+		});
+		return result;
+	}
+
+	public boolean isEmpty() {
+		return rules.isEmpty();
+	}
+
+	/**
+	 * Returns a textual report with one line per rule, slowest rule first.
+	 */
+	public String getReport() {
+		StringBuilder builder = new StringBuilder();
+		for (RuleStatistics statistics : getRuleStatistics()) {
+			builder.append(String.format("%8d ms %8d invocations %6d problems  %s (%s)%n",
+					TimeUnit.NANOSECONDS.toMillis(statistics.getTime()), statistics.getInvocationCount(),
+					statistics.getProblemCount(), statistics.getRuleName(), statistics.getRuleId()));
+		}
+		return builder.toString();
+	}
+
+	@Override
+	public String toString() {
+		return getReport();
+	}
+
+	/**
+	 * The statistics of a single rule.
+	 */
+	public static class RuleStatistics {
+
+		private final String ruleId;
+
+		private final String ruleName;
+
+		private final AtomicLong time = new AtomicLong();
+
+		private final AtomicLong invocationCount = new AtomicLong();
+
+		private final AtomicLong problemCount = new AtomicLong();
+
+		RuleStatistics(String ruleId, String ruleName) {
+			this.ruleId = ruleId;
+			this.ruleName = ruleName;
+		}
+
+		void record(long nanos, int problems) {
+			time.addAndGet(nanos);
+			invocationCount.incrementAndGet();
+			problemCount.addAndGet(problems);
+		}
+
+		public String getRuleId() {
+			return ruleId;
+		}
+
+		public String getRuleName() {
+			return ruleName;
+		}
+
+		/**
+		 * Returns the cumulative execution time in nanoseconds.
+		 */
+		public long getTime() {
+			return time.get();
+		}
+
+		public long getInvocationCount() {
+			return invocationCount.get();
+		}
+
+		public long getProblemCount() {
+			return problemCount.get();
+		}
+	}
+
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Spring IDE Developers
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Spring IDE Developers - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.core.model.validation;
+
+import java.util.List;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.springframework.ide.eclipse.core.SpringCore;
+import org.springframework.ide.eclipse.core.internal.model.validation.ValidatorDefinition;
+import org.springframework.ide.eclipse.core.project.IProjectContributionEventListener;
+import org.springframework.ide.eclipse.core.project.IProjectContributorState;
+import org.springframework.ide.eclipse.core.project.ProjectBuilderDefinition;
+import org.springframework.ide.eclipse.core.project.ProjectContributionEventListenerAdapter;
+
+/**
+ * {@link IProjectContributionEventListener} that collects the {@link ValidationRuleStatistics} of every build and
+ * writes them to the log if the {@link SpringCore#REPORT_VALIDATION_RULE_STATISTICS} preference is enabled.
+ * @since 3.8.4
+ */
+public class ValidationRuleStatisticsEventListener extends ProjectContributionEventListenerAdapter {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void start(int kind, IResourceDelta delta, List<ProjectBuilderDefinition> builderDefinitions,
+			List<ValidatorDefinition> validatorDefinitions, IProjectContributorState state, IProject project) {
+		state.hold(new ValidationRuleStatistics());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void finish(int kind, IResourceDelta delta, List<ProjectBuilderDefinition> builderDefinitions,
+			List<ValidatorDefinition> validatorDefinitions, IProjectContributorState state, IProject project) {
+		ValidationRuleStatistics statistics = state.get(ValidationRuleStatistics.class);
+		if (statistics == null || statistics.isEmpty()) {
+			return;
+		}
+
+		ValidationRuleStatistics.setStatistics(project, statistics);
+
+		if (SpringCore.getDefault().getPluginPreferences().getBoolean(SpringCore.REPORT_VALIDATION_RULE_STATISTICS)) {
+			SpringCore.log(new Status(IStatus.INFO, SpringCore.PLUGIN_ID, "Validation rule statistics for project '"
+					+ project.getName() + "':\n" + statistics.getReport()));
+		}
+	}
+
+}
@@ -11,8 +11,8 @@
 package org.springframework.ide.eclipse.core.project;
 
 import java.util.Dictionary;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.framework.Filter;
 import org.osgi.framework.FrameworkUtil;
@@ -26,9 +26,9 @@ import org.springframework.util.StringUtils;
  */
 public class DefaultProjectContributorState implements IProjectContributorState {
 
-	private Map<Class, Object> managedObjects = new HashMap<Class, Object>();
+	private Map<Class, Object> managedObjects = new ConcurrentHashMap<Class, Object>();
 
-	private Map<Dictionary<String, String>, Object> managedObjectsWithFilters = new HashMap<Dictionary<String, String>, Object>();
+	private Map<Dictionary<String, String>, Object> managedObjectsWithFilters = new ConcurrentHashMap<Dictionary<String, String>, Object>();
 
 	public <T> T get(Class<T> clazz) {
 		if (managedObjects.containsKey(clazz)) {
@@ -42,7 +42,7 @@ public class DefaultProjectContributorState implements IProjectContributorState
 		return null;
 	}
 
-	public boolean hold(Object obj) {
+	public synchronized boolean hold(Object obj) {
 		if (managedObjects.containsKey(obj.getClass())) {
 			return false;
 		}
@@ -72,7 +72,7 @@ public class DefaultProjectContributorState implements IProjectContributorState
 		return null;
 	}
 
-	public boolean hold(Object obj, Dictionary<String, String> attibutes) {
+	public synchronized boolean hold(Object obj, Dictionary<String, String> attibutes) {
 		if (managedObjectsWithFilters.containsKey(attibutes)) {
 			return false;
 		}
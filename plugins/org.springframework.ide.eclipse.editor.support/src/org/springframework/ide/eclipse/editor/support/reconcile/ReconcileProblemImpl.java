@@ -15,7 +15,7 @@ package org.springframework.ide.eclipse.editor.support.reconcile;
  *
  * @author Kris De Volder
  */
-public class ReconcileProblemImpl implements ReconcileProblem {
+public class ReconcileProblemImpl implements RelocatableProblem {
 
 	final private ProblemType type;
 	final private String msg;
@@ -50,4 +50,9 @@ public class ReconcileProblemImpl implements ReconcileProblem {
 		return len;
 	}
 
+	@Override
+	public RelocatableProblem relocate(int delta) {
+		return new ReconcileProblemImpl(type, msg, offset+delta, len);
+	}
+
 }
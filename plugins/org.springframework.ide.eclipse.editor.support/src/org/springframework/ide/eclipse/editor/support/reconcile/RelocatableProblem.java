@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright (c) 2016 Pivotal, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     Pivotal, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.springframework.ide.eclipse.editor.support.reconcile;
+
+/**
+ * A {@link ReconcileProblem} that can be copied to another position in the document.
+ * This allows an incremental reconciler to reuse the problems it found in a piece of
+ * text that has moved, but otherwise didn't change, since the last time it was checked.
+ */
+public interface RelocatableProblem extends ReconcileProblem {
+
+	/**
+	 * @return A copy of this problem, identical except that its offset is moved by delta.
+	 */
+	RelocatableProblem relocate(int delta);
+
+}
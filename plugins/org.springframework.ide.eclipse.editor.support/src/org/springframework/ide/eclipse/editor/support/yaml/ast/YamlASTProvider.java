@@ -78,10 +78,17 @@ public class YamlASTProvider {
 				cachedFor.removeDocumentListener(listener);
 			}
 			doc.addDocumentListener(listener);
-			cached = new YamlFileAST(yaml.composeAll(new StringReader(doc.get())));
+			cached = parse(doc.get());
 			cachedFor = doc;
 		}
 		return cached;
 	}
 
+	/**
+	 * Parse a piece of yml text. Unlike {@link #getAST(IDocument)} the result is not cached.
+	 */
+	public synchronized YamlFileAST parse(String text) {
+		return new YamlFileAST(yaml.composeAll(new StringReader(text)));
+	}
+
 }
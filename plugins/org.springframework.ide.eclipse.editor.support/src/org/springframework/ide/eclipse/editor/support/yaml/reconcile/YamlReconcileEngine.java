@@ -10,15 +10,38 @@
  *******************************************************************************/
 package org.springframework.ide.eclipse.editor.support.yaml.reconcile;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
 import org.springframework.ide.eclipse.editor.support.EditorSupportActivator;
 import org.springframework.ide.eclipse.editor.support.reconcile.IProblemCollector;
 import org.springframework.ide.eclipse.editor.support.reconcile.IReconcileEngine;
 import org.springframework.ide.eclipse.editor.support.reconcile.ReconcileProblem;
+import org.springframework.ide.eclipse.editor.support.reconcile.RelocatableProblem;
+import org.springframework.ide.eclipse.editor.support.yaml.YamlDocument;
+import org.springframework.ide.eclipse.editor.support.yaml.ast.NodeUtil;
 import org.springframework.ide.eclipse.editor.support.yaml.ast.YamlASTProvider;
 import org.springframework.ide.eclipse.editor.support.yaml.ast.YamlFileAST;
+import org.springframework.ide.eclipse.editor.support.yaml.structure.YamlStructureParser.SChildBearingNode;
+import org.springframework.ide.eclipse.editor.support.yaml.structure.YamlStructureParser.SNode;
+import org.springframework.ide.eclipse.editor.support.yaml.structure.YamlStructureParser.SNodeType;
+import org.springframework.ide.eclipse.editor.support.yaml.structure.YamlStructureParser.SRootNode;
+import org.springframework.ide.eclipse.editor.support.yaml.structure.YamlStructureProvider;
 import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
 import org.yaml.snakeyaml.parser.ParserException;
 import org.yaml.snakeyaml.scanner.ScannerException;
 
@@ -29,6 +52,14 @@ public abstract class YamlReconcileEngine implements IReconcileEngine {
 
 	protected final YamlASTProvider parser;
 
+	/**
+	 * Results of the previous incremental reconcile, keyed by the text of the top-level
+	 * entry they were found in. Only valid for {@link #previousDoc} and {@link #previousContext}.
+	 */
+	private Map<String, TopLevelEntry> previousEntries = Collections.emptyMap();
+	private IDocument previousDoc;
+	private Object previousContext;
+
 	public YamlReconcileEngine(YamlASTProvider parser) {
 		this.parser = parser;
 	}
@@ -37,10 +68,12 @@ public abstract class YamlReconcileEngine implements IReconcileEngine {
 	public void reconcile(IDocument doc, IProblemCollector problemCollector, IProgressMonitor mon) {
 		problemCollector.beginCollecting();
 		try {
-			YamlFileAST ast = parser.getAST(doc);
-			YamlASTReconciler reconciler = getASTReconciler(doc, problemCollector);
-			if (reconciler!=null) {
-				reconciler.reconcile(ast, mon);
+			if (!reconcileIncrementally(doc, problemCollector)) {
+				YamlFileAST ast = parser.getAST(doc);
+				YamlASTReconciler reconciler = getASTReconciler(doc, problemCollector);
+				if (reconciler!=null) {
+					reconciler.reconcile(ast, mon);
+				}
 			}
 		} catch (ParserException e) {
 			String msg = e.getProblem();
@@ -57,6 +90,188 @@ public abstract class YamlReconcileEngine implements IReconcileEngine {
 		}
 	}
 
+	/**
+	 * Reconciles each top-level entry of the document separately, only parsing and checking the
+	 * entries whose text changed since the previous reconcile. Problems of the other entries are
+	 * reused, moved along with their entry.
+	 * <p>
+	 * Documents where this doesn't give the same result as checking the whole document at once
+	 * (e.g. syntax errors, duplicate top-level keys or aliases to an anchor in another entry)
+	 * are left to the caller.
+	 *
+	 * @return Whether the document was reconciled. If not, nothing was passed to the problemCollector.
+	 */
+	private synchronized boolean reconcileIncrementally(IDocument doc, IProblemCollector problemCollector) {
+		Object context = getIncrementalContext(doc);
+		if (doc!=previousDoc || context==null || context!=previousContext) {
+			previousEntries = Collections.emptyMap();
+			previousDoc = doc;
+			previousContext = context;
+		}
+		if (context==null) {
+			return false;
+		}
+		Map<String, TopLevelEntry> entries = new HashMap<String, TopLevelEntry>();
+		try {
+			List<List<IRegion>> documents = getTopLevelEntries(doc);
+			if (documents==null) {
+				return false;
+			}
+			List<ReconcileProblem> problems = new ArrayList<ReconcileProblem>();
+			for (List<IRegion> document : documents) {
+				Set<String> keys = new HashSet<String>();
+				for (IRegion region : document) {
+					String text = doc.get(region.getOffset(), region.getLength());
+					TopLevelEntry entry = previousEntries.get(text);
+					if (entry==null) {
+						entry = entries.get(text);
+					}
+					if (entry==null) {
+						entry = reconcileEntry(doc, text);
+						if (entry==null) {
+							return false;
+						}
+					}
+					entries.put(text, entry);
+					for (String key : entry.keys) {
+						if (!keys.add(key)) {
+							return false;
+						}
+					}
+					for (RelocatableProblem problem : entry.problems) {
+						problems.add(problem.relocate(region.getOffset()));
+					}
+				}
+			}
+			for (ReconcileProblem problem : problems) {
+				problemCollector.accept(problem);
+			}
+			return true;
+		} catch (Exception e) {
+			//Typically a syntax error. Reported when the whole document is parsed.
+			return false;
+		} finally {
+			if (!entries.isEmpty()) {
+				previousEntries = entries;
+			}
+		}
+	}
+
+	/**
+	 * Parse and check the text of a single top-level entry on its own.
+	 *
+	 * @return The entry, with the offsets of its problems relative to the start of its text, or null
+	 *         if it can't be checked on its own.
+	 */
+	private TopLevelEntry reconcileEntry(IDocument doc, String text) {
+		YamlFileAST ast = parser.parse(text);
+		List<Node> nodes = ast.getNodes();
+		if (nodes.size()!=1 || nodes.get(0).getNodeId()!=NodeId.mapping) {
+			return null;
+		}
+		TopLevelEntry entry = new TopLevelEntry();
+		for (NodeTuple tuple : ((MappingNode)nodes.get(0)).getValue()) {
+			String key = NodeUtil.asScalar(tuple.getKeyNode());
+			if (key!=null) {
+				entry.keys.add(key);
+			}
+		}
+		YamlASTReconciler reconciler = getASTReconciler(doc, entry);
+		if (reconciler==null) {
+			return null;
+		}
+		reconciler.reconcile(ast, new NullProgressMonitor());
+		return entry.relocatable ? entry : null;
+	}
+
+	/**
+	 * Uses the indentation structure of the document to find the regions of the top-level entries
+	 * of each yaml document it contains. Comments and empty lines between entries are included
+	 * in the region of the preceding entry.
+	 *
+	 * @return The regions grouped per yaml document, or null if there is anything other than
+	 *         simple keys, comments and document separators at the top-level.
+	 */
+	private static List<List<IRegion>> getTopLevelEntries(IDocument doc) throws Exception {
+		SRootNode root = YamlStructureProvider.DEFAULT.getStructure(new YamlDocument(doc, YamlStructureProvider.DEFAULT));
+		List<SNode> docNodes = root.getChildren();
+		List<List<IRegion>> documents = new ArrayList<List<IRegion>>(docNodes.size());
+		for (int i = 0; i < docNodes.size(); i++) {
+			SNode docNode = docNodes.get(i);
+			if (docNode.getNodeEnd()>docNode.getStart() && doc.getChar(docNode.getStart())=='.') {
+				//'...' ends a document rather than starting a new one.
+				return null;
+			}
+			int docEnd = i+1<docNodes.size() ? docNodes.get(i+1).getStart() : doc.getLength();
+			List<IRegion> entries = new ArrayList<IRegion>();
+			int start = -1;
+			for (SNode child : ((SChildBearingNode)docNode).getChildren()) {
+				if (child.getNodeType()==SNodeType.KEY && child.getIndent()==0) {
+					if (start>=0) {
+						entries.add(new Region(start, child.getStart()-start));
+					}
+					start = child.getStart();
+				} else if (!isCommentOrEmpty(child)) {
+					return null;
+				}
+			}
+			if (start>=0) {
+				entries.add(new Region(start, docEnd-start));
+			} else if (i>0) {
+				//An empty document after a '---' still has a (null) node, which may be a problem.
+				return null;
+			}
+			documents.add(entries);
+		}
+		return documents;
+	}
+
+	private static boolean isCommentOrEmpty(SNode node) throws Exception {
+		if (node.getNodeType()==SNodeType.RAW && node.getIndent()==-1) {
+			String text = node.getText().trim();
+			return text.isEmpty() || text.startsWith("#");
+		}
+		return false;
+	}
+
+	/**
+	 * Returns an object representing everything besides the text of the document that the problems
+	 * found by the {@link YamlASTReconciler} depend on. Subclasses can return non-null to
+	 * enable incremental reconciling: the results for unchanged top-level entries are reused
+	 * for as long as this returns the same object.
+	 * <p>
+	 * This is only correct for reconcilers which check the top-level entries of a document
+	 * independently of one another, apart from reporting duplicate keys.
+	 */
+	protected Object getIncrementalContext(IDocument doc) {
+		return null;
+	}
+
 	protected abstract ReconcileProblem syntaxError(String msg, int offset, int length);
 	protected abstract YamlASTReconciler getASTReconciler(IDocument doc, IProblemCollector problemCollector);
+
+	/**
+	 * The keys and problems of a top-level entry. Also serves as the problem collector
+	 * when the entry is checked.
+	 */
+	private static class TopLevelEntry implements IProblemCollector {
+
+		final List<String> keys = new ArrayList<String>(1);
+		final List<RelocatableProblem> problems = new ArrayList<RelocatableProblem>();
+		boolean relocatable = true;
+
+		public void beginCollecting() {
+		}
+
+		public void endCollecting() {
+		}
+
+		public void accept(ReconcileProblem problem) {
+			if (problem instanceof RelocatableProblem) {
+				problems.add((RelocatableProblem) problem);
+			} else {
+				relocatable = false;
+			}
+		}
+	}
 }
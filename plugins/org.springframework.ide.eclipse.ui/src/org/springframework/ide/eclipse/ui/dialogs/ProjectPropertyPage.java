@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Spring IDE Developers
+ * Copyright (c) 2007, 2016 Spring IDE Developers
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,10 +16,12 @@ import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Spinner;
 import org.eclipse.swt.widgets.TabFolder;
 import org.eclipse.swt.widgets.TabItem;
 import org.eclipse.ui.dialogs.PropertyPage;
@@ -51,6 +53,10 @@ public class ProjectPropertyPage extends ProjectAndPreferencePage {
 
 	private Button useNonLockingClassLoader;
 
+	private Spinner projectContributionThreads;
+
+	private Button reportValidationRuleStatistics;
+
 	public ProjectPropertyPage() {
 		noDefaultAndApplyButton();
 	}
@@ -95,6 +101,29 @@ public class ProjectPropertyPage extends ProjectAndPreferencePage {
 			note = new Label(composite, SWT.WRAP);
 			note.setText(SpringUIMessages.ProjectBuilderPropertyPage_NonLockingClassLoaderNote);
 			note.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+
+			Composite threadsComposite = new Composite(composite, SWT.NONE);
+			GridLayout threadsLayout = new GridLayout(2, false);
+			threadsLayout.marginWidth = 0;
+			threadsComposite.setLayout(threadsLayout);
+			Label threadsLabel = new Label(threadsComposite, SWT.NONE);
+			threadsLabel.setText(SpringUIMessages.ProjectBuilderPropertyPage_ProjectContributionThreadsMessage);
+			projectContributionThreads = new Spinner(threadsComposite, SWT.BORDER);
+			projectContributionThreads.setValues(prefs.getInt(SpringCore.PROJECT_CONTRIBUTION_THREADS, 1), 1, 64, 0, 1, 4);
+
+			note = new Label(composite, SWT.WRAP);
+			note.setText(SpringUIMessages.ProjectBuilderPropertyPage_ProjectContributionThreadsNote);
+			note.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+
+			reportValidationRuleStatistics = new Button(composite, SWT.CHECK);
+			reportValidationRuleStatistics
+					.setText(SpringUIMessages.ProjectBuilderPropertyPage_ValidationRuleStatisticsMessage);
+			reportValidationRuleStatistics.setSelection(prefs.getBoolean(
+					SpringCore.REPORT_VALIDATION_RULE_STATISTICS, false));
+
+			note = new Label(composite, SWT.WRAP);
+			note.setText(SpringUIMessages.ProjectBuilderPropertyPage_ValidationRuleStatisticsNote);
+			note.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
 		}
 
 		Dialog.applyDialogFont(folder);
@@ -130,6 +159,8 @@ public class ProjectPropertyPage extends ProjectAndPreferencePage {
 		} else {
 			prefs.putBoolean(SpringCore.USE_CHANGE_DETECTION_IN_JAVA_FILES, useChangeDetectionForJavaFiles.getSelection());
 			prefs.putBoolean(SpringCore.USE_NON_LOCKING_CLASSLOADER, useNonLockingClassLoader.getSelection());
+			prefs.putInt(SpringCore.PROJECT_CONTRIBUTION_THREADS, projectContributionThreads.getSelection());
+			prefs.putBoolean(SpringCore.REPORT_VALIDATION_RULE_STATISTICS, reportValidationRuleStatistics.getSelection());
 		}
 
 		this.builderTab.performOk();
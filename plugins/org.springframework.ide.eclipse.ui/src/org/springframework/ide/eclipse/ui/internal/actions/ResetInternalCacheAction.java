@@ -24,6 +24,7 @@ import org.eclipse.ui.IObjectActionDelegate;
 import org.eclipse.ui.IWorkbenchPart;
 import org.springframework.ide.eclipse.core.SpringCore;
 import org.springframework.ide.eclipse.core.java.JdtUtils;
+import org.springframework.ide.eclipse.core.java.SuperTypeHierarchyCache;
 
 /**
  * This action implementation will reset the internal classloader cache
@@ -81,6 +82,7 @@ public class ResetInternalCacheAction implements IObjectActionDelegate {
 		while (iter.hasNext()) {
 			IProject project = (IProject) iter.next();
 			JdtUtils.removeClassLoaderEntryFromCache(project);
+			SuperTypeHierarchyCache.removeTypeHierarchies(project);
 			try {
 				project.touch(null);
 			} catch (CoreException e) {